@@ -0,0 +1,110 @@
+package gbb.benchmarks;
+
+import gbb.ArrayLockingType;
+import gbb.Configuration;
+import gbb.Job;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the registered arrays of a {@link Job} under contention,
+ * for every lock granularity. The short array makes the threads collide
+ * on the same positions, the long one mostly on the same lock stripes.
+ * The mixed group runs three readers against one writer. The memory
+ * taken by every granularity is the <code>gc.alloc.rate.norm</code> of
+ * {@link #registerArray()} when run with <code>-prof gc</code>, i.e. the
+ * bytes allocated for registering the array, including its copy.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArrayAccessBenchmark {
+    private static final String ARRAY = "counters";
+
+    @Param({"PER_ELEMENT", "STRIPED", "SINGLE"})
+    private ArrayLockingType arrayLockingType;
+
+    @Param({"16", "1048576"})
+    private int length;
+
+    private Object[] counters;
+    private Configuration configuration;
+    private Job job;
+
+    @Setup
+    public void setUp() {
+        counters = new Object[length];
+        Arrays.fill(counters, 0);
+
+        configuration = new Configuration.Builder()
+                .withArrayLocking(arrayLockingType)
+                .build();
+        job = new Job(configuration);
+        job.registerArray(ARRAY, counters);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public Job registerArray() {
+        Job registered = new Job(configuration);
+        registered.registerArray(ARRAY, counters);
+        return registered;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object queryArray() {
+        return job.queryArray(ARRAY, nextPosition());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void updateArray() {
+        job.updateArray(ARRAY, 1, nextPosition());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void applyOnArray() {
+        job.applyOnArray(ARRAY, value -> (int) value + 1, nextPosition());
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public Object mixedQueryArray() {
+        return job.queryArray(ARRAY, nextPosition());
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public void mixedApplyOnArray() {
+        job.applyOnArray(ARRAY, value -> (int) value + 1, nextPosition());
+    }
+
+    private int nextPosition() {
+        return ThreadLocalRandom.current().nextInt(length);
+    }
+}
@@ -0,0 +1,194 @@
+package gbb.benchmarks;
+
+import gbb.BoundedState;
+import gbb.Configuration;
+import gbb.Job;
+import gbb.Task;
+import gbb.exploring.SearchStrategyType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Job-shop scheduling on random square instances, minimizing the
+ * makespan. Only active schedules are enumerated, branching as in
+ * the Giffler-Thompson algorithm on the machine of the operation
+ * which can complete first. The bound of a partial schedule is the
+ * largest of the remaining work of every job and of every machine.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JobShopBenchmark {
+
+    @Param({"DEPTH_FIRST_SEARCH", "BEST_FIRST_SEARCH", "RELAXED_BEST_FIRST_SEARCH"})
+    private SearchStrategyType searchStrategyType;
+
+    @Param({"1", "4"})
+    private int numberOfExecutors;
+
+    /**
+     * Number of jobs, and of machines.
+     */
+    @Param({"5", "6"})
+    private int size;
+
+    private int[][] machines;
+    private int[][] durations;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        machines = new int[size][size];
+        durations = new int[size][size];
+
+        for (int job = 0; job < size; job++) {
+            for (int operation = 0; operation < size; operation++) {
+                machines[job][operation] = operation;
+                durations[job][operation] = 1 + random.nextInt(20);
+            }
+            for (int operation = size - 1; operation > 0; operation--) {
+                int other = random.nextInt(operation + 1);
+                int machine = machines[job][operation];
+                machines[job][operation] = machines[job][other];
+                machines[job][other] = machine;
+            }
+        }
+    }
+
+    @Benchmark
+    public double solve() {
+        ScheduleState initialState = new ScheduleState(new int[size], new int[size], new int[size], 0);
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withSearchStrategy(searchStrategyType)
+                        .withNumberOfExecutors(numberOfExecutors)
+                        .build())
+                .withInitialState(bound(initialState))
+                .withTaskFactory(JobShopTask::new)
+                .build();
+
+        job.start();
+        return job.getBestValue();
+    }
+
+    private ScheduleState bound(ScheduleState state) {
+        int[] machineWork = new int[size];
+        int bound = state.makespan;
+
+        for (int job = 0; job < size; job++) {
+            int jobWork = 0;
+            for (int operation = state.nextOperations[job]; operation < size; operation++) {
+                jobWork += durations[job][operation];
+                machineWork[machines[job][operation]] += durations[job][operation];
+            }
+            bound = Math.max(bound, state.jobsReady[job] + jobWork);
+        }
+        for (int machine = 0; machine < size; machine++) {
+            bound = Math.max(bound, state.machinesReady[machine] + machineWork[machine]);
+        }
+
+        state.bound = bound;
+        return state;
+    }
+
+    /**
+     * For every job the index of its next operation and the time it is
+     * ready for it, and for every machine the time it becomes free.
+     */
+    private static final class ScheduleState implements BoundedState {
+        private final int[] nextOperations;
+        private final int[] jobsReady;
+        private final int[] machinesReady;
+        private final int makespan;
+        private double bound;
+
+        private ScheduleState(int[] nextOperations, int[] jobsReady, int[] machinesReady, int makespan) {
+            this.nextOperations = nextOperations;
+            this.jobsReady = jobsReady;
+            this.machinesReady = machinesReady;
+            this.makespan = makespan;
+        }
+
+        @Override
+        public double getBound() {
+            return bound;
+        }
+    }
+
+    private final class JobShopTask extends Task<ScheduleState> {
+
+        @Override
+        public Collection<ScheduleState> compute(ScheduleState state) {
+            List<ScheduleState> nextStates = new ArrayList<>();
+
+            int earliestCompletion = Integer.MAX_VALUE;
+            int criticalMachine = -1;
+            for (int job = 0; job < size; job++) {
+                int operation = state.nextOperations[job];
+                if (operation < size) {
+                    int completion = start(state, job) + durations[job][operation];
+                    if (completion < earliestCompletion) {
+                        earliestCompletion = completion;
+                        criticalMachine = machines[job][operation];
+                    }
+                }
+            }
+
+            if (criticalMachine < 0) {
+                getJob().offerSolution(state, state.makespan);
+                return nextStates;
+            }
+
+            for (int job = 0; job < size; job++) {
+                int operation = state.nextOperations[job];
+                if (operation < size && machines[job][operation] == criticalMachine
+                        && start(state, job) < earliestCompletion) {
+                    nextStates.add(schedule(state, job));
+                }
+            }
+
+            return nextStates;
+        }
+
+        private int start(ScheduleState state, int job) {
+            int machine = machines[job][state.nextOperations[job]];
+            return Math.max(state.jobsReady[job], state.machinesReady[machine]);
+        }
+
+        private ScheduleState schedule(ScheduleState state, int job) {
+            int operation = state.nextOperations[job];
+            int machine = machines[job][operation];
+            int completion = start(state, job) + durations[job][operation];
+
+            int[] nextOperations = state.nextOperations.clone();
+            int[] jobsReady = state.jobsReady.clone();
+            int[] machinesReady = state.machinesReady.clone();
+            nextOperations[job]++;
+            jobsReady[job] = completion;
+            machinesReady[machine] = completion;
+
+            return bound(new ScheduleState(nextOperations, jobsReady, machinesReady,
+                    Math.max(state.makespan, completion)));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package gbb.benchmarks;
+
+import gbb.BoundedState;
+import gbb.Configuration;
+import gbb.Job;
+import gbb.Task;
+import gbb.exploring.SearchStrategyType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 0/1 knapsack on strongly correlated instances, where every value
+ * is the weight plus a constant, which are the hardest to prune.
+ * The bound of a state is its fractional (Dantzig) relaxation.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KnapsackBenchmark {
+
+    @Param({"DEPTH_FIRST_SEARCH", "BEST_FIRST_SEARCH", "RELAXED_BEST_FIRST_SEARCH"})
+    private SearchStrategyType searchStrategyType;
+
+    @Param({"1", "4"})
+    private int numberOfExecutors;
+
+    @Param({"40", "60"})
+    private int numberOfItems;
+
+    private int[] weights;
+    private int[] values;
+    private int capacity;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Integer[] items = new Integer[numberOfItems];
+        int[] itemWeights = new int[numberOfItems];
+        long totalWeight = 0;
+
+        for (int i = 0; i < numberOfItems; i++) {
+            items[i] = i;
+            itemWeights[i] = 1 + random.nextInt(100);
+            totalWeight += itemWeights[i];
+        }
+
+        // most valuable per unit of weight first, as required by the relaxation
+        Arrays.sort(items, Comparator.comparingDouble(item -> -(itemWeights[item] + 10.0) / itemWeights[item]));
+        weights = new int[numberOfItems];
+        values = new int[numberOfItems];
+        for (int i = 0; i < numberOfItems; i++) {
+            weights[i] = itemWeights[items[i]];
+            values[i] = weights[i] + 10;
+        }
+        capacity = (int) (totalWeight / 2);
+    }
+
+    @Benchmark
+    public double solve() {
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withSearchStrategy(searchStrategyType)
+                        .withNumberOfExecutors(numberOfExecutors)
+                        .build())
+                .withInitialState(new KnapsackState(0, 0, 0, -bound(0, 0, 0)))
+                .withTaskFactory(KnapsackTask::new)
+                .build();
+
+        job.start();
+        return job.getBestValue();
+    }
+
+    /**
+     * Returns the value of the greedy fractional filling of
+     * the remaining capacity with the items from the given level.
+     */
+    private double bound(int level, int weight, int value) {
+        double bound = value;
+        int remaining = capacity - weight;
+
+        for (int i = level; i < numberOfItems && remaining > 0; i++) {
+            if (weights[i] <= remaining) {
+                remaining -= weights[i];
+                bound += values[i];
+            } else {
+                bound += (double) values[i] * remaining / weights[i];
+                remaining = 0;
+            }
+        }
+
+        return bound;
+    }
+
+    private static final class KnapsackState implements BoundedState {
+        private final int level;
+        private final int weight;
+        private final int value;
+        private final double bound;
+
+        private KnapsackState(int level, int weight, int value, double bound) {
+            this.level = level;
+            this.weight = weight;
+            this.value = value;
+            this.bound = bound;
+        }
+
+        @Override
+        public double getBound() {
+            return bound;
+        }
+    }
+
+    private final class KnapsackTask extends Task<KnapsackState> {
+
+        @Override
+        public Collection<KnapsackState> compute(KnapsackState state) {
+            // values are negated, as the library minimizes
+            getJob().offerSolution(state, -state.value);
+
+            List<KnapsackState> nextStates = new ArrayList<>(2);
+            int level = state.level;
+            if (level == numberOfItems) {
+                return nextStates;
+            }
+
+            // the depth-first strategy explores the last child first, i.e. the greedy choice
+            nextStates.add(new KnapsackState(level + 1, state.weight, state.value,
+                    -bound(level + 1, state.weight, state.value)));
+            int weight = state.weight + weights[level];
+            if (weight <= capacity) {
+                int value = state.value + values[level];
+                nextStates.add(new KnapsackState(level + 1, weight, value, -bound(level + 1, weight, value)));
+            }
+
+            return nextStates;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package gbb.benchmarks;
+
+import gbb.BoundedState;
+import gbb.Configuration;
+import gbb.Job;
+import gbb.Task;
+import gbb.exploring.SearchStrategyType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the placements of N non-attacking queens. No state is ever
+ * pruned, so the benchmark measures the overhead of the engine
+ * and of the strategy per expanded state.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NQueensBenchmark {
+
+    @Param({"DEPTH_FIRST_SEARCH", "BREADTH_FIRST_SEARCH", "BEST_FIRST_SEARCH", "RELAXED_BEST_FIRST_SEARCH"})
+    private SearchStrategyType searchStrategyType;
+
+    @Param({"1", "4"})
+    private int numberOfExecutors;
+
+    @Param({"9", "11"})
+    private int size;
+
+    @Benchmark
+    public long solve() {
+        LongAdder solutions = new LongAdder();
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withSearchStrategy(searchStrategyType)
+                        .withNumberOfExecutors(numberOfExecutors)
+                        .build())
+                .withInitialState(new QueensState(0, 0, 0, 0))
+                .withTaskFactory(() -> new QueensTask(size, solutions))
+                .build();
+
+        job.start();
+        return solutions.sum();
+    }
+
+    /**
+     * Rows filled so far, with the columns and the
+     * diagonals attacked by their queens as bit masks.
+     */
+    private static final class QueensState implements BoundedState {
+        private final int row;
+        private final int columns;
+        private final int diagonals;
+        private final int antiDiagonals;
+
+        private QueensState(int row, int columns, int diagonals, int antiDiagonals) {
+            this.row = row;
+            this.columns = columns;
+            this.diagonals = diagonals;
+            this.antiDiagonals = antiDiagonals;
+        }
+
+        /**
+         * Deeper states first, so the best-first strategies dive.
+         */
+        @Override
+        public double getBound() {
+            return -row;
+        }
+    }
+
+    private static final class QueensTask extends Task<QueensState> {
+        private final int size;
+        private final LongAdder solutions;
+
+        private QueensTask(int size, LongAdder solutions) {
+            this.size = size;
+            this.solutions = solutions;
+        }
+
+        @Override
+        public Collection<QueensState> compute(QueensState state) {
+            List<QueensState> nextStates = new ArrayList<>();
+            if (state.row == size) {
+                solutions.increment();
+                return nextStates;
+            }
+
+            int free = ~(state.columns | state.diagonals | state.antiDiagonals) & ((1 << size) - 1);
+            while (free != 0) {
+                int column = free & -free;
+                free ^= column;
+                nextStates.add(new QueensState(state.row + 1, state.columns | column,
+                        (state.diagonals | column) << 1, (state.antiDiagonals | column) >>> 1));
+            }
+
+            return nextStates;
+        }
+    }
+}
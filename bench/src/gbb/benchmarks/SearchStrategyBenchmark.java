@@ -0,0 +1,78 @@
+package gbb.benchmarks;
+
+import gbb.BoundedState;
+import gbb.exploring.BestFirstStrategy;
+import gbb.exploring.RelaxedBestFirstStrategy;
+import gbb.exploring.SearchStrategy;
+import gbb.exploring.SearchStrategyType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the exact and of the relaxed best-first strategy under
+ * contention: every operation inserts a state with a random bound and
+ * polls the next one, over a frontier which keeps its initial size.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SearchStrategyBenchmark {
+    private static final int NUMBER_OF_THREADS = 16;
+
+    @Param({"BEST_FIRST_SEARCH", "RELAXED_BEST_FIRST_SEARCH"})
+    private SearchStrategyType searchStrategyType;
+
+    @Param({"20000"})
+    private int frontierSize;
+
+    private SearchStrategy<BoundState> states;
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        states = searchStrategyType == SearchStrategyType.BEST_FIRST_SEARCH
+                ? new BestFirstStrategy<>()
+                : new RelaxedBestFirstStrategy<>(2 * NUMBER_OF_THREADS);
+
+        for (int i = 0; i < frontierSize; i++) {
+            states.put(new BoundState(ThreadLocalRandom.current().nextDouble()));
+        }
+    }
+
+    @Benchmark
+    @Threads(NUMBER_OF_THREADS)
+    public BoundState putAndPoll() throws InterruptedException {
+        states.put(new BoundState(ThreadLocalRandom.current().nextDouble()));
+        return states.poll();
+    }
+
+    public static final class BoundState implements BoundedState {
+        private final double bound;
+
+        private BoundState(double bound) {
+            this.bound = bound;
+        }
+
+        @Override
+        public double getBound() {
+            return bound;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package gbb.benchmarks;
+
+import gbb.BoundedState;
+import gbb.Configuration;
+import gbb.Job;
+import gbb.Task;
+import gbb.exploring.SearchStrategyType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Travelling salesman on random Euclidean cities, starting from city 0.
+ * The bound of a partial tour adds to its length the cheapest way of
+ * leaving the current city and every city not visited yet.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TspBenchmark {
+
+    @Param({"DEPTH_FIRST_SEARCH", "BEST_FIRST_SEARCH", "RELAXED_BEST_FIRST_SEARCH"})
+    private SearchStrategyType searchStrategyType;
+
+    @Param({"1", "4"})
+    private int numberOfExecutors;
+
+    @Param({"10", "13"})
+    private int numberOfCities;
+
+    private int[][] distances;
+    private int[] cheapestExits;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        int[] x = new int[numberOfCities];
+        int[] y = new int[numberOfCities];
+        for (int i = 0; i < numberOfCities; i++) {
+            x[i] = random.nextInt(1000);
+            y[i] = random.nextInt(1000);
+        }
+
+        distances = new int[numberOfCities][numberOfCities];
+        cheapestExits = new int[numberOfCities];
+        for (int i = 0; i < numberOfCities; i++) {
+            cheapestExits[i] = Integer.MAX_VALUE;
+            for (int j = 0; j < numberOfCities; j++) {
+                distances[i][j] = (int) Math.round(Math.hypot(x[i] - x[j], y[i] - y[j]));
+                if (i != j) {
+                    cheapestExits[i] = Math.min(cheapestExits[i], distances[i][j]);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public double solve() {
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withSearchStrategy(searchStrategyType)
+                        .withNumberOfExecutors(numberOfExecutors)
+                        .build())
+                .withInitialState(new TourState(0, 1, 1, 0, bound(0, 1, 0)))
+                .withTaskFactory(TspTask::new)
+                .build();
+
+        job.start();
+        return job.getBestValue();
+    }
+
+    private double bound(int city, int visited, int length) {
+        int bound = length + cheapestExits[city];
+        for (int i = 0; i < numberOfCities; i++) {
+            if ((visited & (1 << i)) == 0) {
+                bound += cheapestExits[i];
+            }
+        }
+        return bound;
+    }
+
+    private static final class TourState implements BoundedState {
+        private final int city;
+        private final int visited;
+        private final int numberOfVisited;
+        private final int length;
+        private final double bound;
+
+        private TourState(int city, int visited, int numberOfVisited, int length, double bound) {
+            this.city = city;
+            this.visited = visited;
+            this.numberOfVisited = numberOfVisited;
+            this.length = length;
+            this.bound = bound;
+        }
+
+        @Override
+        public double getBound() {
+            return bound;
+        }
+    }
+
+    private final class TspTask extends Task<TourState> {
+
+        @Override
+        public Collection<TourState> compute(TourState state) {
+            List<TourState> nextStates = new ArrayList<>();
+            if (state.numberOfVisited == numberOfCities) {
+                getJob().offerSolution(state, state.length + distances[state.city][0]);
+                return nextStates;
+            }
+
+            for (int next = 1; next < numberOfCities; next++) {
+                if ((state.visited & (1 << next)) == 0) {
+                    int visited = state.visited | (1 << next);
+                    int length = state.length + distances[state.city][next];
+                    nextStates.add(new TourState(next, visited, state.numberOfVisited + 1, length,
+                            bound(next, visited, length)));
+                }
+            }
+
+            return nextStates;
+        }
+    }
+}
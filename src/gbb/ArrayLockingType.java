@@ -0,0 +1,28 @@
+package gbb;
+
+/**
+ * Enum for storing the available lock granularities
+ * guarding the updates of the registered arrays.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public enum ArrayLockingType {
+    /**
+     * One lock for every element of the array. Updates of
+     * different elements never contend, at the cost of one
+     * lock object per element.
+     */
+    PER_ELEMENT,
+
+    /**
+     * A fixed number of lock stripes, padded to a cache line
+     * each, with the element at a position guarded by the
+     * stripe at the position modulo the number of stripes.
+     */
+    STRIPED,
+
+    /**
+     * One lock for the whole array, suited for tiny arrays.
+     */
+    SINGLE;
+}
@@ -0,0 +1,69 @@
+package gbb;
+
+/**
+ * Locks guarding the elements of a registered array,
+ * laid out according to an {@link ArrayLockingType}.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+final class ArrayLocks {
+    private final Object[] locks;
+
+    private ArrayLocks(Object[] locks) {
+        this.locks = locks;
+    }
+
+    /**
+     * Creates the locks for an array.
+     *
+     * Striped locks never outnumber the elements, hence
+     * a single-element array always gets a single lock.
+     *
+     * @param type lock granularity
+     * @param stripes number of stripes for {@link ArrayLockingType#STRIPED}
+     * @param length length of the guarded array
+     * @return {@link ArrayLocks} instance
+     */
+    static ArrayLocks create(ArrayLockingType type, int stripes, int length) {
+        switch (type) {
+            case PER_ELEMENT:
+                Object[] locks = new Object[Math.max(length, 1)];
+                for (int i = 0; i < locks.length; i++) {
+                    locks[i] = new Object();
+                }
+                return new ArrayLocks(locks);
+            case STRIPED:
+                Object[] paddedLocks = new Object[Math.max(Math.min(stripes, length), 1)];
+                for (int i = 0; i < paddedLocks.length; i++) {
+                    paddedLocks[i] = new PaddedLock();
+                }
+                return new ArrayLocks(paddedLocks);
+            case SINGLE:
+                return new ArrayLocks(new Object[] {new Object()});
+            default:
+                throw new IllegalArgumentException(String.format("Unknown array locking type: %s.", type));
+        }
+    }
+
+    /**
+     * Returns the lock guarding the element at a position.
+     *
+     * @param position array position
+     * @return lock object
+     */
+    Object lockFor(int position) {
+        return locks[position % locks.length];
+    }
+
+    int getNumberOfLocks() {
+        return locks.length;
+    }
+
+    /**
+     * Lock whose fields fill a cache line, so the monitors
+     * of two stripes allocated together do not share one.
+     */
+    private static final class PaddedLock {
+        private long p1, p2, p3, p4, p5, p6, p7;
+    }
+}
@@ -0,0 +1,112 @@
+package gbb;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Sequence counters of a registered array, which let readers copy
+ * a range of positions as one consistent group without blocking
+ * the writers.
+ *
+ * The positions are split into stripes (position modulo the number
+ * of stripes), each with a pair of counters padded to a cache line:
+ * the number of writes started and the number of writes finished.
+ * A writer increments the first before storing and the second after.
+ * A reader copies the range only while the counters of the stripes
+ * it covers are equal, and retries if any write started meanwhile.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+final class ArrayVersions {
+    private static final int PADDING = 8;
+    private static final int SPINS_BEFORE_YIELD = 64;
+
+    private final AtomicLongArray counters;
+    private final int stripes;
+
+    private ArrayVersions(int stripes) {
+        this.stripes = stripes;
+        this.counters = new AtomicLongArray(stripes * PADDING);
+    }
+
+    /**
+     * Creates the sequence counters for an array. The
+     * stripes never outnumber the elements.
+     *
+     * @param stripes maximum number of stripes
+     * @param length length of the array
+     * @return {@link ArrayVersions} instance
+     */
+    static ArrayVersions create(int stripes, int length) {
+        return new ArrayVersions(Math.max(Math.min(stripes, length), 1));
+    }
+
+    /**
+     * Marks the start of a store at a position. Should be
+     * followed by {@link #endWrite(int)}, even if the store fails.
+     *
+     * @param position array position
+     */
+    void beginWrite(int position) {
+        counters.incrementAndGet(position % stripes * PADDING);
+    }
+
+    /**
+     * Marks the end of a store at a position.
+     *
+     * @param position array position
+     */
+    void endWrite(int position) {
+        counters.incrementAndGet(position % stripes * PADDING + 1);
+    }
+
+    /**
+     * Runs a reader of a range of positions until it runs without
+     * any store to the range being in progress or starting meanwhile.
+     *
+     * @param from first position of the range, inclusive
+     * @param to last position of the range, exclusive
+     * @param reader copying the range
+     * @return the result of the last run of the reader
+     */
+    <R> R read(int from, int to, Supplier<R> reader) {
+        int coveredStripes = Math.min(to - from, stripes);
+        long[] started = new long[coveredStripes];
+
+        for (int attempt = 1; ; attempt++) {
+            if (attempt % SPINS_BEFORE_YIELD == 0) {
+                Thread.yield();
+            }
+
+            if (!isQuiescent(from, started)) {
+                continue;
+            }
+
+            R result = reader.get();
+            if (isUnchanged(from, started)) {
+                return result;
+            }
+        }
+    }
+
+    private boolean isQuiescent(int from, long[] started) {
+        for (int i = 0; i < started.length; i++) {
+            int index = (from + i) % stripes * PADDING;
+            long finished = counters.get(index + 1);
+            started[i] = counters.get(index);
+            if (started[i] != finished) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isUnchanged(int from, long[] started) {
+        for (int i = 0; i < started.length; i++) {
+            if (counters.get((from + i) % stripes * PADDING) != started[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,33 @@
+package gbb;
+
+/**
+ * Candidate solution which exposes a bound on the value
+ * of the best solution reachable from it.
+ *
+ * The library treats every problem as a minimization one:
+ * the bound is a lower bound and states with smaller bounds
+ * are more promising. Maximization problems should negate
+ * their values.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public interface BoundedState extends State, Comparable<BoundedState> {
+
+    /**
+     * Returns the lower bound of the solutions
+     * reachable from the current state.
+     * @return bound value
+     */
+    double getBound();
+
+    /**
+     * Orders the states ascending by their bounds.
+     * @param other state to compare with
+     * @return negative, zero or positive value if the current bound is
+     *         smaller, equal or greater than the bound of the other state
+     */
+    @Override
+    default int compareTo(BoundedState other) {
+        return Double.compare(getBound(), other.getBound());
+    }
+}
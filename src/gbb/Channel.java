@@ -0,0 +1,233 @@
+package gbb;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Socket connection between the {@link Coordinator} and a
+ * {@link DistributedWorker}, carrying framed messages whose
+ * states are written through a {@link StateCodec}.
+ *
+ * Messages are sent by several threads, e.g. a worker donates
+ * states while its tasks offer solutions, so the sending methods
+ * are synchronized, while a single thread receives.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+final class Channel implements Closeable {
+    private static final int MAGIC = 0x67424244;
+    private static final int VERSION = 1;
+
+    /**
+     * Worker to coordinator: the worker is idle, with its total of expanded states.
+     */
+    static final byte REQUEST_WORK = 0;
+
+    /**
+     * Coordinator to worker: states to be explored.
+     */
+    static final byte WORK = 1;
+
+    /**
+     * Coordinator to worker: asks for at most the given number of states.
+     */
+    static final byte REQUEST_DONATION = 2;
+
+    /**
+     * Worker to coordinator: states given away, possibly none.
+     */
+    static final byte DONATION = 3;
+
+    /**
+     * Both ways: a better solution and its value.
+     */
+    static final byte SOLUTION = 4;
+
+    /**
+     * Coordinator to worker: every state has been explored.
+     */
+    static final byte TERMINATE = 5;
+
+    private final Socket socket;
+    private final DataInputStream input;
+    private final DataOutputStream output;
+    private final StateCodec<State> codec;
+
+    Channel(Socket socket, StateCodec<State> codec) throws IOException {
+        this.socket = socket;
+        this.socket.setTcpNoDelay(true);
+        this.input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        this.output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        this.codec = codec;
+    }
+
+    /**
+     * Sends the header identifying the protocol, from the worker.
+     *
+     * @throws IOException on writing failures
+     */
+    synchronized void sendHeader() throws IOException {
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.flush();
+    }
+
+    /**
+     * Checks the header sent by {@link #sendHeader()}, on the coordinator.
+     *
+     * @throws IOException on reading failures or on an unknown protocol
+     */
+    void receiveHeader() throws IOException {
+        if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+            throw new IOException("The peer does not speak a supported protocol.");
+        }
+    }
+
+    synchronized void sendRequestWork(long expandedStates) throws IOException {
+        output.writeByte(REQUEST_WORK);
+        output.writeLong(expandedStates);
+        output.flush();
+    }
+
+    synchronized void sendRequestDonation(int maximum) throws IOException {
+        output.writeByte(REQUEST_DONATION);
+        output.writeLong(maximum);
+        output.flush();
+    }
+
+    synchronized void sendWork(List<State> states) throws IOException {
+        sendStates(WORK, states);
+    }
+
+    synchronized void sendDonation(List<State> states) throws IOException {
+        sendStates(DONATION, states);
+    }
+
+    synchronized void sendSolution(State solution, double value) throws IOException {
+        output.writeByte(SOLUTION);
+        output.writeDouble(value);
+        output.writeBoolean(solution != null);
+        if (solution != null) {
+            codec.encode(solution, output);
+        }
+        output.flush();
+    }
+
+    synchronized void sendTerminate() throws IOException {
+        output.writeByte(TERMINATE);
+        output.flush();
+    }
+
+    /**
+     * Blocks until the next message arrives.
+     *
+     * @return {@link Message} received
+     * @throws IOException on reading failures, on an unknown message or if the peer closed the connection
+     */
+    Message receive() throws IOException {
+        byte type = input.readByte();
+
+        switch (type) {
+            case REQUEST_WORK:
+            case REQUEST_DONATION:
+                return new Message(type, input.readLong(), Collections.emptyList(), null, 0);
+            case WORK:
+            case DONATION:
+                int numberOfStates = input.readInt();
+                List<State> states = new ArrayList<>(numberOfStates);
+                for (int i = 0; i < numberOfStates; i++) {
+                    states.add(codec.decode(input));
+                }
+                return new Message(type, 0, states, null, 0);
+            case SOLUTION:
+                double value = input.readDouble();
+                State solution = input.readBoolean() ? codec.decode(input) : null;
+                return new Message(type, 0, Collections.emptyList(), solution, value);
+            case TERMINATE:
+                return new Message(type, 0, Collections.emptyList(), null, 0);
+            default:
+                throw new IOException(String.format("Unknown message type: %d.", type));
+        }
+    }
+
+    /**
+     * Ends the sent messages, while the ones of the
+     * peer can still be received until it closes.
+     *
+     * @throws IOException on closing failures
+     */
+    synchronized void shutdownOutput() throws IOException {
+        output.flush();
+        socket.shutdownOutput();
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+
+    private void sendStates(byte type, List<State> states) throws IOException {
+        output.writeByte(type);
+        output.writeInt(states.size());
+        for (State state : states) {
+            codec.encode(state, output);
+        }
+        output.flush();
+    }
+
+    /**
+     * Message received through a {@link Channel}.
+     */
+    static final class Message {
+        /**
+         * Stands for a {@link #TERMINATE} when the connection is lost.
+         */
+        static final Message CLOSED = new Message(TERMINATE, 0, Collections.emptyList(), null, 0);
+
+        private final byte type;
+        private final long count;
+        private final List<State> states;
+        private final State solution;
+        private final double value;
+
+        private Message(byte type, long count, List<State> states, State solution, double value) {
+            this.type = type;
+            this.count = count;
+            this.states = states;
+            this.solution = solution;
+            this.value = value;
+        }
+
+        byte getType() {
+            return type;
+        }
+
+        /**
+         * @return expanded states of a {@link #REQUEST_WORK}, or
+         *         maximum number of states of a {@link #REQUEST_DONATION}
+         */
+        long getCount() {
+            return count;
+        }
+
+        List<State> getStates() {
+            return states;
+        }
+
+        State getSolution() {
+            return solution;
+        }
+
+        double getValue() {
+            return value;
+        }
+    }
+}
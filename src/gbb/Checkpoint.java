@@ -0,0 +1,318 @@
+package gbb;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Consistent copy of the progress of a {@link Job}: the states
+ * which are still to be explored, the registered arrays and maps and the
+ * incumbent, stored in a compact binary file.
+ *
+ * The states are written through a {@link StateCodec}. Primitive
+ * arrays are written as they are, while the values of object arrays
+ * are written with a type tag for null, boxed primitives, strings
+ * and states, and through Java serialization for any other
+ * {@link Serializable} value.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+final class Checkpoint {
+    private static final int MAGIC = 0x67424243;
+    private static final int VERSION = 3;
+
+    private static final byte OBJECT_ARRAY = 0;
+    private static final byte INT_ARRAY = 1;
+    private static final byte LONG_ARRAY = 2;
+    private static final byte DOUBLE_ARRAY = 3;
+    private static final byte LONG_MAP = 4;
+
+    private static final byte NULL = 0;
+    private static final byte INTEGER = 1;
+    private static final byte LONG = 2;
+    private static final byte DOUBLE = 3;
+    private static final byte BOOLEAN = 4;
+    private static final byte STRING = 5;
+    private static final byte STATE = 6;
+    private static final byte SERIALIZABLE = 7;
+
+    private final Incumbent incumbent;
+    private final Map<String, Object> arrays;
+    private final List<State> frontier;
+
+    /**
+     * @param incumbent best solution found so far
+     * @param arrays registered arrays and maps by name, either <code>Object[]</code>,
+     *               <code>int[]</code>, <code>long[]</code>, <code>double[]</code>
+     *               or a {@link ConcurrentLongMap}
+     * @param frontier states still to be explored
+     */
+    Checkpoint(Incumbent incumbent, Map<String, Object> arrays, List<State> frontier) {
+        this.incumbent = incumbent;
+        this.arrays = arrays;
+        this.frontier = frontier;
+    }
+
+    Incumbent getIncumbent() {
+        return incumbent;
+    }
+
+    Map<String, Object> getArrays() {
+        return arrays;
+    }
+
+    List<State> getFrontier() {
+        return frontier;
+    }
+
+    /**
+     * Writes the checkpoint to a temporary file which then
+     * atomically replaces the given one, so a crash while
+     * writing never corrupts the previous checkpoint. The
+     * states are encoded as they are written.
+     *
+     * @param file destination of the checkpoint
+     * @param codec serializer for the states
+     * @throws IOException on writing failures
+     */
+    void write(Path file, StateCodec<State> codec) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+
+        try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+
+            output.writeDouble(incumbent.getValue());
+            output.writeBoolean(incumbent.getSolution() != null);
+            if (incumbent.getSolution() != null) {
+                codec.encode(incumbent.getSolution(), output);
+            }
+
+            output.writeInt(arrays.size());
+            for (Map.Entry<String, Object> entry : arrays.entrySet()) {
+                output.writeUTF(entry.getKey());
+                writeArray(entry.getValue(), output, codec);
+            }
+
+            output.writeInt(frontier.size());
+            for (State state : frontier) {
+                codec.encode(state, output);
+            }
+        } catch (IOException | RuntimeException exception) {
+            Files.deleteIfExists(temporary);
+            throw exception;
+        }
+
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads a checkpoint written by {@link #write(Path, StateCodec)}.
+     *
+     * @param file source of the checkpoint
+     * @param codec serializer for the states
+     * @return the checkpoint read
+     * @throws IOException on reading failures or on an unknown file format
+     */
+    static Checkpoint read(Path file, StateCodec<State> codec) throws IOException {
+        try (DataInputStream input = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+                throw new IOException(String.format("The file: %s is not a supported checkpoint.", file));
+            }
+
+            double value = input.readDouble();
+            State solution = input.readBoolean() ? codec.decode(input) : null;
+            Incumbent incumbent = new Incumbent(solution, value);
+
+            int numberOfArrays = input.readInt();
+            Map<String, Object> arrays = new LinkedHashMap<>();
+            for (int i = 0; i < numberOfArrays; i++) {
+                String name = input.readUTF();
+                arrays.put(name, readArray(input, codec));
+            }
+
+            int numberOfStates = input.readInt();
+            List<State> frontier = new ArrayList<>(numberOfStates);
+            for (int i = 0; i < numberOfStates; i++) {
+                frontier.add(codec.decode(input));
+            }
+
+            return new Checkpoint(incumbent, arrays, frontier);
+        }
+    }
+
+    private static void writeArray(Object arr, DataOutputStream output, StateCodec<State> codec)
+            throws IOException {
+        if (arr instanceof int[]) {
+            int[] values = (int[]) arr;
+            output.writeByte(INT_ARRAY);
+            output.writeInt(values.length);
+            for (int value : values) {
+                output.writeInt(value);
+            }
+        } else if (arr instanceof long[]) {
+            long[] values = (long[]) arr;
+            output.writeByte(LONG_ARRAY);
+            output.writeInt(values.length);
+            for (long value : values) {
+                output.writeLong(value);
+            }
+        } else if (arr instanceof double[]) {
+            double[] values = (double[]) arr;
+            output.writeByte(DOUBLE_ARRAY);
+            output.writeInt(values.length);
+            for (double value : values) {
+                output.writeDouble(value);
+            }
+        } else if (arr instanceof ConcurrentLongMap) {
+            ConcurrentLongMap<?> map = (ConcurrentLongMap<?>) arr;
+            List<Long> keys = new ArrayList<>();
+            List<Object> values = new ArrayList<>();
+            map.forEach((key, value) -> {
+                keys.add(key);
+                values.add(value);
+            });
+
+            output.writeByte(LONG_MAP);
+            output.writeInt(map.getCapacity());
+            output.writeInt(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                output.writeLong(keys.get(i));
+                writeValue(values.get(i), output, codec);
+            }
+        } else {
+            Object[] values = (Object[]) arr;
+            output.writeByte(OBJECT_ARRAY);
+            output.writeInt(values.length);
+            for (Object value : values) {
+                writeValue(value, output, codec);
+            }
+        }
+    }
+
+    private static Object readArray(DataInputStream input, StateCodec<State> codec) throws IOException {
+        byte kind = input.readByte();
+        int length = input.readInt();
+
+        switch (kind) {
+            case INT_ARRAY:
+                int[] ints = new int[length];
+                for (int i = 0; i < length; i++) {
+                    ints[i] = input.readInt();
+                }
+                return ints;
+            case LONG_ARRAY:
+                long[] longs = new long[length];
+                for (int i = 0; i < length; i++) {
+                    longs[i] = input.readLong();
+                }
+                return longs;
+            case DOUBLE_ARRAY:
+                double[] doubles = new double[length];
+                for (int i = 0; i < length; i++) {
+                    doubles[i] = input.readDouble();
+                }
+                return doubles;
+            case OBJECT_ARRAY:
+                Object[] values = new Object[length];
+                for (int i = 0; i < length; i++) {
+                    values[i] = readValue(input, codec);
+                }
+                return values;
+            case LONG_MAP:
+                ConcurrentLongMap<Object> map = new ConcurrentLongMap<>(length);
+                int size = input.readInt();
+                for (int i = 0; i < size; i++) {
+                    long key = input.readLong();
+                    map.put(key, readValue(input, codec));
+                }
+                return map;
+            default:
+                throw new IOException(String.format("Unknown array kind: %d.", kind));
+        }
+    }
+
+    private static void writeValue(Object value, DataOutputStream output, StateCodec<State> codec)
+            throws IOException {
+        if (value == null) {
+            output.writeByte(NULL);
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof String) {
+            output.writeByte(STRING);
+            output.writeUTF((String) value);
+        } else if (value instanceof State) {
+            output.writeByte(STATE);
+            codec.encode((State) value, output);
+        } else if (value instanceof Serializable) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream objectOutput = new ObjectOutputStream(bytes)) {
+                objectOutput.writeObject(value);
+            }
+            output.writeByte(SERIALIZABLE);
+            output.writeInt(bytes.size());
+            bytes.writeTo(output);
+        } else {
+            throw new IOException(String.format("The value of type: %s can not be written to a checkpoint.",
+                    value.getClass().getName()));
+        }
+    }
+
+    private static Object readValue(DataInputStream input, StateCodec<State> codec) throws IOException {
+        byte tag = input.readByte();
+
+        switch (tag) {
+            case NULL:
+                return null;
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case DOUBLE:
+                return input.readDouble();
+            case BOOLEAN:
+                return input.readBoolean();
+            case STRING:
+                return input.readUTF();
+            case STATE:
+                return codec.decode(input);
+            case SERIALIZABLE:
+                byte[] bytes = new byte[input.readInt()];
+                input.readFully(bytes);
+                try (ObjectInputStream objectInput = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                    return objectInput.readObject();
+                } catch (ClassNotFoundException exception) {
+                    throw new IOException("Failed to read a value of the checkpoint.", exception);
+                }
+            default:
+                throw new IOException(String.format("Unknown value tag: %d.", tag));
+        }
+    }
+}
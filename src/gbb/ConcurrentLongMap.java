@@ -0,0 +1,277 @@
+package gbb;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Hash map with primitive <code>long</code> keys,
+ * backing the maps registered on a {@link Job}.
+ *
+ * The keys live in an open-addressing table with linear probing,
+ * while the value of a key is read and replaced atomically, so the
+ * reads and the updates of present keys neither allocate nor lock.
+ * A <code>null</code> value stands for an absent key. A new key is
+ * bound to the first free slot of its probe sequence under a lock
+ * striped by its home slot: either a slot never used before or the
+ * slot of a removed key, which is thereby reused. Slots never become
+ * empty again, hence the probe sequences stay intact, and a slot is
+ * rebound only while no other thread has pinned it for an access.
+ * The table is sized for the given capacity at a load factor of at
+ * most one half and is never resized, hence only holding far more
+ * keys than the capacity at once fails.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+final class ConcurrentLongMap<V> {
+    private static final long EMPTY = 0L;
+    private static final int MAXIMUM_CAPACITY = 1 << 28;
+    private static final int BINDING_STRIPES = 64;
+    private static final Object REBINDING = new Object();
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicLongArray keys;
+    private final AtomicReferenceArray<Object> values;
+    private final AtomicIntegerArray pins;
+    private final ArrayLocks bindingLocks;
+    private final AtomicReference<V> emptyKeyValue;
+
+    /**
+     * @param capacity expected number of keys
+     * @throws IllegalArgumentException if the capacity is not positive or too large
+     */
+    ConcurrentLongMap(int capacity) {
+        if (capacity < 1 || capacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException(String.format("The capacity of a map should be" +
+                    " between 1 and %d.", MAXIMUM_CAPACITY));
+        }
+
+        int length = Integer.highestOneBit(capacity) << 2;
+        this.capacity = capacity;
+        this.mask = length - 1;
+        this.keys = new AtomicLongArray(length);
+        this.values = new AtomicReferenceArray<>(length);
+        this.pins = new AtomicIntegerArray(length);
+        this.bindingLocks = ArrayLocks.create(ArrayLockingType.STRIPED, BINDING_STRIPES, length);
+        this.emptyKeyValue = new AtomicReference<>();
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @param key key to look up
+     * @return the value of the key, or null if the key is absent
+     */
+    V get(long key) {
+        if (key == EMPTY) {
+            return emptyKeyValue.get();
+        }
+
+        int slot = pin(key);
+        if (slot < 0) {
+            return null;
+        }
+
+        try {
+            return valueOf(values.get(slot));
+        } finally {
+            pins.decrementAndGet(slot);
+        }
+    }
+
+    /**
+     * @param key key to be set
+     * @param value new value, or null for removing the key
+     * @return the previous value, or null if the key was absent
+     * @throws IllegalStateException if the key is new and the table is full
+     */
+    V put(long key, V value) {
+        if (key == EMPTY) {
+            return emptyKeyValue.getAndSet(value);
+        }
+
+        int slot = pin(key);
+        if (slot < 0) {
+            if (value == null) {
+                return null;
+            }
+            slot = bind(key);
+        }
+
+        try {
+            while (true) {
+                Object current = values.get(slot);
+                if (current == REBINDING) {
+                    Thread.onSpinWait();
+                } else if (values.compareAndSet(slot, current, value)) {
+                    return valueOf(current);
+                }
+            }
+        } finally {
+            pins.decrementAndGet(slot);
+        }
+    }
+
+    /**
+     * Atomically replaces the value of a key with the result of the
+     * function. The function gets null for an absent key and may
+     * return null for removing it. It may be applied more than once
+     * under contention, hence it should be free of side effects.
+     *
+     * @param key key to be updated
+     * @param function computing the new value from the current one
+     * @return the new value
+     * @throws IllegalStateException if the key is new and the table is full
+     */
+    V compute(long key, UnaryOperator<V> function) {
+        if (key == EMPTY) {
+            return emptyKeyValue.updateAndGet(function);
+        }
+
+        int slot = pin(key);
+        if (slot < 0) {
+            if (function.apply(null) == null) {
+                return null;
+            }
+            slot = bind(key);
+        }
+
+        try {
+            while (true) {
+                Object current = values.get(slot);
+                if (current == REBINDING) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+
+                V next = function.apply(valueOf(current));
+                if (values.compareAndSet(slot, current, next)) {
+                    return next;
+                }
+            }
+        } finally {
+            pins.decrementAndGet(slot);
+        }
+    }
+
+    /**
+     * Passes every present key and its value to the consumer.
+     * Concurrent updates may or may not be seen.
+     *
+     * @param consumer of the entries
+     */
+    void forEach(BiConsumer<Long, ? super V> consumer) {
+        V value = emptyKeyValue.get();
+        if (value != null) {
+            consumer.accept(EMPTY, value);
+        }
+
+        for (int slot = 0; slot <= mask; slot++) {
+            if (keys.get(slot) == EMPTY) {
+                continue;
+            }
+
+            pins.incrementAndGet(slot);
+            long key = keys.get(slot);
+            value = valueOf(values.get(slot));
+            boolean bound = keys.get(slot) == key;
+            pins.decrementAndGet(slot);
+
+            if (bound && value != null) {
+                consumer.accept(key, value);
+            }
+        }
+    }
+
+    /**
+     * Finds the slot bound to a key and pins it, so it can not be
+     * rebound to another key until it is unpinned. A slot is checked
+     * after pinning it, since it may have been rebound in between.
+     *
+     * @return the pinned slot, or -1 if the key is not bound
+     */
+    private int pin(long key) {
+        int slot = hash(key) & mask;
+
+        for (int probe = 0; probe <= mask; probe++) {
+            long current = keys.get(slot);
+            if (current == EMPTY) {
+                return -1;
+            }
+
+            if (current == key) {
+                pins.incrementAndGet(slot);
+                while (values.get(slot) == REBINDING) {
+                    Thread.onSpinWait();
+                }
+                if (keys.get(slot) == key) {
+                    return slot;
+                }
+                pins.decrementAndGet(slot);
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Binds a key to the first empty or unpinned removed slot of its
+     * probe sequence. The threads binding the same key share a lock,
+     * hence a key is never bound to two slots.
+     *
+     * @return the pinned slot bound to the key
+     */
+    private int bind(long key) {
+        int home = hash(key) & mask;
+
+        synchronized (bindingLocks.lockFor(home)) {
+            int slot = pin(key);
+            if (slot >= 0) {
+                return slot;
+            }
+
+            slot = home;
+            for (int probe = 0; probe <= mask; probe++) {
+                if (keys.get(slot) == EMPTY) {
+                    pins.incrementAndGet(slot);
+                    if (keys.compareAndSet(slot, EMPTY, key)) {
+                        return slot;
+                    }
+                    pins.decrementAndGet(slot);
+                }
+
+                if (values.get(slot) == null && values.compareAndSet(slot, null, REBINDING)) {
+                    if (pins.get(slot) == 0) {
+                        keys.set(slot, key);
+                        pins.incrementAndGet(slot);
+                        values.set(slot, null);
+                        return slot;
+                    }
+                    values.set(slot, null);
+                }
+
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        throw new IllegalStateException(String.format("The map with the capacity: %d is full.", capacity));
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueOf(Object value) {
+        return value == REBINDING ? null : (V) value;
+    }
+
+    private static int hash(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
@@ -1,7 +1,13 @@
 package gbb;
 
+import gbb.exploring.SearchStrategy;
 import gbb.exploring.SearchStrategyType;
 
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
 /**
  * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 6/16/19)
  */
@@ -9,6 +15,26 @@ public class Configuration {
 
     private int numberOfExecutors;
     private SearchStrategyType searchStrategyType;
+    private Supplier<? extends SearchStrategy<State>> searchStrategySupplier;
+    private ExecutionEngineType executionEngineType;
+    private int batchSize;
+    private Predicate<State> sequentialCutoff;
+    private int frontierCutoff;
+    private StateCodec<State> stateCodec;
+    private Path checkpointFile;
+    private long checkpointInterval;
+    private ArrayLockingType arrayLockingType;
+    private int lockStripes;
+    private int transpositionTableCapacity;
+    private ExecutorType executorType;
+    private int expansionPermits;
+    private Predicate<JobResult> earlyStop;
+    private long boundInterval;
+    private long timeLimit;
+    private long nodeLimit;
+    private long frontierLimit;
+    private boolean statisticsEnabled;
+    private String jmxName;
 
     /**
      * Default constructor.
@@ -23,6 +49,26 @@ public class Configuration {
     public Configuration(Configuration configuration) {
         this.numberOfExecutors = configuration.numberOfExecutors;
         this.searchStrategyType = configuration.searchStrategyType;
+        this.searchStrategySupplier = configuration.searchStrategySupplier;
+        this.executionEngineType = configuration.executionEngineType;
+        this.batchSize = configuration.batchSize;
+        this.sequentialCutoff = configuration.sequentialCutoff;
+        this.frontierCutoff = configuration.frontierCutoff;
+        this.stateCodec = configuration.stateCodec;
+        this.checkpointFile = configuration.checkpointFile;
+        this.checkpointInterval = configuration.checkpointInterval;
+        this.arrayLockingType = configuration.arrayLockingType;
+        this.lockStripes = configuration.lockStripes;
+        this.transpositionTableCapacity = configuration.transpositionTableCapacity;
+        this.executorType = configuration.executorType;
+        this.expansionPermits = configuration.expansionPermits;
+        this.earlyStop = configuration.earlyStop;
+        this.boundInterval = configuration.boundInterval;
+        this.timeLimit = configuration.timeLimit;
+        this.nodeLimit = configuration.nodeLimit;
+        this.frontierLimit = configuration.frontierLimit;
+        this.statisticsEnabled = configuration.statisticsEnabled;
+        this.jmxName = configuration.jmxName;
     }
 
     /**
@@ -43,12 +89,205 @@ public class Configuration {
         return searchStrategyType;
     }
 
+    /**
+     * Returns the supplier of a custom search strategy,
+     * which takes precedence over the search strategy type.
+     * @return supplier of {@link SearchStrategy}, or null if none is set
+     */
+    public Supplier<? extends SearchStrategy<State>> getSearchStrategySupplier() {
+        return searchStrategySupplier;
+    }
+
+    /**
+     * Returns the execution engine type set.
+     * @return {@link ExecutionEngineType}
+     */
+    public ExecutionEngineType getExecutionEngineType() {
+        return executionEngineType;
+    }
+
+    /**
+     * Returns the maximum number of states an executor
+     * takes and expands as a single unit of work.
+     * @return batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Returns the predicate selecting the states whose subtrees
+     * are explored sequentially by the worker which reached them.
+     * @return sequential cutoff predicate, or null if none is set
+     */
+    public Predicate<State> getSequentialCutoff() {
+        return sequentialCutoff;
+    }
+
+    /**
+     * Returns the frontier size from which the workers explore
+     * the children they produce inline instead of publishing them.
+     * @return frontier cutoff
+     */
+    public int getFrontierCutoff() {
+        return frontierCutoff;
+    }
+
+    /**
+     * Returns the serializer used whenever
+     * states are written outside the heap.
+     * @return {@link StateCodec}, or null if none is set
+     */
+    public StateCodec<State> getStateCodec() {
+        return stateCodec;
+    }
+
+    /**
+     * Returns the file where the progress of
+     * a job is periodically checkpointed.
+     * @return checkpoint file, or null if checkpointing is disabled
+     */
+    public Path getCheckpointFile() {
+        return checkpointFile;
+    }
+
+    /**
+     * Returns the delay between two checkpoints.
+     * @return checkpoint interval in milliseconds
+     */
+    public long getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    /**
+     * Returns the lock granularity of the registered arrays.
+     * @return {@link ArrayLockingType}
+     */
+    public ArrayLockingType getArrayLockingType() {
+        return arrayLockingType;
+    }
+
+    /**
+     * Returns the number of lock stripes of a registered
+     * array when the locking is striped.
+     * @return number of lock stripes
+     */
+    public int getLockStripes() {
+        return lockStripes;
+    }
+
+    /**
+     * Returns the maximum number of states recorded by the
+     * transposition table which detects duplicate states.
+     * @return transposition table capacity, or 0 if duplicate detection is disabled
+     */
+    public int getTranspositionTableCapacity() {
+        return transpositionTableCapacity;
+    }
+
+    /**
+     * Returns the kind of threads running the expansions.
+     * @return {@link ExecutorType}
+     */
+    public ExecutorType getExecutorType() {
+        return executorType;
+    }
+
+    /**
+     * Returns the maximum number of expansions running at the
+     * same time on virtual threads.
+     * @return number of expansion permits, or 0 if virtual threads are not used
+     */
+    public int getExpansionPermits() {
+        return expansionPermits;
+    }
+
+    /**
+     * Returns the predicate which stops a job once
+     * its result is good enough.
+     * @return early stop predicate, or null if none is set
+     */
+    public Predicate<JobResult> getEarlyStop() {
+        return earlyStop;
+    }
+
+    /**
+     * Returns the delay between two refreshes of the
+     * lower bound of a running job.
+     * @return bound interval in milliseconds, or 0 if the bound is not refreshed
+     */
+    public long getBoundInterval() {
+        return boundInterval;
+    }
+
+    /**
+     * Returns the wall-clock time after which a run stops.
+     * @return time limit in milliseconds, or 0 if there is no limit
+     */
+    public long getTimeLimit() {
+        return timeLimit;
+    }
+
+    /**
+     * Returns the number of expanded states after which a run stops.
+     * @return node limit, or {@link Long#MAX_VALUE} if there is no limit
+     */
+    public long getNodeLimit() {
+        return nodeLimit;
+    }
+
+    /**
+     * Returns the number of states waiting to be explored
+     * above which a run stops.
+     * @return frontier limit, or {@link Long#MAX_VALUE} if there is no limit
+     */
+    public long getFrontierLimit() {
+        return frontierLimit;
+    }
+
+    /**
+     * Checks if the metrics of the workers and of the frontier are collected.
+     * @return <code>true</code> if statistics are enabled
+     */
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    /**
+     * Returns the name under which the statistics of a
+     * running job are exposed through JMX.
+     * @return JMX name, or null if the statistics are not exposed
+     */
+    public String getJmxName() {
+        return jmxName;
+    }
+
     /**
      * Implementation of the Builder creational pattern.
      */
     public static final class Builder {
         private int numberOfExecutors = 1;
         private SearchStrategyType searchStrategyType = SearchStrategyType.DEPTH_FIRST_SEARCH;
+        private Supplier<? extends SearchStrategy<State>> searchStrategySupplier;
+        private ExecutionEngineType executionEngineType = ExecutionEngineType.SHARED_FRONTIER;
+        private int batchSize = 1;
+        private Predicate<State> sequentialCutoff;
+        private int frontierCutoff = Integer.MAX_VALUE;
+        private StateCodec<State> stateCodec;
+        private Path checkpointFile;
+        private long checkpointInterval;
+        private ArrayLockingType arrayLockingType = ArrayLockingType.PER_ELEMENT;
+        private int lockStripes = 64;
+        private int transpositionTableCapacity;
+        private ExecutorType executorType = ExecutorType.PLATFORM_THREADS;
+        private int expansionPermits;
+        private Predicate<JobResult> earlyStop;
+        private long boundInterval;
+        private long timeLimit;
+        private long nodeLimit = Long.MAX_VALUE;
+        private long frontierLimit = Long.MAX_VALUE;
+        private boolean statisticsEnabled;
+        private String jmxName;
 
         /**
          * Return {@link Builder} instance with the number of executors
@@ -72,15 +311,370 @@ public class Configuration {
             return this;
         }
 
+        /**
+         * Return {@link Builder} instance with a custom search strategy
+         * set, for strategies which need parameters (e.g. the capacity
+         * of a {@link gbb.exploring.MemoryBoundedStrategy}). A new
+         * strategy is supplied every time a job is started.
+         * @param searchStrategySupplier supplier of the search strategy
+         * @return {@link Builder} instance
+         */
+        public Builder withSearchStrategy(Supplier<? extends SearchStrategy<State>> searchStrategySupplier) {
+            this.searchStrategySupplier = searchStrategySupplier;
+            return this;
+        }
+
+        /**
+         * Return {@link Builder} instance with the
+         * execution engine type set.
+         * @param executionEngineType engine type for scheduling the states
+         * @return {@link Builder} instance
+         */
+        public Builder withExecutionEngine(ExecutionEngineType executionEngineType) {
+            this.executionEngineType = executionEngineType;
+            return this;
+        }
+
+        /**
+         * Return {@link Builder} instance with the batch size set.
+         * Larger batches amortize the scheduling overhead
+         * for tasks which take only microseconds.
+         * @param batchSize maximum number of states expanded as a single unit of work
+         * @return {@link Builder} instance
+         * @throws IllegalArgumentException if the batch size is not positive
+         */
+        public Builder withBatchSize(int batchSize) {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("The batch size should be positive.");
+            }
+
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Return {@link Builder} instance with the sequential cutoff set.
+         * A state matching the predicate (e.g. deeper than a threshold,
+         * or with a small estimated subtree) is not published to the
+         * other executors: the worker which produced it explores its
+         * whole subtree depth-first on its own stack.
+         * @param sequentialCutoff predicate selecting the small subtrees
+         * @return {@link Builder} instance
+         */
+        public Builder withSequentialCutoff(Predicate<State> sequentialCutoff) {
+            this.sequentialCutoff = sequentialCutoff;
+            return this;
+        }
+
+        /**
+         * Return {@link Builder} instance with the frontier cutoff set.
+         * While the number of outstanding states is at least the cutoff,
+         * the workers explore the children they produce inline, because
+         * there is already enough parallel work available.
+         * @param frontierCutoff frontier size which triggers inline exploration
+         * @return {@link Builder} instance
+         * @throws IllegalArgumentException if the frontier cutoff is not positive
+         */
+        public Builder withFrontierCutoff(int frontierCutoff) {
+            if (frontierCutoff < 1) {
+                throw new IllegalArgumentException("The frontier cutoff should be positive.");
+            }
+
+            this.frontierCutoff = frontierCutoff;
+            return this;
+        }
+
+        /**
+         * Return {@link Builder} instance with the state serializer set.
+         * @param stateCodec serializer for the states
+         * @return {@link Builder} instance
+         */
+        @SuppressWarnings("unchecked")
+        public Builder withStateCodec(StateCodec<? extends State> stateCodec) {
+            this.stateCodec = (StateCodec<State>) stateCodec;
+            return this;
+        }
+
+        /**
+         * Return {@link Builder} instance with periodic checkpointing
+         * enabled. The states still to be explored, the registered
+         * arrays and the incumbent are written to the given file,
+         * from which the job can continue through {@link Job#resume(Path)}.
+         * The workers are only paused while the arrays are copied and a
+         * snapshot of the search strategy is taken, and the file is written
+         * while they run. Requires a {@link StateCodec} and the
+         * {@link ExecutionEngineType#SHARED_FRONTIER} engine.
+         * @param checkpointFile destination of the checkpoints
+         * @param interval delay between two checkpoints
+         * @param unit time unit of the interval
+         * @return {@link Builder} instance
+         * @throws IllegalArgumentException if the interval is not positive
+         */
+        public Builder withCheckpointing(Path checkpointFile, long interval, TimeUnit unit) {
+            if (interval <= 0) {
+                throw new IllegalArgumentException("The checkpoint interval should be positive.");
+            }
+
+            this.checkpointFile = checkpointFile;
+            this.checkpointInterval = unit.toMillis(interval);
+            return this;
+        }
+
+        /**
+         * Return {@link Builder} instance with the lock granularity of
+         * the registered arrays set, {@link ArrayLockingType#PER_ELEMENT} by
+         * default. It applies to the arrays registered after the configuration
+         * is set on a {@link Job}. With fewer locks than elements, a function
+         * passed to {@link Job#applyOnArray} which updates other positions
+         * contends with the updates of every position sharing their locks.
+         * @param arrayLockingType lock granularity for the registered arrays
+         * @return {@link Builder} instance
+         */
+        public Builder withArrayLocking(ArrayLockingType arrayLockingType) {
+            this.arrayLockingType = arrayLockingType;
+            return this;
+        }
+
+        /**
+         * Return {@link Builder} instance with the number of lock stripes
+         * of a registered array set, used by {@link ArrayLockingType#STRIPED}
+         * and by the sequence counters behind the consistent range snapshots.
+         * More stripes lower the contention between updates of
+         * different elements, at the cost of memory.
+         * @param lockStripes number of lock stripes
+         * @return {@link Builder} instance
+         * @throws IllegalArgumentException if the number of lock stripes is not positive
+         */
+        public Builder withLockStripes(int lockStripes) {
+            if (lockStripes < 1) {
+                throw new IllegalArgumentException("The number of lock stripes should be positive.");
+            }
+
+            this.lockStripes = lockStripes;
+            return this;
+        }
+
+        /**
+         * Return {@link Builder} instance with duplicate detection enabled.
+         * Every child implementing {@link HashableState} is looked up in
+         * a bounded transposition table by its fingerprint and skipped if
+         * it was already seen with a bound at least as good. When the table
+         * is full, the least recently hit states are evicted.
+         * @param capacity maximum number of recorded states
+         * @return {@link Builder} instance
+         * @throws IllegalArgumentException if the capacity is not positive
+         */
+        public Builder withTranspositionTable(int capacity) {
+            if (capacity < 1) {
+                throw new IllegalArgumentException("The transposition table capacity should be positive.");
+            }
+
+            this.transpositionTableCapacity = capacity;
+            return this;
+        }
+
+        /**
+         * Return {@link Builder} instance with the expansions running on
+         * virtual threads, for tasks which block. Up to the given number
+         * of expansions run at the same time, each on its own virtual
+         * thread, instead of one per executor; the number of executors
+         * is not used. Requires the {@link ExecutionEngineType#SHARED_FRONTIER}
+         * engine, and a runtime with virtual threads when the job starts.
+         * @param expansionPermits maximum number of expansions running at the same time
+         * @return {@link Builder} instance
+         * @throws IllegalArgumentException if the number of permits is not positive
+         */
+        public Builder withVirtualThreads(int expansionPermits) {
+            if (expansionPermits < 1) {
+                throw new IllegalArgumentException("The number of expansion permits should be positive.");
+            }
+
+            this.executorType = ExecutorType.VIRTUAL_THREADS;
+            this.expansionPermits = expansionPermits;
+            return this;
+        }
+
+        /**
+         * Return {@link Builder} instance with the early stop predicate set.
+         * The predicate is tested with the current {@link JobResult} every
+         * time a better solution is offered, and the job stops as if cancelled
+         * once it holds (e.g. <code>result -&gt; true</code> stops at the first
+         * feasible solution, <code>result -&gt; result.getBestValue() &lt;= target</code>
+         * once a target value is reached). While the job runs the bound
+         * of the result is {@link Double#NEGATIVE_INFINITY}, so conditions
+         * on the gap need {@link #withEarlyStop(Predicate, long, TimeUnit)}.
+         * @param earlyStop predicate telling if the result is good enough
+         * @return {@link Builder} instance
+         */
+        public Builder withEarlyStop(Predicate<JobResult> earlyStop) {
+            this.earlyStop = earlyStop;
+            this.boundInterval = 0;
+            return this;
+        }
+
+        /**
+         * Return {@link Builder} instance with the early stop predicate set,
+         * which is also tested every time the lower bound of the running job
+         * is refreshed (e.g. <code>result -&gt; result.getRelativeGap() &lt;= 0.01</code>
+         * stops once the best solution is within 1% of the optimum).
+         * Refreshing the bound pauses the workers while a snapshot of the
+         * search strategy is taken, whose bounds are then read while they
+         * run, and requires the
+         * {@link ExecutionEngineType#SHARED_FRONTIER} engine. The bound
+         * stays {@link Double#NEGATIVE_INFINITY} for a custom search strategy
+         * without snapshots, or while any state is not a {@link BoundedState}.
+         * @param earlyStop predicate telling if the result is good enough
+         * @param interval delay between two refreshes of the bound
+         * @param unit time unit of the interval
+         * @return {@link Builder} instance
+         * @throws IllegalArgumentException if the interval is not positive
+         */
+        public Builder withEarlyStop(Predicate<JobResult> earlyStop, long interval, TimeUnit unit) {
+            if (interval <= 0) {
+                throw new IllegalArgumentException("The bound interval should be positive.");
+            }
+
+            this.earlyStop = earlyStop;
+            this.boundInterval = unit.toMillis(interval);
+            return this;
+        }
+
+        /**
+         * Return {@link Builder} instance with the wall-clock time limit
+         * of a run set. Once it runs out the job stops, waits for the
+         * expansions in progress and returns the best solution found so far.
+         * @param timeLimit time after which a run stops
+         * @param unit unit of the time limit
+         * @return {@link Builder} instance
+         * @throws IllegalArgumentException if the time limit is not positive
+         */
+        public Builder withTimeLimit(long timeLimit, TimeUnit unit) {
+            if (timeLimit <= 0) {
+                throw new IllegalArgumentException("The time limit should be positive.");
+            }
+
+            this.timeLimit = Math.max(1, unit.toMillis(timeLimit));
+            return this;
+        }
+
+        /**
+         * Return {@link Builder} instance with the limit on the number of
+         * states passed to {@link Task#expand(State, StateSink)} in a run set. The
+         * states of a batch being expanded when the limit is reached are
+         * still expanded, so the limit may be exceeded by a few states.
+         * @param nodeLimit number of expanded states after which a run stops
+         * @return {@link Builder} instance
+         * @throws IllegalArgumentException if the node limit is not positive
+         */
+        public Builder withNodeLimit(long nodeLimit) {
+            if (nodeLimit <= 0) {
+                throw new IllegalArgumentException("The node limit should be positive.");
+            }
+
+            this.nodeLimit = nodeLimit;
+            return this;
+        }
+
+        /**
+         * Return {@link Builder} instance with the limit on the number of
+         * states waiting to be explored set. Unlike the frontier cutoff,
+         * which only makes the workers explore their children inline,
+         * exceeding the limit stops the run, bounding its memory.
+         * @param frontierLimit number of waiting states above which a run stops
+         * @return {@link Builder} instance
+         * @throws IllegalArgumentException if the frontier limit is not positive
+         */
+        public Builder withFrontierLimit(long frontierLimit) {
+            if (frontierLimit <= 0) {
+                throw new IllegalArgumentException("The frontier limit should be positive.");
+            }
+
+            this.frontierLimit = frontierLimit;
+            return this;
+        }
+
+        /**
+         * Return {@link Builder} instance with the collection of statistics
+         * set: per worker counters, a histogram of the expansion times and
+         * the frontier size, reported by {@link Job#getStatistics()} and by
+         * JDK Flight Recorder events. When disabled the workers only check
+         * a null reference, so the instrumentation costs next to nothing.
+         * @param statisticsEnabled whether statistics are collected
+         * @return {@link Builder} instance
+         */
+        public Builder withStatistics(boolean statisticsEnabled) {
+            this.statisticsEnabled = statisticsEnabled;
+            return this;
+        }
+
+        /**
+         * Return {@link Builder} instance with the JMX name set. While a
+         * job runs, its statistics are exposed by a {@link SearchStatisticsMXBean}
+         * registered as <code>gbb:type=Job,name=&lt;jmxName&gt;</code>.
+         * Requires statistics to be enabled.
+         * @param jmxName name of the job in JMX
+         * @return {@link Builder} instance
+         */
+        public Builder withJmxName(String jmxName) {
+            this.jmxName = jmxName;
+            return this;
+        }
+
         /**
          * Returns the corresponding {@link Configuration} instance
          * for the current {@link Builder} instance.
          * @return {@link Configuration}
+         * @throws IllegalArgumentException if checkpointing is enabled without a
+         *                                  {@link StateCodec} or with the work-stealing engine,
+         *                                  if virtual threads or a bound interval are used with the
+         *                                  work-stealing engine,
+         *                                  or if a JMX name is set without enabling statistics
          */
         public Configuration build() {
+            if (checkpointFile != null && stateCodec == null) {
+                throw new IllegalArgumentException("A state codec is required for checkpointing.");
+            }
+
+            if (checkpointFile != null && executionEngineType == ExecutionEngineType.WORK_STEALING) {
+                throw new IllegalArgumentException("The work stealing engine does not support checkpointing.");
+            }
+
+            if (executorType == ExecutorType.VIRTUAL_THREADS
+                    && executionEngineType == ExecutionEngineType.WORK_STEALING) {
+                throw new IllegalArgumentException("The work stealing engine does not support virtual threads.");
+            }
+
+            if (boundInterval > 0 && executionEngineType == ExecutionEngineType.WORK_STEALING) {
+                throw new IllegalArgumentException("The work stealing engine does not support refreshing the bound.");
+            }
+
+            if (jmxName != null && !statisticsEnabled) {
+                throw new IllegalArgumentException("Statistics should be enabled to be exposed through JMX.");
+            }
+
             Configuration conf = new Configuration();
             conf.numberOfExecutors = this.numberOfExecutors;
             conf.searchStrategyType = this.searchStrategyType;
+            conf.searchStrategySupplier = this.searchStrategySupplier;
+            conf.executionEngineType = this.executionEngineType;
+            conf.batchSize = this.batchSize;
+            conf.sequentialCutoff = this.sequentialCutoff;
+            conf.frontierCutoff = this.frontierCutoff;
+            conf.stateCodec = this.stateCodec;
+            conf.checkpointFile = this.checkpointFile;
+            conf.checkpointInterval = this.checkpointInterval;
+            conf.arrayLockingType = this.arrayLockingType;
+            conf.lockStripes = this.lockStripes;
+            conf.transpositionTableCapacity = this.transpositionTableCapacity;
+            conf.executorType = this.executorType;
+            conf.expansionPermits = this.expansionPermits;
+            conf.earlyStop = this.earlyStop;
+            conf.boundInterval = this.boundInterval;
+            conf.timeLimit = this.timeLimit;
+            conf.nodeLimit = this.nodeLimit;
+            conf.frontierLimit = this.frontierLimit;
+            conf.statisticsEnabled = this.statisticsEnabled;
+            conf.jmxName = this.jmxName;
 
             return conf;
         }
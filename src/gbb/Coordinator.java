@@ -0,0 +1,411 @@
+package gbb;
+
+import gbb.exceptions.StateException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coordinator of a search distributed over several processes, each
+ * running a {@link DistributedWorker} with its own {@link Job}.
+ *
+ * The coordinator keeps a pool of states, initially holding the
+ * initial state, from which it hands states to the idle workers.
+ * When the pool is empty while some workers are idle, it asks the
+ * busy ones to donate part of their frontiers, retrying periodically
+ * until they can. Better solutions found by any worker are broadcast
+ * to the others, so every node prunes with the global incumbent.
+ *
+ * A worker only asks for work once it explored everything it had,
+ * and its messages arrive in order, hence the search is over exactly
+ * when every worker is idle and the pool is empty. A worker which
+ * disconnects before that makes the whole search fail, since its
+ * states are lost. The registered resources are not shared: every
+ * worker sees the ones of its own {@link Job}.
+ *
+ * The state of the search is guarded by the monitor of the coordinator,
+ * while the messages are queued and written by one thread per worker,
+ * so a worker slow to read never blocks the others.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public final class Coordinator implements Closeable {
+    private static final long DONATION_RETRY_MILLIS = 20;
+    private static final long DEFAULT_ACCEPT_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final Write STOP = channel -> { };
+
+    private final ServerSocket serverSocket;
+    private final int numberOfWorkers;
+    private final StateCodec<State> codec;
+    private final Deque<State> pool;
+    private final List<Peer> peers;
+    private final CountDownLatch completion;
+    private long acceptTimeoutMillis;
+    private State bestSolution;
+    private double bestValue;
+    private boolean terminated;
+    private Throwable failure;
+
+    /**
+     * Listens for the workers on the given port of the loopback interface.
+     *
+     * @param port port to listen on, or 0 for any free port
+     * @param numberOfWorkers number of workers to wait for
+     * @param initialState root of the search
+     * @param codec serializer for the states
+     * @throws IOException if the port can not be bound
+     */
+    public Coordinator(int port, int numberOfWorkers, State initialState,
+                       StateCodec<? extends State> codec) throws IOException {
+        this(new ServerSocket(port, 50, InetAddress.getLoopbackAddress()), numberOfWorkers, initialState, codec);
+    }
+
+    /**
+     * Listens for the workers on the given socket, e.g. bound
+     * to an interface reachable from other machines.
+     *
+     * @param serverSocket bound socket to accept the workers on
+     * @param numberOfWorkers number of workers to wait for
+     * @param initialState root of the search
+     * @param codec serializer for the states
+     */
+    public Coordinator(ServerSocket serverSocket, int numberOfWorkers, State initialState,
+                       StateCodec<? extends State> codec) {
+        if (numberOfWorkers < 1) {
+            throw new IllegalArgumentException("The number of workers should be positive.");
+        }
+
+        this.serverSocket = serverSocket;
+        this.numberOfWorkers = numberOfWorkers;
+        @SuppressWarnings("unchecked")
+        StateCodec<State> stateCodec = (StateCodec<State>) codec;
+        this.codec = stateCodec;
+        this.pool = new ArrayDeque<>();
+        this.pool.add(initialState);
+        this.peers = new ArrayList<>();
+        this.completion = new CountDownLatch(1);
+        this.acceptTimeoutMillis = DEFAULT_ACCEPT_TIMEOUT_MILLIS;
+        this.bestValue = Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns the port the workers should connect to.
+     *
+     * @return local port
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Sets how long {@link #run()} waits for all the workers to
+     * connect, one minute by default.
+     *
+     * @param timeout maximum time to wait for the workers
+     * @param unit time unit of the timeout
+     * @throws IllegalArgumentException if the timeout is not positive
+     */
+    public void setAcceptTimeout(long timeout, TimeUnit unit) {
+        if (timeout <= 0) {
+            throw new IllegalArgumentException("The accept timeout should be positive.");
+        }
+
+        this.acceptTimeoutMillis = Math.max(1, unit.toMillis(timeout));
+    }
+
+    /**
+     * Waits for the workers to connect and coordinates them
+     * until every state has been explored.
+     *
+     * @return {@link JobResult} with the best solution found by any
+     *         worker and the states expanded by all of them
+     * @throws StateException if not every worker connects within the accept
+     *                        timeout, if a worker disconnects or if interrupted while waiting
+     */
+    public JobResult run() {
+        ScheduledExecutorService retries = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "gbb-coordinator");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            long deadline = System.currentTimeMillis() + acceptTimeoutMillis;
+            for (int i = 0; i < numberOfWorkers; i++) {
+                accept(deadline);
+            }
+            retries.scheduleWithFixedDelay(this::retryDonations, DONATION_RETRY_MILLIS, DONATION_RETRY_MILLIS,
+                    TimeUnit.MILLISECONDS);
+            completion.await();
+        } catch (IOException exception) {
+            fail(exception);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            fail(exception);
+        } finally {
+            retries.shutdownNow();
+            terminate();
+        }
+
+        synchronized (this) {
+            if (failure instanceof SocketTimeoutException) {
+                throw new StateException(String.format("Only %d of the %d workers connected within %d ms.",
+                        peers.size(), numberOfWorkers, acceptTimeoutMillis), failure);
+            }
+
+            if (failure != null) {
+                throw new StateException("The distributed search failed.", failure);
+            }
+
+            long expandedStates = peers.stream().mapToLong(peer -> peer.expandedStates).sum();
+            return new JobResult(bestSolution, bestValue, bestValue, expandedStates,
+                    TranspositionStatistics.EMPTY, null);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+    private void accept(long deadline) throws IOException {
+        long remaining = deadline - System.currentTimeMillis();
+        if (remaining <= 0) {
+            throw new SocketTimeoutException("Accept timed out");
+        }
+
+        serverSocket.setSoTimeout((int) Math.min(remaining, Integer.MAX_VALUE));
+        Socket socket = serverSocket.accept();
+        Channel channel = new Channel(socket, codec);
+        channel.receiveHeader();
+
+        Peer peer = new Peer(channel);
+        synchronized (this) {
+            peers.add(peer);
+        }
+
+        peer.writer = new Thread(() -> write(peer), "gbb-coordinator-writer-" + peers.size());
+        peer.writer.setDaemon(true);
+        peer.writer.start();
+
+        Thread reader = new Thread(() -> read(peer), "gbb-coordinator-peer-" + peers.size());
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    private void read(Peer peer) {
+        try {
+            while (true) {
+                Channel.Message message = peer.channel.receive();
+
+                switch (message.getType()) {
+                    case Channel.REQUEST_WORK:
+                        onRequestWork(peer, message.getCount());
+                        break;
+                    case Channel.DONATION:
+                        onDonation(peer, message.getStates());
+                        break;
+                    case Channel.SOLUTION:
+                        onSolution(peer, message.getSolution(), message.getValue());
+                        break;
+                    default:
+                        throw new IOException(String.format("Unexpected message type: %d.", message.getType()));
+                }
+            }
+        } catch (IOException | RuntimeException exception) {
+            fail(exception);
+        } finally {
+            try {
+                peer.channel.close();
+            } catch (IOException exception) {
+                // the connection is no longer used
+            }
+        }
+    }
+
+    /**
+     * Writes the messages queued for the given worker, in order,
+     * until {@link #STOP} or until the connection fails.
+     */
+    private void write(Peer peer) {
+        try {
+            Write write = peer.writes.take();
+
+            while (write != STOP) {
+                write.send(peer.channel);
+                write = peer.writes.take();
+            }
+        } catch (IOException exception) {
+            fail(exception);
+        } catch (InterruptedException exception) {
+            // the writers are daemons and are never interrupted
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized void onRequestWork(Peer peer, long expandedStates) {
+        peer.expandedStates = expandedStates;
+        peer.idle = true;
+        dispatch();
+    }
+
+    private synchronized void onDonation(Peer peer, List<State> states) {
+        peer.donationRequested = false;
+        pool.addAll(states);
+        dispatch();
+    }
+
+    private synchronized void onSolution(Peer sender, State solution, double value) {
+        if (value >= bestValue) {
+            return;
+        }
+
+        bestSolution = solution;
+        bestValue = value;
+        for (Peer peer : peers) {
+            if (peer != sender) {
+                peer.writes.add(channel -> channel.sendSolution(solution, value));
+            }
+        }
+    }
+
+    /**
+     * Shares the pool among the idle workers, and
+     * detects the end of the search.
+     */
+    private void dispatch() {
+        if (terminated) {
+            return;
+        }
+
+        int idleWorkers = (int) peers.stream().filter(peer -> peer.idle).count();
+        for (Peer peer : peers) {
+            if (peer.idle && !pool.isEmpty()) {
+                int share = Math.max(1, pool.size() / idleWorkers--);
+                List<State> states = new ArrayList<>(share);
+                for (int i = 0; i < share; i++) {
+                    states.add(pool.poll());
+                }
+
+                peer.idle = false;
+                peer.writes.add(channel -> channel.sendWork(states));
+            }
+        }
+
+        if (pool.isEmpty() && peers.size() == numberOfWorkers && peers.stream().allMatch(peer -> peer.idle)) {
+            terminated = true;
+            completion.countDown();
+            return;
+        }
+
+        requestDonations();
+    }
+
+    private void requestDonations() {
+        int idleWorkers = (int) peers.stream().filter(peer -> peer.idle).count();
+        if (idleWorkers == 0 || !pool.isEmpty()) {
+            return;
+        }
+
+        for (Peer peer : peers) {
+            if (!peer.idle && !peer.donationRequested) {
+                peer.donationRequested = true;
+                peer.writes.add(channel -> channel.sendRequestDonation(idleWorkers));
+            }
+        }
+    }
+
+    private synchronized void retryDonations() {
+        if (!terminated) {
+            requestDonations();
+        }
+    }
+
+    private synchronized void fail(Throwable throwable) {
+        if (terminated) {
+            // the workers close their connections once terminated
+            return;
+        }
+
+        failure = throwable;
+        terminated = true;
+        completion.countDown();
+
+        try {
+            serverSocket.close();
+        } catch (IOException exception) {
+            // stops waiting for the remaining workers
+        }
+    }
+
+    /**
+     * Tells the workers to stop, once the messages already queued for
+     * them are written. Their connections are closed by the readers
+     * once the workers close them, so no message is cut short.
+     */
+    private void terminate() {
+        List<Peer> stopped;
+        synchronized (this) {
+            terminated = true;
+            stopped = new ArrayList<>(peers);
+            for (Peer peer : stopped) {
+                peer.writes.add(channel -> {
+                    channel.sendTerminate();
+                    channel.shutdownOutput();
+                });
+                peer.writes.add(STOP);
+            }
+        }
+
+        for (Peer peer : stopped) {
+            try {
+                peer.writer.join();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        try {
+            serverSocket.close();
+        } catch (IOException exception) {
+            // nothing is left to be accepted
+        }
+    }
+
+    /**
+     * Message written to a worker by its writer thread.
+     */
+    @FunctionalInterface
+    private interface Write {
+        void send(Channel channel) throws IOException;
+    }
+
+    private static final class Peer {
+        private final Channel channel;
+        private final BlockingQueue<Write> writes;
+        private Thread writer;
+        private boolean idle;
+        private boolean donationRequested;
+        private long expandedStates;
+
+        private Peer(Channel channel) {
+            this.channel = channel;
+            this.writes = new LinkedBlockingQueue<>();
+        }
+    }
+}
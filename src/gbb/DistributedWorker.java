@@ -0,0 +1,174 @@
+package gbb;
+
+import gbb.exceptions.StateException;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Worker process of a search distributed by a {@link Coordinator}.
+ *
+ * The worker repeatedly asks the coordinator for states and explores
+ * them with its {@link Job}, whose initial state is ignored. While
+ * exploring, it gives away part of its frontier when asked to, sends
+ * every better solution it finds to the coordinator, and prunes with
+ * the better solutions found by the other workers, which are not sent
+ * back to the coordinator. Once the connection fails, the worker
+ * cancels its exploration and stops sending.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public final class DistributedWorker {
+    private final Job job;
+    private final String host;
+    private final int port;
+    private final StateCodec<State> codec;
+    private final BlockingQueue<Channel.Message> work;
+    private final Object donationLock;
+    private volatile IOException failure;
+
+    /**
+     * @param job job exploring the states, with a {@link StateCodec} and
+     *            the {@link ExecutionEngineType#SHARED_FRONTIER} engine
+     * @param host host of the coordinator
+     * @param port port of the coordinator
+     * @throws IllegalArgumentException if the job has no {@link StateCodec}
+     *                                  or uses the work-stealing engine
+     */
+    public DistributedWorker(Job job, String host, int port) {
+        Configuration configuration = job.getConfiguration();
+
+        if (configuration.getStateCodec() == null) {
+            throw new IllegalArgumentException("A state codec is required for the distributed search.");
+        }
+
+        if (configuration.getExecutionEngineType() == ExecutionEngineType.WORK_STEALING) {
+            throw new IllegalArgumentException("The work stealing engine can not donate states.");
+        }
+
+        this.job = job;
+        this.host = host;
+        this.port = port;
+        this.codec = configuration.getStateCodec();
+        this.work = new LinkedBlockingQueue<>();
+        this.donationLock = new Object();
+    }
+
+    /**
+     * Connects to the coordinator and explores the states
+     * it sends until the search is over.
+     *
+     * @return {@link JobResult} with the best solution known to the
+     *         worker and the states it expanded
+     * @throws IOException if the coordinator can not be reached
+     * @throws StateException if the connection is lost or if interrupted while waiting
+     */
+    public JobResult run() throws IOException {
+        long expandedStates = 0;
+
+        try (Channel channel = new Channel(new Socket(host, port), codec)) {
+            channel.sendHeader();
+
+            Thread reader = new Thread(() -> read(channel), "gbb-worker");
+            reader.setDaemon(true);
+            job.setSolutionListener((solution, value) -> {
+                // the solutions offered by the reader came from the coordinator
+                if (Thread.currentThread() == reader || failure != null) {
+                    return;
+                }
+
+                try {
+                    channel.sendSolution(solution, value);
+                } catch (IOException exception) {
+                    fail(exception);
+                }
+            });
+            reader.start();
+
+            while (failure == null) {
+                try {
+                    synchronized (donationLock) {
+                        channel.sendRequestWork(expandedStates);
+                    }
+                } catch (IOException exception) {
+                    fail(exception);
+                    break;
+                }
+                Channel.Message message = work.take();
+
+                if (message.getType() == Channel.TERMINATE) {
+                    break;
+                }
+                expandedStates += job.explore(message.getStates()).getExpandedStates();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new StateException("Interrupted while waiting for states to explore.", exception);
+        } finally {
+            job.setSolutionListener(null);
+        }
+
+        if (failure != null) {
+            throw new StateException("Lost the connection to the coordinator.", failure);
+        }
+
+        return new JobResult(job.getBestSolution(), job.getBestValue(), job.getBestValue(), expandedStates,
+                TranspositionStatistics.EMPTY, null);
+    }
+
+    /**
+     * The states are sent before the exploration which gave them
+     * away can ask for more work, otherwise the coordinator could
+     * see every worker idle while the states are still on the way.
+     */
+    private void donate(Channel channel, int maximum) throws IOException {
+        synchronized (donationLock) {
+            channel.sendDonation(job.donate(maximum));
+        }
+    }
+
+    private void read(Channel channel) {
+        try {
+            while (true) {
+                Channel.Message message = channel.receive();
+
+                switch (message.getType()) {
+                    case Channel.WORK:
+                        work.add(message);
+                        break;
+                    case Channel.TERMINATE:
+                        work.add(message);
+                        return;
+                    case Channel.REQUEST_DONATION:
+                        donate(channel, (int) message.getCount());
+                        break;
+                    case Channel.SOLUTION:
+                        job.offerSolution(message.getSolution(), message.getValue());
+                        break;
+                    default:
+                        throw new IOException(String.format("Unexpected message type: %d.", message.getType()));
+                }
+            }
+        } catch (IOException exception) {
+            fail(exception);
+        }
+    }
+
+    /**
+     * Records the first failure of the connection, from either the
+     * reader or a thread sending a solution, and stops the exploration.
+     */
+    private void fail(IOException exception) {
+        synchronized (this) {
+            if (failure != null) {
+                return;
+            }
+            failure = exception;
+        }
+
+        job.cancel();
+        work.add(Channel.Message.CLOSED);
+    }
+}
@@ -0,0 +1,48 @@
+package gbb;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Strategy for scheduling the expansion of the
+ * states on the executors of a {@link Job}.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+interface ExecutionEngine {
+    /**
+     * Explores the subtrees rooted in the given states and
+     * blocks until all the states have been expanded.
+     *
+     * @param initialStates roots of the subtrees
+     * @throws gbb.exceptions.StateException on issues with adding a state or if interrupted while waiting.
+     * @throws gbb.exceptions.TaskException when a {@link Task} fails to compute the next states.
+     */
+    void run(Collection<? extends State> initialStates);
+
+    /**
+     * Makes a running {@link #run(Collection)} return as soon as
+     * possible, leaving the remaining states unexplored. May be
+     * called from any thread, also before the run starts.
+     */
+    void stop();
+
+    /**
+     * Takes states waiting to be explored out of a running
+     * {@link #run(Collection)}, so another node can explore them.
+     * The run no longer waits for the states given away.
+     *
+     * @param maximum maximum number of states to be given away
+     * @return states given away, possibly none
+     */
+    List<State> donate(int maximum);
+
+    /**
+     * Returns a lower bound of the values of the solutions which a
+     * running {@link #run(Collection)} has still to explore. Must not
+     * be called from a worker, since it may wait for the workers.
+     *
+     * @return lower bound, or {@link Double#NEGATIVE_INFINITY} if unknown
+     */
+    double lowerBound();
+}
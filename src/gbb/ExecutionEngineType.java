@@ -0,0 +1,24 @@
+package gbb;
+
+/**
+ * Enum for storing the available engines
+ * for executing the expansion of the states.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public enum ExecutionEngineType {
+    /**
+     * All the executors pull the next states from one
+     * shared {@link gbb.exploring.SearchStrategy}, which
+     * decides the exploration order.
+     */
+    SHARED_FRONTIER,
+
+    /**
+     * Every executor keeps its own deque of states, expanding
+     * its children in a LIFO fashion, while idle executors steal
+     * the oldest states of the others. The configured
+     * {@link gbb.exploring.SearchStrategyType} is not used.
+     */
+    WORK_STEALING;
+}
@@ -0,0 +1,25 @@
+package gbb;
+
+/**
+ * Enum for storing the available kinds of threads
+ * running the expansions of the states.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public enum ExecutorType {
+    /**
+     * A fixed pool with one platform thread per executor.
+     */
+    PLATFORM_THREADS,
+
+    /**
+     * One virtual thread per expansion permit, suited for tasks
+     * which block (e.g. on I/O or on an external solver process):
+     * a blocked expansion releases its carrier thread, so many
+     * expansions can wait while a few carrier threads do the work.
+     * The carrier threads are shared by the whole JVM. Requires a
+     * runtime with virtual threads (Java 21 or later); otherwise the
+     * job fails with an {@link IllegalStateException} when it starts.
+     */
+    VIRTUAL_THREADS;
+}
@@ -0,0 +1,195 @@
+package gbb;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Expands batches of states on behalf of a single worker.
+ *
+ * States dominated by the incumbent of the {@link Job} are dropped,
+ * and so are children already reached along another branch when
+ * duplicate detection is enabled.
+ * Children below the sequential cutoff, or produced while the frontier
+ * is already full, are not published: the worker explores them
+ * depth-first on its own stack, so parallelism is only created where
+ * it pays for itself. When the engine asks the worker to yield, e.g.
+ * for a checkpoint, the local stack is handed over for publishing
+ * instead of being explored to its end.
+ * The expander is the {@link StateSink} of its worker, so the children
+ * pushed by {@link Task#expand(State, StateSink)} are routed as they
+ * arrive, and the states which are no longer referenced are handed
+ * back to {@link Task#recycle(State)}, unless the engine is still
+ * writing a snapshot which may reference them, e.g. a checkpoint, in
+ * which case they are handed back once the snapshot is released.
+ * When statistics are enabled every call of the {@link Task} is
+ * timed into the {@link WorkerMetrics} of the worker.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+final class Expander implements StateSink<State> {
+    private final Job job;
+    private final Task<State> task;
+    private final Predicate<State> sequentialCutoff;
+    private final BooleanSupplier frontierIsFull;
+    private final BooleanSupplier yieldRequested;
+    private final BooleanSupplier recyclingDeferred;
+    private final Deque<State> localStates;
+    private final List<State> deferredStates;
+    private final WorkerMetrics metrics;
+    private List<State> nextStates;
+
+    Expander(Job job, Task<State> task, Predicate<State> sequentialCutoff, BooleanSupplier frontierIsFull,
+             BooleanSupplier yieldRequested, BooleanSupplier recyclingDeferred) {
+        this.job = job;
+        this.task = task;
+        this.sequentialCutoff = sequentialCutoff;
+        this.frontierIsFull = frontierIsFull;
+        this.yieldRequested = yieldRequested;
+        this.recyclingDeferred = recyclingDeferred;
+        this.localStates = new ArrayDeque<>();
+        this.deferredStates = new ArrayList<>();
+
+        Instrumentation instrumentation = job.getInstrumentation();
+        this.metrics = instrumentation == null ? null : instrumentation.newWorker();
+    }
+
+    /**
+     * Expands the given batch and collects the
+     * children which should be published.
+     *
+     * Once the job is stopped the states which are
+     * not expanded are recorded as unexplored.
+     *
+     * @param batch states to be expanded, dominated states are removed
+     * @param nextStates receives the children to be published
+     */
+    void expand(List<State> batch, List<State> nextStates) {
+        if (job.isStopRequested()) {
+            batch.forEach(job::recordUnexplored);
+            return;
+        }
+
+        recycleDeferredStates();
+        batch.removeIf(this::dropIfDominated);
+        job.countExpandedStates(batch.size());
+        this.nextStates = nextStates;
+
+        if (metrics == null) {
+            expandBatch(batch);
+            expandLocalStates();
+            return;
+        }
+
+        long start = System.nanoTime();
+        FlightRecorderEvents.ExpansionEvent event = new FlightRecorderEvents.ExpansionEvent();
+        event.begin();
+        expandBatch(batch);
+        event.states = batch.size();
+        event.commit();
+        metrics.recordExpansion(batch.size(), System.nanoTime() - start);
+
+        expandLocalStates();
+        metrics.recordBusy(System.nanoTime() - start);
+    }
+
+    /**
+     * Routes a child pushed by the {@link Task}.
+     */
+    @Override
+    public void accept(State child) {
+        if (job.isDominated(child) || job.isDuplicate(child)) {
+            recycle(child);
+            return;
+        }
+
+        if (isSequential(child) || frontierIsFull.getAsBoolean()) {
+            localStates.addLast(child);
+        } else {
+            nextStates.add(child);
+        }
+    }
+
+    private void expandBatch(List<State> batch) {
+        for (State state : batch) {
+            task.expand(state, this);
+            recycle(state);
+        }
+    }
+
+    private void expandLocalStates() {
+        while (!localStates.isEmpty()) {
+            if (yieldRequested.getAsBoolean()) {
+                // the deepest state is published last, so a depth-first strategy resumes from it
+                nextStates.addAll(localStates);
+                localStates.clear();
+                return;
+            }
+
+            State state = localStates.pollLast();
+
+            if (job.isStopRequested()) {
+                job.recordUnexplored(state);
+                localStates.forEach(job::recordUnexplored);
+                localStates.clear();
+                return;
+            }
+
+            if (dropIfDominated(state)) {
+                continue;
+            }
+
+            if (!isSequential(state) && !frontierIsFull.getAsBoolean()) {
+                nextStates.add(state);
+                continue;
+            }
+
+            job.countExpandedStates(1);
+            if (metrics == null) {
+                task.expand(state, this);
+            } else {
+                long start = System.nanoTime();
+                task.expand(state, this);
+                metrics.recordExpansion(1, System.nanoTime() - start);
+            }
+            recycle(state);
+        }
+    }
+
+    private boolean dropIfDominated(State state) {
+        if (!job.isDominated(state)) {
+            return false;
+        }
+
+        recycle(state);
+        return true;
+    }
+
+    private void recycle(State state) {
+        if (recyclingDeferred.getAsBoolean()) {
+            deferredStates.add(state);
+        } else if (!job.isBestSolution(state)) {
+            task.recycle(state);
+        }
+    }
+
+    private void recycleDeferredStates() {
+        if (deferredStates.isEmpty() || recyclingDeferred.getAsBoolean()) {
+            return;
+        }
+
+        for (State state : deferredStates) {
+            if (!job.isBestSolution(state)) {
+                task.recycle(state);
+            }
+        }
+        deferredStates.clear();
+    }
+
+    private boolean isSequential(State state) {
+        return sequentialCutoff != null && sequentialCutoff.test(state);
+    }
+}
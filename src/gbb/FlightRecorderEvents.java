@@ -0,0 +1,87 @@
+package gbb;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JDK Flight Recorder events of a {@link Job} with statistics enabled.
+ *
+ * Expansions slower than the threshold are recorded as they end,
+ * while the statistics of every running job are recorded periodically.
+ * Both can be tuned through the settings of the recording.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+final class FlightRecorderEvents {
+
+    private FlightRecorderEvents() {
+    }
+
+    /**
+     * Registers the periodic statistics event of a run.
+     *
+     * @param job running job
+     * @return hook to be passed to {@link #unregister(Runnable)} when the run ends
+     */
+    static Runnable register(Job job) {
+        Runnable hook = () -> {
+            StatisticsEvent event = new StatisticsEvent();
+            if (event.isEnabled()) {
+                SearchStatistics statistics = job.getStatistics();
+                event.expandedStates = statistics.getExpandedStates();
+                event.statesPerSecond = statistics.getStatesPerSecond();
+                event.frontierSize = statistics.getFrontierSize();
+                event.meanExpansionNanos = statistics.getMeanExpansionNanos();
+                event.meanWorkerUtilization = statistics.getMeanWorkerUtilization();
+                event.commit();
+            }
+        };
+
+        FlightRecorder.addPeriodicEvent(StatisticsEvent.class, hook);
+        return hook;
+    }
+
+    static void unregister(Runnable hook) {
+        FlightRecorder.removePeriodicEvent(hook);
+    }
+
+    @Name("gbb.Expansion")
+    @Label("Expansion")
+    @Category("gBB")
+    @Description("Call of a task over a batch of states")
+    @StackTrace(false)
+    @Threshold("10 ms")
+    static final class ExpansionEvent extends Event {
+        @Label("States")
+        int states;
+    }
+
+    @Name("gbb.Statistics")
+    @Label("Search Statistics")
+    @Category("gBB")
+    @Period("1 s")
+    @StackTrace(false)
+    static final class StatisticsEvent extends Event {
+        @Label("Expanded States")
+        long expandedStates;
+
+        @Label("States per Second")
+        double statesPerSecond;
+
+        @Label("Frontier Size")
+        long frontierSize;
+
+        @Label("Mean Expansion Nanos")
+        double meanExpansionNanos;
+
+        @Label("Mean Worker Utilization")
+        double meanWorkerUtilization;
+    }
+}
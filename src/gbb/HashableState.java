@@ -0,0 +1,21 @@
+package gbb;
+
+/**
+ * Candidate solution which exposes a fingerprint, so the
+ * same state reached along different branches can be
+ * recognized by the transposition table of a {@link Job}.
+ *
+ * Equal states should have equal fingerprints, while different
+ * states should collide only rarely (e.g. a Zobrist hash), since
+ * a state sharing the fingerprint of one already seen is skipped.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public interface HashableState extends State {
+
+    /**
+     * Returns the 64-bit fingerprint of the state.
+     * @return fingerprint value
+     */
+    long getFingerprint();
+}
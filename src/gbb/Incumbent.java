@@ -0,0 +1,27 @@
+package gbb;
+
+/**
+ * Immutable pair of the best solution found so far
+ * and its value, replaced atomically as a whole.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+final class Incumbent {
+    static final Incumbent NONE = new Incumbent(null, Double.POSITIVE_INFINITY);
+
+    private final State solution;
+    private final double value;
+
+    Incumbent(State solution, double value) {
+        this.solution = solution;
+        this.value = value;
+    }
+
+    State getSolution() {
+        return solution;
+    }
+
+    double getValue() {
+        return value;
+    }
+}
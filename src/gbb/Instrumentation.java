@@ -0,0 +1,87 @@
+package gbb;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Metrics of a single run of a {@link Job}, created only when
+ * statistics are enabled.
+ *
+ * Every worker records into its own {@link WorkerMetrics}, and the
+ * engine exposes the size of its frontier through a gauge which is
+ * also sampled every time states are published. The mean time a
+ * state waits in the frontier is estimated from the samples by
+ * Little's law, as the mean frontier size over the throughput.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+final class Instrumentation {
+    private final long startNanos;
+    private final List<WorkerMetrics> workers;
+    private final LongAccumulator maxFrontierSize;
+    private final LongAdder frontierSamples;
+    private final LongAdder frontierSizes;
+    private volatile LongSupplier frontierGauge;
+    private volatile long endNanos;
+
+    Instrumentation() {
+        this.startNanos = System.nanoTime();
+        this.workers = new CopyOnWriteArrayList<>();
+        this.maxFrontierSize = new LongAccumulator(Math::max, 0);
+        this.frontierSamples = new LongAdder();
+        this.frontierSizes = new LongAdder();
+        this.frontierGauge = () -> 0;
+    }
+
+    WorkerMetrics newWorker() {
+        WorkerMetrics worker = new WorkerMetrics();
+        workers.add(worker);
+        return worker;
+    }
+
+    void setFrontierGauge(LongSupplier frontierGauge) {
+        this.frontierGauge = frontierGauge;
+    }
+
+    void sampleFrontier(long size) {
+        maxFrontierSize.accumulate(size);
+        frontierSamples.increment();
+        frontierSizes.add(size);
+    }
+
+    void finish() {
+        endNanos = System.nanoTime();
+    }
+
+    SearchStatistics snapshot(long expandedStates) {
+        long end = endNanos;
+        long elapsedNanos = (end == 0 ? System.nanoTime() : end) - startNanos;
+
+        long[] buckets = new long[LatencyHistogram.NUMBER_OF_BUCKETS];
+        long[] workerExpandedStates = new long[workers.size()];
+        double[] workerUtilization = new double[workers.size()];
+        long expansionNanos = 0;
+        long maxExpansionNanos = 0;
+
+        for (int i = 0; i < workerExpandedStates.length; i++) {
+            WorkerMetrics worker = workers.get(i);
+            LatencyHistogram expansions = worker.getExpansions();
+
+            expansions.addTo(buckets);
+            expansionNanos += expansions.getSum();
+            maxExpansionNanos = Math.max(maxExpansionNanos, expansions.getMax());
+            workerExpandedStates[i] = worker.getExpandedStates();
+            workerUtilization[i] = elapsedNanos == 0 ? 0 : Math.min(1, (double) worker.getBusyNanos() / elapsedNanos);
+        }
+
+        long samples = frontierSamples.sum();
+        double meanFrontierSize = samples == 0 ? 0 : (double) frontierSizes.sum() / samples;
+        double estimatedMeanWaitNanos = expandedStates == 0 ? 0 : meanFrontierSize * elapsedNanos / expandedStates;
+
+        return new SearchStatistics(expandedStates, elapsedNanos, frontierGauge.getAsLong(), maxFrontierSize.get(),
+                estimatedMeanWaitNanos, buckets, expansionNanos, maxExpansionNanos, workerExpandedStates, workerUtilization);
+    }
+}
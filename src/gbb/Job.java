@@ -5,30 +5,73 @@ import gbb.exceptions.TaskException;
 import gbb.exploring.SearchStrategy;
 import gbb.exploring.SearchStrategyFactory;
 
-import java.util.ArrayDeque;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Deque;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.DoubleAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
-import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.UnaryOperator;
 
 /**
  * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 6/16/19)
  */
 public class Job {
+    /**
+     * Number of frontier states per sub-job, from which
+     * {@link #partition(int, ToDoubleFunction)} balances the sub-jobs.
+     */
+    public static final int STATES_PER_PARTITION = 4;
+
     private Configuration configuration;
     private Class<? extends Task> task;
-    private Map<String, Object[]> registeredArrays;
-    private Map<String, Object[]> registeredLocks;
+    private Supplier<? extends Task<?>> taskFactory;
+    private Map<String, AtomicReferenceArray<Object>> registeredArrays;
+    private Map<String, ArrayLocks> registeredLocks;
+    private Map<String, ArrayVersions> registeredVersions;
+    private Map<String, AtomicIntegerArray> registeredIntArrays;
+    private Map<String, AtomicLongArray> registeredLongArrays;
+    private Map<String, AtomicLongArray> registeredDoubleArrays;
+    private Map<String, ConcurrentLongMap<Object>> registeredMaps;
     private State initialState;
+    private AtomicReference<Incumbent> incumbent;
+    private volatile TranspositionTable transpositionTable;
+    private LongAdder expandedStates;
+    private AtomicReference<StopReason> stopReason;
+    private DoubleAccumulator unexploredBound;
+    private volatile double runningBound;
+    private volatile ExecutionEngine runningEngine;
+    private volatile Instrumentation instrumentation;
+    private volatile BiConsumer<State, Double> solutionListener;
 
     /**
      * Constructor with configuration.
@@ -46,6 +89,15 @@ public class Job {
     private Job() {
         registeredArrays = new HashMap<>();
         registeredLocks = new HashMap<>();
+        registeredVersions = new HashMap<>();
+        registeredIntArrays = new HashMap<>();
+        registeredLongArrays = new HashMap<>();
+        registeredDoubleArrays = new HashMap<>();
+        registeredMaps = new HashMap<>();
+        incumbent = new AtomicReference<>(Incumbent.NONE);
+        expandedStates = new LongAdder();
+        stopReason = new AtomicReference<>();
+        unexploredBound = new DoubleAccumulator(Math::min, Double.POSITIVE_INFINITY);
     }
 
     /**
@@ -80,19 +132,109 @@ public class Job {
         this.task = task;
     }
 
+    /**
+     * Setter for the factory of {@link Task} instances, which
+     * takes precedence over the {@link Task} class.
+     *
+     * Every worker gets its own instance, created once and reused
+     * for all its expansions, so the instance can keep scratch
+     * buffers or caches without synchronization.
+     * @param taskFactory supplier of a new {@link Task} instance on every call
+     */
+    public void setTaskFactory(Supplier<? extends Task<?>> taskFactory) {
+        this.taskFactory = taskFactory;
+    }
+
     /**
      * Method for registering a resource array.
      *
+     * The updates of its elements are guarded by locks laid out
+     * by the configured {@link ArrayLockingType}.
+     *
      * @param name key for the resource
      * @param arr array structure
      */
     public <T> void registerArray(String name, T[] arr) {
-        if (registeredArrays.containsKey(name)) {
-            throw new IllegalArgumentException("An array with the same name is already registered.");
+        checkNotRegistered(name);
+
+        registeredArrays.put(name, new AtomicReferenceArray<>(arr));
+        registeredLocks.put(name, ArrayLocks.create(configuration.getArrayLockingType(),
+                configuration.getLockStripes(), arr.length));
+        registeredVersions.put(name, ArrayVersions.create(configuration.getLockStripes(), arr.length));
+    }
+
+    /**
+     * Method for registering a resource array of ints.
+     *
+     * The values are kept in a flat array and every access is
+     * atomic, so neither boxed values nor locks are allocated.
+     *
+     * @param name key for the resource
+     * @param arr array structure
+     */
+    public void registerIntArray(String name, int[] arr) {
+        checkNotRegistered(name);
+
+        registeredIntArrays.put(name, new AtomicIntegerArray(arr));
+        registeredVersions.put(name, ArrayVersions.create(configuration.getLockStripes(), arr.length));
+    }
+
+    /**
+     * Method for registering a resource array of longs.
+     *
+     * The values are kept in a flat array and every access is
+     * atomic, so neither boxed values nor locks are allocated.
+     *
+     * @param name key for the resource
+     * @param arr array structure
+     */
+    public void registerLongArray(String name, long[] arr) {
+        checkNotRegistered(name);
+
+        registeredLongArrays.put(name, new AtomicLongArray(arr));
+        registeredVersions.put(name, ArrayVersions.create(configuration.getLockStripes(), arr.length));
+    }
+
+    /**
+     * Method for registering a resource array of doubles.
+     *
+     * The values are kept in a flat array of their raw long bits
+     * and every access is atomic, so neither boxed values nor locks
+     * are allocated.
+     *
+     * @param name key for the resource
+     * @param arr array structure
+     */
+    public void registerDoubleArray(String name, double[] arr) {
+        checkNotRegistered(name);
+
+        AtomicLongArray bits = new AtomicLongArray(arr.length);
+        for (int i = 0; i < arr.length; i++) {
+            bits.set(i, Double.doubleToRawLongBits(arr[i]));
         }
+        registeredDoubleArrays.put(name, bits);
+        registeredVersions.put(name, ArrayVersions.create(configuration.getLockStripes(), arr.length));
+    }
+
+    /**
+     * Method for registering a resource map with <code>long</code>
+     * keys (e.g. a memoization table of sub-problem bounds).
+     *
+     * The map is an open-addressing table sized for the given number
+     * of keys, so neither the queries nor the updates of present keys
+     * allocate or block the other workers, while a new key takes a
+     * striped lock. The slots of removed keys are reused, but the map
+     * is never resized, hence only holding far more keys than the
+     * capacity at once fails.
+     *
+     * @param name key for the resource
+     * @param capacity expected number of keys
+     * @throws IllegalArgumentException if the capacity is not positive or too large
+     */
+    public void registerMap(String name, int capacity) {
+        checkNotRegistered(name);
 
-        registeredArrays.put(name, arr.clone());
-        registeredLocks.put(name, createLockArray(arr.length));
+        registeredMaps.put(name, new ConcurrentLongMap<>(capacity));
     }
 
     /**
@@ -108,48 +250,347 @@ public class Job {
      * Entry point for starting the computation
      * for the current {@link Job}.
      *
+     * The states are scheduled by the configured {@link ExecutionEngineType}
+     * and the call returns once every reachable state has been expanded,
+     * or once the job is stopped (see {@link #getResult()}).
+     *
      * @throws StateException on issues with adding or retrieving a {@link State} to be explored.
+     * @throws IllegalStateException if neither a {@link Task} class nor a factory is set.
+     * @throws TaskException when the {@link Task} fails to compute the next states.
      */
     public void start() {
-        Task taskInstance = getTaskInstance();
-        SearchStrategyFactory<State> searchStrategyFactory = new SearchStrategyFactory<>();
-        Deque<Future<Void>> futureStates = new ArrayDeque<>();
-        SearchStrategy<State> states = searchStrategyFactory.getInstance(configuration.getSearchStrategyType());
+        prepareRun();
+        run(Collections.singletonList(this.initialState));
+    }
+
+    /**
+     * Entry point for starting the computation for the current
+     * {@link Job} without blocking the caller.
+     *
+     * The job runs on a new thread and the returned future completes
+     * with its {@link JobResult} once every reachable state has been
+     * expanded, or once the job is stopped through {@link #cancel()},
+     * by cancelling the future, by the configured early stop predicate
+     * or by the configured budgets.
+     * A failed run completes the future exceptionally with the
+     * exceptions thrown by {@link #start()}.
+     *
+     * @return future of the {@link JobResult}
+     */
+    public CompletableFuture<JobResult> startAsync() {
+        prepareRun();
+
+        CompletableFuture<JobResult> result = CompletableFuture.supplyAsync(
+                () -> run(Collections.singletonList(this.initialState)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "gbb-job");
+                    thread.setDaemon(true);
+                    thread.start();
+                });
+        result.whenComplete((jobResult, throwable) -> {
+            if (result.isCancelled()) {
+                cancel();
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Stops the running computation as soon as possible, leaving
+     * the remaining states unexplored: no new state is expanded and
+     * the call to {@link #start()} returns once the expansions in
+     * progress end. The shared-frontier engine also interrupts them.
+     */
+    public void cancel() {
+        stop(StopReason.CANCELLED);
+    }
+
+    /**
+     * Returns the best solution, its value and the counters
+     * of the current or the last run of the job.
+     *
+     * Once a run ends, the result also holds a proven lower bound
+     * on the optimal value: the best value if every state was
+     * explored, otherwise the smallest bound among the best value
+     * and the states left unexplored by the stop. Any unexplored
+     * state which is not a {@link BoundedState} leaves the bound
+     * unknown. While the run is in progress the bound is the last
+     * one refreshed for a bound interval set through
+     * {@link Configuration.Builder#withEarlyStop(Predicate, long, TimeUnit)},
+     * and is unknown otherwise.
+     *
+     * @return {@link JobResult}
+     */
+    public JobResult getResult() {
+        Incumbent best = incumbent.get();
+        double bestBound = runningEngine != null
+                ? Math.min(best.getValue(), Math.min(runningBound, unexploredBound.get()))
+                : Math.min(best.getValue(), unexploredBound.get());
+
+        return new JobResult(best.getSolution(), best.getValue(), bestBound, expandedStates.sum(),
+                getTranspositionStatistics(), stopReason.get());
+    }
+
+    /**
+     * Returns a snapshot of the metrics of the current or the last
+     * run of the job. Besides the number of expanded states, they are
+     * only collected when enabled through
+     * {@link Configuration.Builder#withStatistics(boolean)}.
+     *
+     * @return {@link SearchStatistics}
+     */
+    public SearchStatistics getStatistics() {
+        Instrumentation current = instrumentation;
+        return current == null
+                ? SearchStatistics.disabled(expandedStates.sum())
+                : current.snapshot(expandedStates.sum());
+    }
 
-        ExecutorService workers = Executors.newFixedThreadPool(configuration.getNumberOfExecutors());
+    /**
+     * Entry point for continuing the computation of a {@link Job}
+     * from a checkpoint written while it was running.
+     *
+     * The registered arrays and the incumbent are restored from the
+     * checkpoint and the exploration continues from the states which
+     * were still to be explored. A checkpoint is only taken while no
+     * state is being expanded, so every state is either reflected in
+     * the restored arrays and incumbent or still to be explored, and
+     * no state is lost or expanded twice.
+     *
+     * @param checkpointFile file written by a job with checkpointing enabled
+     * @throws IllegalStateException if no {@link StateCodec} is configured.
+     * @throws StateException on issues with reading the checkpoint or exploring the states.
+     * @throws TaskException when the {@link Task} fails to compute the next states.
+     */
+    public void resume(Path checkpointFile) {
+        StateCodec<State> stateCodec = configuration.getStateCodec();
+        if (stateCodec == null) {
+            throw new IllegalStateException("A state codec is required for resuming a job.");
+        }
 
+        Checkpoint checkpoint;
         try {
-            states.put(this.initialState);
-        } catch(InterruptedException exception) {
-            throw new StateException("Failed to add a next state.", exception);
+            checkpoint = Checkpoint.read(checkpointFile, stateCodec);
+        } catch (IOException exception) {
+            throw new StateException("Failed to read the checkpoint.", exception);
+        }
+
+        prepareRun();
+        restore(checkpoint);
+        run(checkpoint.getFrontier());
+    }
+
+    /**
+     * Splits the job into the given number of independent sub-jobs.
+     *
+     * Starting from the initial state, the state with the largest
+     * estimated subtree is expanded on the calling thread until the
+     * frontier holds {@value #STATES_PER_PARTITION} states per sub-job,
+     * or until the whole tree is explored. The states are then assigned,
+     * largest first, to the sub-job with the smallest estimated size.
+     * The solutions offered while expanding are kept by the job and by
+     * every sub-job.
+     *
+     * @param numberOfPartitions number of sub-jobs
+     * @param subtreeSize estimate of the number of states reachable from a state
+     * @return exactly numberOfPartitions {@link SubJob}s, some may be empty for small trees
+     * @throws IllegalArgumentException if the number of partitions is not positive
+     * @throws IllegalStateException if no {@link StateCodec} is configured.
+     * @throws TaskException when the {@link Task} fails to compute the next states.
+     */
+    public List<SubJob> partition(int numberOfPartitions, ToDoubleFunction<? super State> subtreeSize) {
+        if (numberOfPartitions < 1) {
+            throw new IllegalArgumentException("The number of partitions should be positive.");
+        }
+
+        StateCodec<State> stateCodec = configuration.getStateCodec();
+        if (stateCodec == null) {
+            throw new IllegalStateException("A state codec is required for partitioning a job.");
         }
 
-        while (!(states.isEmpty() && futureStates.isEmpty())) {
-            while (!states.isEmpty()) {
-                State state = states.poll();
-                Future<Void> future = workers.submit(
-                        new RunnableTask(state, taskInstance, nextStates -> addStates(states, nextStates)));
-                futureStates.addLast(future);
+        prepareRun();
+        List<State> frontier = rampUp(numberOfPartitions * STATES_PER_PARTITION, subtreeSize);
+        frontier.sort(Comparator.comparingDouble((State state) -> subtreeSize.applyAsDouble(state)).reversed());
+
+        List<List<State>> partitions = new ArrayList<>(numberOfPartitions);
+        double[] sizes = new double[numberOfPartitions];
+        PriorityQueue<Integer> smallest = new PriorityQueue<>(numberOfPartitions,
+                Comparator.comparingDouble((Integer partition) -> sizes[partition]).thenComparing(partition -> partition));
+        for (int i = 0; i < numberOfPartitions; i++) {
+            partitions.add(new ArrayList<>());
+            smallest.add(i);
+        }
+
+        for (State state : frontier) {
+            int partition = smallest.poll();
+            partitions.get(partition).add(state);
+            sizes[partition] += subtreeSize.applyAsDouble(state);
+            smallest.add(partition);
+        }
+
+        List<SubJob> subJobs = new ArrayList<>(numberOfPartitions);
+        for (int i = 0; i < numberOfPartitions; i++) {
+            subJobs.add(new SubJob(checkpoint(partitions.get(i)), sizes[i], stateCodec));
+        }
+        return subJobs;
+    }
+
+    /**
+     * Splits the job into the given number of independent sub-jobs,
+     * assuming every subtree of the frontier has the same size.
+     *
+     * @param numberOfPartitions number of sub-jobs
+     * @return exactly numberOfPartitions {@link SubJob}s
+     * @see #partition(int, ToDoubleFunction)
+     */
+    public List<SubJob> partition(int numberOfPartitions) {
+        return partition(numberOfPartitions, state -> 1);
+    }
+
+    /**
+     * Combines the results of the sub-jobs created by the last
+     * {@link #partition(int, ToDoubleFunction)} of this job, with
+     * the solutions and the states expanded while partitioning.
+     *
+     * @param results results of the sub-jobs
+     * @return {@link JobResult} of the whole job, stopped if any sub-job was stopped
+     */
+    public JobResult merge(Collection<JobResult> results) {
+        Incumbent best = incumbent.get();
+        State bestSolution = best.getSolution();
+        double bestValue = best.getValue();
+        double bestBound = Double.POSITIVE_INFINITY;
+        long mergedExpandedStates = expandedStates.sum();
+        long hits = 0;
+        long misses = 0;
+        long evictions = 0;
+        StopReason mergedStopReason = null;
+
+        for (JobResult result : results) {
+            if (result.getBestValue() < bestValue) {
+                bestSolution = result.getBestSolution();
+                bestValue = result.getBestValue();
+            }
+            bestBound = Math.min(bestBound, result.getBestBound());
+            mergedExpandedStates += result.getExpandedStates();
+            hits += result.getTranspositionStatistics().getHits();
+            misses += result.getTranspositionStatistics().getMisses();
+            evictions += result.getTranspositionStatistics().getEvictions();
+            if (mergedStopReason == null) {
+                mergedStopReason = result.getStopReason();
             }
+        }
+
+        return new JobResult(bestSolution, bestValue, Math.min(bestValue, bestBound), mergedExpandedStates,
+                new TranspositionStatistics(hits, misses, evictions), mergedStopReason);
+    }
+
+    /**
+     * Method for offering a candidate solution to the job.
+     *
+     * The solution becomes the incumbent only if its value is
+     * strictly smaller than the best value found so far, hence the
+     * incumbent never gets worse. Once set, every {@link BoundedState}
+     * whose bound is not smaller than the incumbent value is dropped
+     * before entering the search strategy and again when it is
+     * retrieved, so it never reaches {@link Task#expand(State, StateSink)}.
+     *
+     * @param solution candidate solution
+     * @param value value of the candidate solution
+     * @return <code>true</code> if the solution became the incumbent,
+     *         <code>false</code> otherwise.
+     */
+    public boolean offerSolution(State solution, double value) {
+        Incumbent candidate = new Incumbent(solution, value);
+        Incumbent current = incumbent.get();
 
-            while (!futureStates.isEmpty() && futureStates.peekFirst().isDone()) {
-                futureStates.pollFirst();
+        while (value < current.getValue()) {
+            if (incumbent.compareAndSet(current, candidate)) {
+                BiConsumer<State, Double> listener = solutionListener;
+                if (listener != null) {
+                    listener.accept(solution, value);
+                }
+                checkEarlyStop();
+                return true;
             }
+            current = incumbent.get();
         }
 
-        workers.shutdown();
+        return false;
+    }
+
+    /**
+     * Returns the best solution offered so far.
+     *
+     * @return best solution, or null if no solution has been offered.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends State> T getBestSolution() {
+        return (T) incumbent.get().getSolution();
+    }
+
+    /**
+     * Returns the value of the best solution offered so far.
+     *
+     * @return best value, or {@link Double#POSITIVE_INFINITY}
+     *         if no solution has been offered.
+     */
+    public double getBestValue() {
+        return incumbent.get().getValue();
+    }
+
+    /**
+     * Returns the counters of the transposition table
+     * of the last run of the job.
+     *
+     * @return {@link TranspositionStatistics}, all zero if duplicate
+     *         detection is disabled or the job was not started.
+     */
+    public TranspositionStatistics getTranspositionStatistics() {
+        TranspositionTable table = transpositionTable;
+        return table == null ? TranspositionStatistics.EMPTY : table.getStatistics();
     }
 
     /**
      * Method for querying an registered resource.
      *
+     * The read is volatile, hence it sees the latest
+     * update of the position by any other worker.
+     *
      * @param name key for the resource
      * @param position array position in the resource
      * @return value at the given position
      */
     public <T> T queryArray(String name, int position) {
-        T[] arr = getArray(name);
-        return arr[position];
+        AtomicReferenceArray<T> arr = getArray(name);
+        return arr.get(position);
+    }
+
+    /**
+     * Method for copying a range of a registered resource
+     * as one consistent group.
+     *
+     * The copy is taken without blocking the writers: it is
+     * retried until no update of the range happens while copying.
+     *
+     * @param name key for the resource
+     * @param from first position of the range, inclusive
+     * @param to last position of the range, exclusive
+     * @return values of the range
+     * @throws IndexOutOfBoundsException if the range is not within the resource
+     */
+    public Object[] snapshotRange(String name, int from, int to) {
+        AtomicReferenceArray<Object> arr = getArray(name);
+        checkRange(from, to, arr.length());
+
+        return getVersions(name).read(from, to, () -> {
+            Object[] values = new Object[to - from];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = arr.get(from + i);
+            }
+            return values;
+        });
     }
 
     /**
@@ -160,10 +601,16 @@ public class Job {
      * @param position array position in the resource
      */
     public <T> void updateArray(String name, T value, int position) {
-        T[] arr = getArray(name);
+        AtomicReferenceArray<T> arr = getArray(name);
+        ArrayVersions versions = getVersions(name);
 
-        synchronized (registeredLocks.get(name)[position]) {
-            arr[position] = value;
+        synchronized (registeredLocks.get(name).lockFor(position)) {
+            versions.beginWrite(position);
+            try {
+                arr.set(position, value);
+            } finally {
+                versions.endWrite(position);
+            }
         }
     }
 
@@ -171,107 +618,1074 @@ public class Job {
      * Method for applying a function on
      * a given position in a registered resource.
      *
+     * The function runs while holding the lock of the position, so
+     * it is applied once, but a slow function blocks the other updates
+     * guarded by the same lock. Concurrent lock-free updates are not
+     * blocked; if one of them changes the value meanwhile, the function
+     * is applied again on the new value. The locks are reentrant, so the
+     * function may update another position guarded by the same lock, but
+     * two threads nesting updates in opposite orders may deadlock, which
+     * with striped or single locking also holds for distinct positions.
+     *
      * @param name key for the resource
      * @param function to be applied
      * @param position array position in the resource
      */
     public void applyOnArray(String name, Function function, int position) {
-        Object[] arr = getArray(name);
+        AtomicReferenceArray<Object> arr = getArray(name);
+        ArrayVersions versions = getVersions(name);
 
-        synchronized (registeredLocks.get(name)[position]) {
-            arr[position] = function.apply(arr[position]);
+        synchronized (registeredLocks.get(name).lockFor(position)) {
+            Object current;
+            do {
+                current = arr.get(position);
+            } while (!compareAndSet(arr, versions, position, current, function.apply(current)));
         }
     }
 
-    private void addStates(SearchStrategy<State> states, Collection<? extends State> nextStates) {
-        for (State nextState : nextStates) {
-            try {
-                states.put(nextState);
-            } catch (InterruptedException interruptedException) {
-                throw new StateException("Failed to add a next state.", interruptedException);
+    /**
+     * Method for atomically setting a position in a registered
+     * resource if it holds the expected value, without locking.
+     *
+     * The values are compared by identity, hence the expected
+     * value should be the one previously read from the array.
+     *
+     * @param name key for the resource
+     * @param expected expected value
+     * @param value new value
+     * @param position array position in the resource
+     * @return <code>true</code> if the value was set, <code>false</code> otherwise.
+     */
+    public <T> boolean compareAndSetArray(String name, T expected, T value, int position) {
+        AtomicReferenceArray<T> arr = getArray(name);
+        return compareAndSet(arr, getVersions(name), position, expected, value);
+    }
+
+    /**
+     * Method for atomically applying a function on a given
+     * position in a registered resource, without locking.
+     *
+     * The function may be applied more than once under
+     * contention, hence it should be free of side effects.
+     *
+     * @param name key for the resource
+     * @param function to be applied
+     * @param position array position in the resource
+     * @return the new value
+     */
+    public <T> T updateAndGetArray(String name, UnaryOperator<T> function, int position) {
+        AtomicReferenceArray<T> arr = getArray(name);
+        ArrayVersions versions = getVersions(name);
+
+        while (true) {
+            T current = arr.get(position);
+            T next = function.apply(current);
+            if (compareAndSet(arr, versions, position, current, next)) {
+                return next;
             }
         }
     }
 
-    private <T> T[] getArray(String name) {
-        if (!registeredArrays.containsKey(name)) {
-            throw new IllegalArgumentException(String.format("No array found for the name: %s.", name));
+    /**
+     * Method for atomically combining a given position in a
+     * registered resource with a value, without locking
+     * (e.g. keeping the best bound through {@link Math#min}).
+     *
+     * The function may be applied more than once under
+     * contention, hence it should be free of side effects.
+     *
+     * @param name key for the resource
+     * @param value value combined with the current one
+     * @param function combining the current value with the given one
+     * @param position array position in the resource
+     * @return the new value
+     */
+    public <T> T accumulateAndGetArray(String name, T value, BinaryOperator<T> function, int position) {
+        AtomicReferenceArray<T> arr = getArray(name);
+        ArrayVersions versions = getVersions(name);
+
+        while (true) {
+            T current = arr.get(position);
+            T next = function.apply(current, value);
+            if (compareAndSet(arr, versions, position, current, next)) {
+                return next;
+            }
         }
+    }
 
-        return (T[]) registeredArrays.get(name);
+    /**
+     * Method for querying a registered int resource.
+     *
+     * @param name key for the resource
+     * @param position array position in the resource
+     * @return value at the given position
+     */
+    public int queryIntArray(String name, int position) {
+        return getIntArray(name).get(position);
     }
 
-    private Object[] createLockArray(int length) {
-        Object[] lock = new Object[length];
-        for (int i = 0; i < lock.length; i++) {
-            lock[i] = new Object();
-        }
-        return lock;
+    /**
+     * Method for copying a range of a registered int
+     * resource as one consistent group, without blocking
+     * the writers.
+     *
+     * @param name key for the resource
+     * @param from first position of the range, inclusive
+     * @param to last position of the range, exclusive
+     * @return values of the range
+     * @throws IndexOutOfBoundsException if the range is not within the resource
+     */
+    public int[] snapshotIntRange(String name, int from, int to) {
+        AtomicIntegerArray arr = getIntArray(name);
+        checkRange(from, to, arr.length());
+
+        return getVersions(name).read(from, to, () -> {
+            int[] values = new int[to - from];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = arr.get(from + i);
+            }
+            return values;
+        });
     }
 
-    private Task getTaskInstance() {
-        try {
-            Task taskInstance = task.newInstance();
-            taskInstance.setJob(this);
-            return taskInstance;
-        } catch (InstantiationException | IllegalAccessException exception) {
-            throw new TaskException(String.format("Failed to instantiate the Task: %s.", task.getName()),
-                    exception);
-        }
+    /**
+     * Method for updating a registered int resource.
+     *
+     * @param name key for the resource
+     * @param value new value
+     * @param position array position in the resource
+     */
+    public void updateIntArray(String name, int value, int position) {
+        setInt(getIntArray(name), getVersions(name), position, value);
     }
 
     /**
-     * Implementation of the Builder creational pattern.
+     * Method for atomically applying a function on
+     * a given position in a registered int resource.
+     *
+     * The function may be applied more than once under
+     * contention, hence it should be free of side effects.
+     *
+     * @param name key for the resource
+     * @param function to be applied
+     * @param position array position in the resource
+     * @return the new value
      */
-    public static final class Builder {
-        private Configuration configuration = new Configuration.Builder().build();
-        private Class<? extends Task> task;
-        private Map<String, Object[]> registeredArrays = new HashMap<>();
-        private State initialState;
+    public int applyOnIntArray(String name, IntUnaryOperator function, int position) {
+        AtomicIntegerArray arr = getIntArray(name);
+        ArrayVersions versions = getVersions(name);
 
-        /**
-         * Return {@link Builder} instance with the {@link Configuration}
-         * field set.
-         *
-         * @param configuration value for the {@link Configuration} field
-         * @return {@link Builder} instance
-         */
-        public Builder withConfiguration(Configuration configuration) {
-            this.configuration = configuration;
-            return this;
+        while (true) {
+            int current = arr.get(position);
+            int next = function.applyAsInt(current);
+            if (compareAndSetInt(arr, versions, position, current, next)) {
+                return next;
+            }
         }
+    }
 
-        /**
-         * Returns {@link Builder} instance with the {@link Task} class set.
-         *
-         * @param task class for {@link Task} implementation
-         * @return {@link Builder} instance
-         */
-        public Builder withTask(Class<? extends Task> task) {
-            this.task = task;
-            return this;
-        }
+    /**
+     * Method for querying a registered long resource.
+     *
+     * @param name key for the resource
+     * @param position array position in the resource
+     * @return value at the given position
+     */
+    public long queryLongArray(String name, int position) {
+        return getLongArray(name).get(position);
+    }
 
-        /**
-         * Returns {@link Builder} instance with a new resource registered.
-         *
-         * @param name key for the resource
-         * @param arr array structure
-         * @return
-         */
-        public Builder registerArray(String name, Object[] arr) {
-            if (this.registeredArrays.containsKey(name)) {
-                throw new IllegalArgumentException("An array with the same name is already registered.");
-            }
+    /**
+     * Method for copying a range of a registered long
+     * resource as one consistent group, without blocking
+     * the writers.
+     *
+     * @param name key for the resource
+     * @param from first position of the range, inclusive
+     * @param to last position of the range, exclusive
+     * @return values of the range
+     * @throws IndexOutOfBoundsException if the range is not within the resource
+     */
+    public long[] snapshotLongRange(String name, int from, int to) {
+        AtomicLongArray arr = getLongArray(name);
+        checkRange(from, to, arr.length());
 
-            registeredArrays.put(name, arr.clone());
-            return this;
-        }
+        return getVersions(name).read(from, to, () -> {
+            long[] values = new long[to - from];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = arr.get(from + i);
+            }
+            return values;
+        });
+    }
 
-        /**
-         * Returns {@link Builder} instance with the initial state set.
-         *
-         * @param initialState value for the initial state
+    /**
+     * Method for updating a registered long resource.
+     *
+     * @param name key for the resource
+     * @param value new value
+     * @param position array position in the resource
+     */
+    public void updateLongArray(String name, long value, int position) {
+        setLong(getLongArray(name), getVersions(name), position, value);
+    }
+
+    /**
+     * Method for atomically applying a function on
+     * a given position in a registered long resource.
+     *
+     * The function may be applied more than once under
+     * contention, hence it should be free of side effects.
+     *
+     * @param name key for the resource
+     * @param function to be applied
+     * @param position array position in the resource
+     * @return the new value
+     */
+    public long applyOnLongArray(String name, LongUnaryOperator function, int position) {
+        AtomicLongArray arr = getLongArray(name);
+        ArrayVersions versions = getVersions(name);
+
+        while (true) {
+            long current = arr.get(position);
+            long next = function.applyAsLong(current);
+            if (compareAndSetLong(arr, versions, position, current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Method for querying a registered double resource.
+     *
+     * @param name key for the resource
+     * @param position array position in the resource
+     * @return value at the given position
+     */
+    public double queryDoubleArray(String name, int position) {
+        return Double.longBitsToDouble(getDoubleArray(name).get(position));
+    }
+
+    /**
+     * Method for copying a range of a registered double
+     * resource as one consistent group, without blocking
+     * the writers.
+     *
+     * @param name key for the resource
+     * @param from first position of the range, inclusive
+     * @param to last position of the range, exclusive
+     * @return values of the range
+     * @throws IndexOutOfBoundsException if the range is not within the resource
+     */
+    public double[] snapshotDoubleRange(String name, int from, int to) {
+        AtomicLongArray arr = getDoubleArray(name);
+        checkRange(from, to, arr.length());
+
+        return getVersions(name).read(from, to, () -> {
+            double[] values = new double[to - from];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = Double.longBitsToDouble(arr.get(from + i));
+            }
+            return values;
+        });
+    }
+
+    /**
+     * Method for updating a registered double resource.
+     *
+     * @param name key for the resource
+     * @param value new value
+     * @param position array position in the resource
+     */
+    public void updateDoubleArray(String name, double value, int position) {
+        setLong(getDoubleArray(name), getVersions(name), position, Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Method for atomically applying a function on
+     * a given position in a registered double resource.
+     *
+     * The function may be applied more than once under
+     * contention, hence it should be free of side effects.
+     *
+     * @param name key for the resource
+     * @param function to be applied
+     * @param position array position in the resource
+     * @return the new value
+     */
+    public double applyOnDoubleArray(String name, DoubleUnaryOperator function, int position) {
+        AtomicLongArray arr = getDoubleArray(name);
+        ArrayVersions versions = getVersions(name);
+
+        while (true) {
+            long current = arr.get(position);
+            double next = function.applyAsDouble(Double.longBitsToDouble(current));
+            if (compareAndSetLong(arr, versions, position, current, Double.doubleToRawLongBits(next))) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Method for querying a registered map resource.
+     *
+     * @param name key for the resource
+     * @param key key in the map
+     * @return value of the key, or null if the key is absent
+     */
+    public <V> V queryMap(String name, long key) {
+        ConcurrentLongMap<V> map = getMap(name);
+        return map.get(key);
+    }
+
+    /**
+     * Method for updating a registered map resource.
+     *
+     * @param name key for the resource
+     * @param key key in the map
+     * @param value new value, or null for removing the key
+     * @throws IllegalStateException if the key is new and the map is full
+     */
+    public <V> void updateMap(String name, long key, V value) {
+        ConcurrentLongMap<V> map = getMap(name);
+        map.put(key, value);
+    }
+
+    /**
+     * Method for atomically applying a function on
+     * the value of a key in a registered map resource.
+     *
+     * The function gets null for an absent key and may return null
+     * for removing it. It may be applied more than once under
+     * contention, hence it should be free of side effects.
+     *
+     * @param name key for the resource
+     * @param key key in the map
+     * @param function to be applied
+     * @return the new value
+     * @throws IllegalStateException if the key is new and the map is full
+     */
+    public <V> V applyOnMap(String name, long key, UnaryOperator<V> function) {
+        ConcurrentLongMap<V> map = getMap(name);
+        return map.compute(key, function);
+    }
+
+    /**
+     * Checks if a state can not lead to a solution
+     * better than the current incumbent.
+     *
+     * @param state state to be checked
+     * @return <code>true</code> if the state should be pruned
+     */
+    boolean isDominated(State state) {
+        return state instanceof BoundedState
+                && ((BoundedState) state).getBound() >= incumbent.get().getValue();
+    }
+
+    /**
+     * Checks if a state was already reached along another branch
+     * with a bound at least as good, recording it otherwise.
+     * Only {@link HashableState}s are checked, and only when
+     * duplicate detection is enabled.
+     *
+     * @param state state to be checked
+     * @return <code>true</code> if the state should be skipped
+     */
+    boolean isDuplicate(State state) {
+        TranspositionTable table = transpositionTable;
+        if (table == null || !(state instanceof HashableState)) {
+            return false;
+        }
+
+        double bound = state instanceof BoundedState
+                ? ((BoundedState) state).getBound()
+                : Double.NEGATIVE_INFINITY;
+        return table.isDuplicate(((HashableState) state).getFingerprint(), bound);
+    }
+
+    /**
+     * Checks whether the given state is the best solution found so far,
+     * which is referenced by the job and hence never recycled.
+     */
+    boolean isBestSolution(State state) {
+        return incumbent.get().getSolution() == state;
+    }
+
+    /**
+     * Copies the registered arrays and the incumbent, together
+     * with the given states which are still to be explored.
+     *
+     * @param frontier states still to be explored
+     * @return {@link Checkpoint} of the current progress
+     */
+    Checkpoint checkpoint(List<State> frontier) {
+        Map<String, Object> arrays = new LinkedHashMap<>();
+        registeredArrays.forEach((name, arr) -> {
+            Object[] copy = new Object[arr.length()];
+            for (int i = 0; i < copy.length; i++) {
+                copy[i] = arr.get(i);
+            }
+            arrays.put(name, copy);
+        });
+        registeredIntArrays.forEach((name, arr) -> {
+            int[] copy = new int[arr.length()];
+            for (int i = 0; i < copy.length; i++) {
+                copy[i] = arr.get(i);
+            }
+            arrays.put(name, copy);
+        });
+        registeredLongArrays.forEach((name, arr) -> {
+            long[] copy = new long[arr.length()];
+            for (int i = 0; i < copy.length; i++) {
+                copy[i] = arr.get(i);
+            }
+            arrays.put(name, copy);
+        });
+        registeredDoubleArrays.forEach((name, arr) -> {
+            double[] copy = new double[arr.length()];
+            for (int i = 0; i < copy.length; i++) {
+                copy[i] = Double.longBitsToDouble(arr.get(i));
+            }
+            arrays.put(name, copy);
+        });
+        registeredMaps.forEach((name, map) -> {
+            ConcurrentLongMap<Object> copy = new ConcurrentLongMap<>(map.getCapacity());
+            map.forEach(copy::put);
+            arrays.put(name, copy);
+        });
+
+        return new Checkpoint(incumbent.get(), arrays, frontier);
+    }
+
+    private void restore(Checkpoint checkpoint) {
+        checkpoint.getArrays().forEach((name, arr) -> {
+            if (!isRegistered(name)) {
+                registerCheckpointArray(name, arr);
+            } else if (arr instanceof int[]) {
+                int[] values = (int[]) arr;
+                AtomicIntegerArray registeredArray = getIntArray(name);
+                checkCheckpointLength(name, registeredArray.length(), values.length);
+                for (int i = 0; i < values.length; i++) {
+                    registeredArray.set(i, values[i]);
+                }
+            } else if (arr instanceof long[]) {
+                long[] values = (long[]) arr;
+                AtomicLongArray registeredArray = getLongArray(name);
+                checkCheckpointLength(name, registeredArray.length(), values.length);
+                for (int i = 0; i < values.length; i++) {
+                    registeredArray.set(i, values[i]);
+                }
+            } else if (arr instanceof ConcurrentLongMap) {
+                ConcurrentLongMap<Object> registeredMap = getMap(name);
+                ((ConcurrentLongMap<?>) arr).forEach(registeredMap::put);
+            } else if (arr instanceof double[]) {
+                double[] values = (double[]) arr;
+                AtomicLongArray registeredArray = getDoubleArray(name);
+                checkCheckpointLength(name, registeredArray.length(), values.length);
+                for (int i = 0; i < values.length; i++) {
+                    registeredArray.set(i, Double.doubleToRawLongBits(values[i]));
+                }
+            } else {
+                Object[] values = (Object[]) arr;
+                AtomicReferenceArray<Object> registeredArray = getArray(name);
+                checkCheckpointLength(name, registeredArray.length(), values.length);
+                for (int i = 0; i < values.length; i++) {
+                    registeredArray.set(i, values[i]);
+                }
+            }
+        });
+
+        Incumbent checkpointIncumbent = checkpoint.getIncumbent();
+        offerSolution(checkpointIncumbent.getSolution(), checkpointIncumbent.getValue());
+    }
+
+    private void registerCheckpointArray(String name, Object arr) {
+        if (arr instanceof int[]) {
+            registerIntArray(name, (int[]) arr);
+        } else if (arr instanceof long[]) {
+            registerLongArray(name, (long[]) arr);
+        } else if (arr instanceof double[]) {
+            registerDoubleArray(name, (double[]) arr);
+        } else if (arr instanceof ConcurrentLongMap) {
+            @SuppressWarnings("unchecked")
+            ConcurrentLongMap<Object> map = (ConcurrentLongMap<Object>) arr;
+            registeredMaps.put(name, map);
+        } else {
+            registerArray(name, (Object[]) arr);
+        }
+    }
+
+    private void checkCheckpointLength(String name, int length, int checkpointLength) {
+        if (length != checkpointLength) {
+            throw new IllegalArgumentException(String.format("The array: %s has a different length" +
+                    " in the checkpoint.", name));
+        }
+    }
+
+    private boolean isRegistered(String name) {
+        return registeredArrays.containsKey(name)
+                || registeredIntArrays.containsKey(name)
+                || registeredLongArrays.containsKey(name)
+                || registeredDoubleArrays.containsKey(name)
+                || registeredMaps.containsKey(name);
+    }
+
+    private void checkNotRegistered(String name) {
+        if (isRegistered(name)) {
+            throw new IllegalArgumentException("A resource with the same name is already registered.");
+        }
+    }
+
+    private static <T> boolean compareAndSet(AtomicReferenceArray<T> arr, ArrayVersions versions, int position,
+                                             T expected, T value) {
+        versions.beginWrite(position);
+        try {
+            return arr.compareAndSet(position, expected, value);
+        } finally {
+            versions.endWrite(position);
+        }
+    }
+
+    private static boolean compareAndSetInt(AtomicIntegerArray arr, ArrayVersions versions, int position,
+                                            int expected, int value) {
+        versions.beginWrite(position);
+        try {
+            return arr.compareAndSet(position, expected, value);
+        } finally {
+            versions.endWrite(position);
+        }
+    }
+
+    private static void setInt(AtomicIntegerArray arr, ArrayVersions versions, int position, int value) {
+        versions.beginWrite(position);
+        try {
+            arr.set(position, value);
+        } finally {
+            versions.endWrite(position);
+        }
+    }
+
+    private static boolean compareAndSetLong(AtomicLongArray arr, ArrayVersions versions, int position,
+                                             long expected, long value) {
+        versions.beginWrite(position);
+        try {
+            return arr.compareAndSet(position, expected, value);
+        } finally {
+            versions.endWrite(position);
+        }
+    }
+
+    private static void setLong(AtomicLongArray arr, ArrayVersions versions, int position, long value) {
+        versions.beginWrite(position);
+        try {
+            arr.set(position, value);
+        } finally {
+            versions.endWrite(position);
+        }
+    }
+
+    private static void checkRange(int from, int to, int length) {
+        if (from < 0 || to > length || from > to) {
+            throw new IndexOutOfBoundsException(String.format("The range: [%d, %d) is not within" +
+                    " the array of length: %d.", from, to, length));
+        }
+    }
+
+    private ArrayVersions getVersions(String name) {
+        return registeredVersions.get(name);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> AtomicReferenceArray<T> getArray(String name) {
+        return (AtomicReferenceArray<T>) (AtomicReferenceArray<?>) getRegistered(registeredArrays, name);
+    }
+
+    private AtomicIntegerArray getIntArray(String name) {
+        return getRegistered(registeredIntArrays, name);
+    }
+
+    private AtomicLongArray getLongArray(String name) {
+        return getRegistered(registeredLongArrays, name);
+    }
+
+    private AtomicLongArray getDoubleArray(String name) {
+        return getRegistered(registeredDoubleArrays, name);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> ConcurrentLongMap<V> getMap(String name) {
+        return (ConcurrentLongMap<V>) (ConcurrentLongMap<?>) getRegistered(registeredMaps, name);
+    }
+
+    private static <A> A getRegistered(Map<String, A> registered, String name) {
+        A arr = registered.get(name);
+        if (arr == null) {
+            throw new IllegalArgumentException(String.format("No resource found for the name: %s.", name));
+        }
+
+        return arr;
+    }
+
+    /**
+     * Checks if the expansion of the states should stop.
+     *
+     * @return <code>true</code> if the job was cancelled or stopped early
+     */
+    boolean isStopRequested() {
+        return stopReason.get() != null;
+    }
+
+    /**
+     * Stops the running computation, keeping the first reason given.
+     *
+     * @param reason reason for stopping
+     */
+    void stop(StopReason reason) {
+        stopReason.compareAndSet(null, reason);
+
+        ExecutionEngine engine = runningEngine;
+        if (engine != null) {
+            engine.stop();
+        }
+    }
+
+    /**
+     * Adds to the number of states passed to {@link Task#expand(State, StateSink)},
+     * stopping the job once the node limit is reached.
+     *
+     * @param count number of states expanded
+     */
+    void countExpandedStates(int count) {
+        expandedStates.add(count);
+
+        long nodeLimit = configuration.getNodeLimit();
+        if (nodeLimit != Long.MAX_VALUE && expandedStates.sum() >= nodeLimit) {
+            stop(StopReason.NODE_LIMIT);
+        }
+    }
+
+    /**
+     * Returns the metrics of the current run.
+     *
+     * @return {@link Instrumentation}, or null if statistics are not enabled
+     */
+    Instrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
+    /**
+     * Sets the callback notified of every better solution,
+     * from the thread which offered it.
+     *
+     * @param solutionListener callback taking the solution and its value, or null
+     */
+    void setSolutionListener(BiConsumer<State, Double> solutionListener) {
+        this.solutionListener = solutionListener;
+    }
+
+    /**
+     * Explores the subtrees rooted in the given states instead
+     * of the initial state, keeping the incumbent.
+     *
+     * @param states roots of the subtrees
+     * @return {@link JobResult} of the exploration
+     */
+    JobResult explore(Collection<? extends State> states) {
+        prepareRun();
+        return run(states);
+    }
+
+    /**
+     * Takes states waiting to be explored out of the running exploration.
+     *
+     * @param maximum maximum number of states to be given away
+     * @return states given away, none if the job is not running
+     */
+    List<State> donate(int maximum) {
+        ExecutionEngine engine = runningEngine;
+        return engine == null ? Collections.emptyList() : engine.donate(maximum);
+    }
+
+    /**
+     * Records a state left unexplored because the job was stopped,
+     * so its bound is taken into account by the proven lower bound.
+     *
+     * @param state unexplored state
+     */
+    void recordUnexplored(State state) {
+        recordUnexploredBound(state instanceof BoundedState
+                ? ((BoundedState) state).getBound()
+                : Double.NEGATIVE_INFINITY);
+    }
+
+    /**
+     * Records the bound of states left unexplored because the job
+     * was stopped, or {@link Double#NEGATIVE_INFINITY} if they are
+     * not known.
+     *
+     * @param bound lower bound of the unexplored states
+     */
+    void recordUnexploredBound(double bound) {
+        unexploredBound.accumulate(bound);
+    }
+
+    /**
+     * Resets the state of the previous run, in the calling
+     * thread, so a cancellation right after starting is kept.
+     */
+    private void prepareRun() {
+        stopReason.set(null);
+        unexploredBound.reset();
+        runningBound = Double.NEGATIVE_INFINITY;
+        expandedStates.reset();
+        transpositionTable = createTranspositionTable();
+        instrumentation = configuration.isStatisticsEnabled() ? new Instrumentation() : null;
+    }
+
+    private JobResult run(Collection<? extends State> states) {
+        ExecutionEngine engine = getExecutionEngine(getWorkerTasks());
+        ObjectName mbeanName = registerMBean();
+        Runnable recorderHook = instrumentation == null ? null : FlightRecorderEvents.register(this);
+        ScheduledExecutorService timers = scheduleTimers(engine);
+
+        runningEngine = engine;
+        try {
+            if (isStopRequested()) {
+                states.forEach(this::recordUnexplored);
+            } else {
+                engine.run(states);
+            }
+        } finally {
+            runningEngine = null;
+            if (timers != null) {
+                timers.shutdownNow();
+            }
+            if (instrumentation != null) {
+                instrumentation.finish();
+                FlightRecorderEvents.unregister(recorderHook);
+            }
+            unregisterMBean(mbeanName);
+        }
+
+        return getResult();
+    }
+
+    private ObjectName registerMBean() {
+        String jmxName = configuration.getJmxName();
+        if (jmxName == null) {
+            return null;
+        }
+
+        try {
+            ObjectName name = new ObjectName("gbb:type=Job,name=" + ObjectName.quote(jmxName));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(
+                    new StandardMBean(new SearchStatisticsBean(this), SearchStatisticsMXBean.class, true), name);
+            return name;
+        } catch (JMException exception) {
+            throw new IllegalStateException(
+                    String.format("Failed to register the statistics of the job: %s in JMX.", jmxName), exception);
+        }
+    }
+
+    private void unregisterMBean(ObjectName name) {
+        if (name == null) {
+            return;
+        }
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        } catch (JMException exception) {
+            // already unregistered, nothing is left behind
+        }
+    }
+
+    /**
+     * Expands the state with the largest estimated subtree, breadth-first
+     * among equal estimates, until the frontier has the given size.
+     */
+    private List<State> rampUp(int frontierSize, ToDoubleFunction<? super State> subtreeSize) {
+        Task<State> rampUpTask = getWorkerTasks().get();
+        PriorityQueue<RampUpState> frontier = new PriorityQueue<>();
+        List<State> children = new ArrayList<>();
+        long order = 0;
+
+        if (initialState != null) {
+            frontier.add(new RampUpState(initialState, subtreeSize.applyAsDouble(initialState), order++));
+        }
+
+        while (!frontier.isEmpty() && frontier.size() < frontierSize) {
+            State state = frontier.poll().state;
+            if (isDominated(state)) {
+                continue;
+            }
+
+            children.clear();
+            countExpandedStates(1);
+            try {
+                rampUpTask.expand(state, children::add);
+            } catch (RuntimeException exception) {
+                throw new TaskException("Failed to compute the next states.", exception);
+            }
+
+            for (State child : children) {
+                if (!isDominated(child) && !isDuplicate(child)) {
+                    frontier.add(new RampUpState(child, subtreeSize.applyAsDouble(child), order++));
+                }
+            }
+        }
+
+        List<State> states = new ArrayList<>(frontier.size());
+        for (RampUpState rampUpState : frontier) {
+            if (!isDominated(rampUpState.state)) {
+                states.add(rampUpState.state);
+            }
+        }
+        return states;
+    }
+
+    /**
+     * Schedules the time limit and the refreshes of the running bound
+     * on a daemon thread, which never runs an expansion, so it may wait
+     * for the workers to pause.
+     */
+    private ScheduledExecutorService scheduleTimers(ExecutionEngine engine) {
+        long timeLimit = configuration.getTimeLimit();
+        long boundInterval = configuration.getBoundInterval();
+        if (timeLimit == 0 && boundInterval == 0) {
+            return null;
+        }
+
+        ScheduledExecutorService timers = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "gbb-timers");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (timeLimit > 0) {
+            timers.schedule(() -> stop(StopReason.TIME_LIMIT), timeLimit, TimeUnit.MILLISECONDS);
+        }
+        if (boundInterval > 0) {
+            timers.scheduleWithFixedDelay(() -> refreshBound(engine), boundInterval, boundInterval,
+                    TimeUnit.MILLISECONDS);
+        }
+        return timers;
+    }
+
+    private void refreshBound(ExecutionEngine engine) {
+        runningBound = engine.lowerBound();
+        checkEarlyStop();
+    }
+
+    private void checkEarlyStop() {
+        Predicate<JobResult> earlyStop = configuration.getEarlyStop();
+        if (earlyStop != null && !isStopRequested() && earlyStop.test(getResult())) {
+            stop(StopReason.EARLY_STOP);
+        }
+    }
+
+    private TranspositionTable createTranspositionTable() {
+        int capacity = configuration.getTranspositionTableCapacity();
+        return capacity == 0 ? null : new TranspositionTable(capacity);
+    }
+
+    private ExecutionEngine getExecutionEngine(Supplier<Task<State>> workerTasks) {
+        if (configuration.getExecutionEngineType() == ExecutionEngineType.WORK_STEALING) {
+            return new WorkStealingEngine(this, workerTasks, configuration);
+        }
+
+        return new SharedFrontierEngine(this, getSearchStrategy(), workerTasks, configuration);
+    }
+
+    private SearchStrategy<State> getSearchStrategy() {
+        if (configuration.getSearchStrategySupplier() != null) {
+            return configuration.getSearchStrategySupplier().get();
+        }
+
+        int numberOfWorkers = configuration.getExecutorType() == ExecutorType.VIRTUAL_THREADS
+                ? configuration.getExpansionPermits()
+                : configuration.getNumberOfExecutors();
+        SearchStrategyFactory<State> searchStrategyFactory = new SearchStrategyFactory<>();
+        return searchStrategyFactory.getInstance(configuration.getSearchStrategyType(), numberOfWorkers);
+    }
+
+    /**
+     * Returns the supplier called once by every worker for its
+     * {@link Task}: a new instance from the task factory, or else
+     * one instance of the {@link Task} class shared by all workers.
+     */
+    private Supplier<Task<State>> getWorkerTasks() {
+        if (taskFactory != null) {
+            return this::createTaskFromFactory;
+        }
+
+        if (task == null) {
+            throw new IllegalStateException("No Task is set for the job.");
+        }
+
+        Task<State> taskInstance = getTaskInstance();
+        return () -> taskInstance;
+    }
+
+    /**
+     * The tasks are only ever given the states they create, starting
+     * from the initial state of the job, hence they are used as tasks
+     * of any {@link State}.
+     */
+    @SuppressWarnings("unchecked")
+    private Task<State> createTaskFromFactory() {
+        Task<State> taskInstance = (Task<State>) taskFactory.get();
+        if (taskInstance == null) {
+            throw new IllegalStateException("The Task factory returned no instance.");
+        }
+
+        taskInstance.setJob(this);
+        return taskInstance;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Task<State> getTaskInstance() {
+        try {
+            Task<State> taskInstance = (Task<State>) task.getConstructor().newInstance();
+            taskInstance.setJob(this);
+            return taskInstance;
+        } catch (ReflectiveOperationException exception) {
+            throw new TaskException(String.format("Failed to instantiate the Task: %s.", task.getName()),
+                    exception);
+        }
+    }
+
+    /**
+     * State of the ramp-up frontier, ordered by the largest estimated
+     * subtree first and then by creation.
+     */
+    private static final class RampUpState implements Comparable<RampUpState> {
+        private final State state;
+        private final double subtreeSize;
+        private final long order;
+
+        private RampUpState(State state, double subtreeSize, long order) {
+            this.state = state;
+            this.subtreeSize = subtreeSize;
+            this.order = order;
+        }
+
+        @Override
+        public int compareTo(RampUpState other) {
+            int comparison = Double.compare(other.subtreeSize, subtreeSize);
+            return comparison != 0 ? comparison : Long.compare(order, other.order);
+        }
+    }
+
+    /**
+     * Implementation of the Builder creational pattern.
+     */
+    public static final class Builder {
+        private Configuration configuration = new Configuration.Builder().build();
+        private Class<? extends Task> task;
+        private Supplier<? extends Task<?>> taskFactory;
+        private Map<String, Object[]> registeredArrays = new HashMap<>();
+        private Map<String, int[]> registeredIntArrays = new HashMap<>();
+        private Map<String, long[]> registeredLongArrays = new HashMap<>();
+        private Map<String, double[]> registeredDoubleArrays = new HashMap<>();
+        private Map<String, Integer> registeredMaps = new HashMap<>();
+        private State initialState;
+
+        /**
+         * Return {@link Builder} instance with the {@link Configuration}
+         * field set.
+         *
+         * @param configuration value for the {@link Configuration} field
+         * @return {@link Builder} instance
+         */
+        public Builder withConfiguration(Configuration configuration) {
+            this.configuration = configuration;
+            return this;
+        }
+
+        /**
+         * Returns {@link Builder} instance with the {@link Task} class set.
+         *
+         * @param task class for {@link Task} implementation
+         * @return {@link Builder} instance
+         */
+        public Builder withTask(Class<? extends Task> task) {
+            this.task = task;
+            return this;
+        }
+
+        /**
+         * Returns {@link Builder} instance with the {@link Task} factory set.
+         * Every worker gets its own instance, created once and reused, so
+         * the instance can keep scratch state without synchronization.
+         * Takes precedence over the {@link Task} class.
+         *
+         * @param taskFactory supplier of a new {@link Task} instance on every call
+         * @return {@link Builder} instance
+         */
+        public Builder withTaskFactory(Supplier<? extends Task<?>> taskFactory) {
+            this.taskFactory = taskFactory;
+            return this;
+        }
+
+        /**
+         * Returns {@link Builder} instance with a new resource registered.
+         *
+         * @param name key for the resource
+         * @param arr array structure
+         * @return
+         */
+        public Builder registerArray(String name, Object[] arr) {
+            checkNotRegistered(name);
+
+            registeredArrays.put(name, arr.clone());
+            return this;
+        }
+
+        /**
+         * Returns {@link Builder} instance with a new int resource registered.
+         *
+         * @param name key for the resource
+         * @param arr array structure
+         * @return {@link Builder} instance
+         */
+        public Builder registerIntArray(String name, int[] arr) {
+            checkNotRegistered(name);
+
+            registeredIntArrays.put(name, arr.clone());
+            return this;
+        }
+
+        /**
+         * Returns {@link Builder} instance with a new long resource registered.
+         *
+         * @param name key for the resource
+         * @param arr array structure
+         * @return {@link Builder} instance
+         */
+        public Builder registerLongArray(String name, long[] arr) {
+            checkNotRegistered(name);
+
+            registeredLongArrays.put(name, arr.clone());
+            return this;
+        }
+
+        /**
+         * Returns {@link Builder} instance with a new double resource registered.
+         *
+         * @param name key for the resource
+         * @param arr array structure
+         * @return {@link Builder} instance
+         */
+        public Builder registerDoubleArray(String name, double[] arr) {
+            checkNotRegistered(name);
+
+            registeredDoubleArrays.put(name, arr.clone());
+            return this;
+        }
+
+        /**
+         * Returns {@link Builder} instance with the initial state set.
+         *
+         * @param initialState value for the initial state
          * @return {@link Builder} instance
          */
         public Builder withInitialState(State initialState) {
@@ -279,6 +1693,20 @@ public class Job {
             return this;
         }
 
+        /**
+         * Returns {@link Builder} instance with a new map resource registered.
+         *
+         * @param name key for the resource
+         * @param capacity expected number of keys
+         * @return {@link Builder} instance
+         */
+        public Builder registerMap(String name, int capacity) {
+            checkNotRegistered(name);
+
+            registeredMaps.put(name, capacity);
+            return this;
+        }
+
         /**
          * Returns the corresponding {@link Job} instance for the
          * current {@link Builder} instance.
@@ -289,10 +1717,25 @@ public class Job {
             Job job = new Job();
             job.setConfiguration(this.configuration);
             job.setTask(this.task);
+            job.setTaskFactory(this.taskFactory);
             this.registeredArrays.forEach(job::registerArray);
+            this.registeredIntArrays.forEach(job::registerIntArray);
+            this.registeredLongArrays.forEach(job::registerLongArray);
+            this.registeredDoubleArrays.forEach(job::registerDoubleArray);
+            this.registeredMaps.forEach(job::registerMap);
             job.setInitialState(this.initialState);
 
             return job;
         }
+
+        private void checkNotRegistered(String name) {
+            if (registeredArrays.containsKey(name)
+                    || registeredIntArrays.containsKey(name)
+                    || registeredLongArrays.containsKey(name)
+                    || registeredDoubleArrays.containsKey(name)
+                    || registeredMaps.containsKey(name)) {
+                throw new IllegalArgumentException("A resource with the same name is already registered.");
+            }
+        }
     }
 }
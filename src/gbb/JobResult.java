@@ -0,0 +1,120 @@
+package gbb;
+
+/**
+ * Outcome of a run of a {@link Job}: the best solution found,
+ * its value, a proven lower bound on the optimal value and the
+ * counters of the run.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public final class JobResult {
+    private final State bestSolution;
+    private final double bestValue;
+    private final double bestBound;
+    private final long expandedStates;
+    private final TranspositionStatistics transpositionStatistics;
+    private final StopReason stopReason;
+
+    JobResult(State bestSolution, double bestValue, double bestBound, long expandedStates,
+              TranspositionStatistics transpositionStatistics, StopReason stopReason) {
+        this.bestSolution = bestSolution;
+        this.bestValue = bestValue;
+        this.bestBound = bestBound;
+        this.expandedStates = expandedStates;
+        this.transpositionStatistics = transpositionStatistics;
+        this.stopReason = stopReason;
+    }
+
+    /**
+     * Returns the best solution offered through {@link Job#offerSolution(State, double)}.
+     * @return best solution, or null if no solution has been offered
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends State> T getBestSolution() {
+        return (T) bestSolution;
+    }
+
+    /**
+     * Returns the value of the best solution.
+     * @return best value, or {@link Double#POSITIVE_INFINITY} if no solution has been offered
+     */
+    public double getBestValue() {
+        return bestValue;
+    }
+
+    /**
+     * Returns a lower bound on the value of the optimal solution: the
+     * best value if the run explored every state, otherwise the smallest
+     * bound among the best value and the {@link BoundedState} states
+     * left unexplored.
+     * @return best bound, or {@link Double#NEGATIVE_INFINITY} if it is
+     *         not known, e.g. while the run is in progress
+     */
+    public double getBestBound() {
+        return bestBound;
+    }
+
+    /**
+     * Returns the absolute optimality gap, the difference
+     * between the best value and the best bound.
+     * @return gap, 0 if the best solution is proven optimal
+     */
+    public double getGap() {
+        if (bestValue == bestBound) {
+            return 0;
+        }
+
+        return bestValue - bestBound;
+    }
+
+    /**
+     * Returns the optimality gap relative to the best value.
+     * @return relative gap, 0 if the best solution is proven optimal
+     */
+    public double getRelativeGap() {
+        double gap = getGap();
+        if (gap == 0) {
+            return 0;
+        }
+
+        return gap / Math.abs(bestValue);
+    }
+
+    /**
+     * Returns the number of states passed to {@link Task#expand(State, StateSink)}.
+     * @return number of expanded states
+     */
+    public long getExpandedStates() {
+        return expandedStates;
+    }
+
+    /**
+     * Returns the counters of the transposition table.
+     * @return {@link TranspositionStatistics}
+     */
+    public TranspositionStatistics getTranspositionStatistics() {
+        return transpositionStatistics;
+    }
+
+    /**
+     * Checks if the run was stopped before exploring every state.
+     * @return <code>true</code> if the run was stopped
+     */
+    public boolean isStopped() {
+        return stopReason != null;
+    }
+
+    /**
+     * Returns the reason for which the run was stopped.
+     * @return {@link StopReason}, or null if the run was not stopped
+     */
+    public StopReason getStopReason() {
+        return stopReason;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("JobResult{bestValue=%s, bestBound=%s, expandedStates=%d, stopReason=%s}",
+                bestValue, bestBound, expandedStates, stopReason);
+    }
+}
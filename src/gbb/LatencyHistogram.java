@@ -0,0 +1,115 @@
+package gbb;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Log-linear histogram of durations in nanoseconds, in the style
+ * of an HDR histogram: every power of two is split into eight
+ * buckets, so any recorded value is reported within 12.5%.
+ *
+ * A histogram has a single writer, its worker, which records with
+ * ordered writes instead of atomic increments; any thread may read
+ * it, seeing a slightly stale but never torn copy.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int NUMBER_OF_BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts;
+    private final AtomicLong sum;
+    private final AtomicLong max;
+
+    LatencyHistogram() {
+        this.counts = new AtomicLongArray(NUMBER_OF_BUCKETS);
+        this.sum = new AtomicLong();
+        this.max = new AtomicLong();
+    }
+
+    /**
+     * Records a duration, only from the owning worker.
+     *
+     * @param nanos recorded duration, negative values count as 0
+     */
+    void record(long nanos) {
+        long value = Math.max(0, nanos);
+        int bucket = bucketOf(value);
+
+        counts.lazySet(bucket, counts.get(bucket) + 1);
+        sum.lazySet(sum.get() + value);
+        if (value > max.get()) {
+            max.lazySet(value);
+        }
+    }
+
+    /**
+     * Adds the counts of the histogram to the given buckets.
+     *
+     * @param buckets array of {@link #NUMBER_OF_BUCKETS} counts
+     */
+    void addTo(long[] buckets) {
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            buckets[i] += counts.get(i);
+        }
+    }
+
+    long getSum() {
+        return sum.get();
+    }
+
+    long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the value below which the given percentage of the
+     * recorded values fall, as the highest value of its bucket.
+     *
+     * @param buckets counts of the buckets
+     * @param percentile percentage between 0 and 100
+     * @return value at the percentile, or 0 if nothing was recorded
+     */
+    static long valueAtPercentile(long[] buckets, double percentile) {
+        long total = 0;
+        for (long count : buckets) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return highestValueOf(i);
+            }
+        }
+
+        return highestValueOf(NUMBER_OF_BUCKETS - 1);
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return ((exponent - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) | subBucket;
+    }
+
+    static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+
+        int shift = (bucket >>> SUB_BUCKET_BITS) - 1;
+        long lowest = (long) (SUB_BUCKETS | (bucket & (SUB_BUCKETS - 1))) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
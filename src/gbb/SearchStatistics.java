@@ -0,0 +1,178 @@
+package gbb;
+
+import java.util.Arrays;
+
+/**
+ * Snapshot of the metrics of the current or the last run of a {@link Job}.
+ *
+ * Only the number of expanded states is counted when statistics are
+ * not enabled through {@link Configuration.Builder#withStatistics(boolean)};
+ * every other metric is then 0.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public final class SearchStatistics {
+    private final long expandedStates;
+    private final long elapsedNanos;
+    private final long frontierSize;
+    private final long maxFrontierSize;
+    private final double estimatedMeanWaitNanos;
+    private final long[] expansionBuckets;
+    private final long expansionNanos;
+    private final long maxExpansionNanos;
+    private final long[] workerExpandedStates;
+    private final double[] workerUtilization;
+
+    SearchStatistics(long expandedStates, long elapsedNanos, long frontierSize, long maxFrontierSize,
+                     double estimatedMeanWaitNanos, long[] expansionBuckets, long expansionNanos, long maxExpansionNanos,
+                     long[] workerExpandedStates, double[] workerUtilization) {
+        this.expandedStates = expandedStates;
+        this.elapsedNanos = elapsedNanos;
+        this.frontierSize = frontierSize;
+        this.maxFrontierSize = maxFrontierSize;
+        this.estimatedMeanWaitNanos = estimatedMeanWaitNanos;
+        this.expansionBuckets = expansionBuckets;
+        this.expansionNanos = expansionNanos;
+        this.maxExpansionNanos = maxExpansionNanos;
+        this.workerExpandedStates = workerExpandedStates;
+        this.workerUtilization = workerUtilization;
+    }
+
+    static SearchStatistics disabled(long expandedStates) {
+        return new SearchStatistics(expandedStates, 0, 0, 0, 0, new long[LatencyHistogram.NUMBER_OF_BUCKETS],
+                0, 0, new long[0], new double[0]);
+    }
+
+    /**
+     * Returns the number of states passed to {@link Task#expand(State, StateSink)}.
+     * @return number of expanded states
+     */
+    public long getExpandedStates() {
+        return expandedStates;
+    }
+
+    /**
+     * Returns the time since the run started, or its
+     * duration if it already ended.
+     * @return elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the throughput of the run.
+     * @return expanded states per second
+     */
+    public double getStatesPerSecond() {
+        return elapsedNanos == 0 ? 0 : expandedStates * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Returns the number of states waiting to be explored: the
+     * outstanding states of the shared frontier engine, or the
+     * states of the pending expansions of the work-stealing engine.
+     * @return current frontier size
+     */
+    public long getFrontierSize() {
+        return frontierSize;
+    }
+
+    /**
+     * Returns the largest frontier size sampled during the run.
+     * @return maximum frontier size
+     */
+    public long getMaxFrontierSize() {
+        return maxFrontierSize;
+    }
+
+    /**
+     * Returns an estimate of the mean time a state waits in the
+     * frontier before being expanded, by Little's law: the mean of
+     * the sampled frontier sizes over the throughput. The waits are
+     * not timed, hence the estimate is only as good as the samples.
+     * @return estimated mean waiting time in nanoseconds
+     */
+    public double getEstimatedMeanWaitNanos() {
+        return estimatedMeanWaitNanos;
+    }
+
+    /**
+     * Returns the mean duration of an expansion, i.e. of the
+     * {@link Task#expand(State, StateSink)} calls over a batch or
+     * of a single call for a state explored inline.
+     * @return mean expansion time in nanoseconds
+     */
+    public double getMeanExpansionNanos() {
+        long expansions = 0;
+        for (long count : expansionBuckets) {
+            expansions += count;
+        }
+        return expansions == 0 ? 0 : (double) expansionNanos / expansions;
+    }
+
+    /**
+     * Returns the duration below which the given percentage of the
+     * expansions fall, within the 12.5% precision of the histogram.
+     * @param percentile percentage between 0 and 100
+     * @return expansion time in nanoseconds
+     * @throws IllegalArgumentException if the percentile is not between 0 and 100
+     */
+    public long getExpansionNanosAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("The percentile should be between 0 and 100.");
+        }
+
+        return LatencyHistogram.valueAtPercentile(expansionBuckets, percentile);
+    }
+
+    /**
+     * Returns the duration of the slowest expansion.
+     * @return maximum expansion time in nanoseconds
+     */
+    public long getMaxExpansionNanos() {
+        return maxExpansionNanos;
+    }
+
+    /**
+     * Returns the number of workers which expanded states.
+     * @return number of workers
+     */
+    public int getNumberOfWorkers() {
+        return workerExpandedStates.length;
+    }
+
+    /**
+     * Returns the number of states expanded by a worker.
+     * @param worker index of the worker
+     * @return number of expanded states
+     */
+    public long getWorkerExpandedStates(int worker) {
+        return workerExpandedStates[worker];
+    }
+
+    /**
+     * Returns the fraction of the elapsed time a worker spent expanding.
+     * @param worker index of the worker
+     * @return utilization between 0 and 1
+     */
+    public double getWorkerUtilization(int worker) {
+        return workerUtilization[worker];
+    }
+
+    /**
+     * Returns the mean utilization of the workers.
+     * @return utilization between 0 and 1
+     */
+    public double getMeanWorkerUtilization() {
+        return Arrays.stream(workerUtilization).average().orElse(0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SearchStatistics{expandedStates=%d, statesPerSecond=%.1f, frontierSize=%d, "
+                        + "maxFrontierSize=%d, meanExpansionNanos=%.1f, workers=%d}",
+                expandedStates, getStatesPerSecond(), frontierSize, maxFrontierSize, getMeanExpansionNanos(),
+                getNumberOfWorkers());
+    }
+}
@@ -0,0 +1,70 @@
+package gbb;
+
+/**
+ * {@link SearchStatisticsMXBean} reading a new snapshot
+ * of the statistics of a {@link Job} for every attribute.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+final class SearchStatisticsBean implements SearchStatisticsMXBean {
+    private final Job job;
+
+    SearchStatisticsBean(Job job) {
+        this.job = job;
+    }
+
+    @Override
+    public long getExpandedStates() {
+        return job.getStatistics().getExpandedStates();
+    }
+
+    @Override
+    public double getStatesPerSecond() {
+        return job.getStatistics().getStatesPerSecond();
+    }
+
+    @Override
+    public long getFrontierSize() {
+        return job.getStatistics().getFrontierSize();
+    }
+
+    @Override
+    public long getMaxFrontierSize() {
+        return job.getStatistics().getMaxFrontierSize();
+    }
+
+    @Override
+    public double getEstimatedMeanWaitNanos() {
+        return job.getStatistics().getEstimatedMeanWaitNanos();
+    }
+
+    @Override
+    public double getMeanExpansionNanos() {
+        return job.getStatistics().getMeanExpansionNanos();
+    }
+
+    @Override
+    public long getMedianExpansionNanos() {
+        return job.getStatistics().getExpansionNanosAtPercentile(50);
+    }
+
+    @Override
+    public long getP99ExpansionNanos() {
+        return job.getStatistics().getExpansionNanosAtPercentile(99);
+    }
+
+    @Override
+    public long getMaxExpansionNanos() {
+        return job.getStatistics().getMaxExpansionNanos();
+    }
+
+    @Override
+    public int getNumberOfWorkers() {
+        return job.getStatistics().getNumberOfWorkers();
+    }
+
+    @Override
+    public double getMeanWorkerUtilization() {
+        return job.getStatistics().getMeanWorkerUtilization();
+    }
+}
@@ -0,0 +1,66 @@
+package gbb;
+
+/**
+ * Management interface exposing the {@link SearchStatistics} of a
+ * running {@link Job}, registered under
+ * <code>gbb:type=Job,name=&lt;name&gt;</code> when a JMX name is configured.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public interface SearchStatisticsMXBean {
+
+    /**
+     * @see SearchStatistics#getExpandedStates()
+     */
+    long getExpandedStates();
+
+    /**
+     * @see SearchStatistics#getStatesPerSecond()
+     */
+    double getStatesPerSecond();
+
+    /**
+     * @see SearchStatistics#getFrontierSize()
+     */
+    long getFrontierSize();
+
+    /**
+     * @see SearchStatistics#getMaxFrontierSize()
+     */
+    long getMaxFrontierSize();
+
+    /**
+     * @see SearchStatistics#getEstimatedMeanWaitNanos()
+     */
+    double getEstimatedMeanWaitNanos();
+
+    /**
+     * @see SearchStatistics#getMeanExpansionNanos()
+     */
+    double getMeanExpansionNanos();
+
+    /**
+     * @see SearchStatistics#getExpansionNanosAtPercentile(double)
+     */
+    long getMedianExpansionNanos();
+
+    /**
+     * @see SearchStatistics#getExpansionNanosAtPercentile(double)
+     */
+    long getP99ExpansionNanos();
+
+    /**
+     * @see SearchStatistics#getMaxExpansionNanos()
+     */
+    long getMaxExpansionNanos();
+
+    /**
+     * @see SearchStatistics#getNumberOfWorkers()
+     */
+    int getNumberOfWorkers();
+
+    /**
+     * @see SearchStatistics#getMeanWorkerUtilization()
+     */
+    double getMeanWorkerUtilization();
+}
@@ -0,0 +1,511 @@
+package gbb;
+
+import gbb.exceptions.StateException;
+import gbb.exceptions.TaskException;
+import gbb.exploring.SearchStrategy;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Pull-based dispatcher over a shared {@link SearchStrategy}.
+ *
+ * Every executor runs a worker loop which takes the next batch of
+ * states from the {@link SearchStrategy} only when it is free, so
+ * the configured strategy decides the exploration order. The
+ * children of a batch are published back with a single bulk insert,
+ * except the ones the {@link Expander} explores inline because they
+ * are below the sequential cutoff or the number of outstanding states
+ * already reached the frontier cutoff. When checkpointing is enabled
+ * the progress is periodically copied to a {@link Checkpoint}, and when
+ * a bound interval is set the lower bound of the outstanding states is
+ * read the same way, from a snapshot taken while the workers are paused
+ * and read while they run. The job ends
+ * when the number of outstanding states (queued or being expanded)
+ * drops to zero; idle workers and the caller block until then.
+ * The worker loops run either on a fixed pool of platform threads, or
+ * on virtual threads, one per expansion permit, when the runtime has
+ * them. Idle workers wait on a {@link ReentrantLock} rather than on a
+ * monitor, so waiting virtual threads do not pin their carrier threads.
+ * States dominated by the incumbent of the {@link Job} are dropped
+ * both before entering and after leaving the strategy.
+ * When the job is stopped the engine waits for the expansions in
+ * progress and then records every state left in the strategy as
+ * unexplored, so the bound of the result stays sound. A strategy
+ * which is {@link AutoCloseable} is closed once the run ends.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+final class SharedFrontierEngine implements ExecutionEngine {
+    private final Job job;
+    private final SearchStrategy<State> states;
+    private final Supplier<Task<State>> taskFactory;
+    private final ExecutorType executorType;
+    private final int numberOfWorkers;
+    private final int batchSize;
+    private final Predicate<State> sequentialCutoff;
+    private final int frontierCutoff;
+    private final long frontierLimit;
+    private final StateCodec<State> stateCodec;
+    private final Path checkpointFile;
+    private final long checkpointInterval;
+    private final ReentrantReadWriteLock pauseLock;
+    private final AtomicLong outstandingStates;
+    private final AtomicInteger idleWorkers;
+    private final ReentrantLock idleLock;
+    private final Condition statesAvailable;
+    private final CountDownLatch completion;
+    private final AtomicInteger pendingPauses;
+    private final AtomicInteger openSnapshots;
+    private final Instrumentation instrumentation;
+    private volatile boolean finished;
+    private volatile Throwable failure;
+
+    SharedFrontierEngine(Job job, SearchStrategy<State> states, Supplier<Task<State>> taskFactory,
+                         Configuration configuration) {
+        this.job = job;
+        this.states = states;
+        this.taskFactory = taskFactory;
+        this.executorType = configuration.getExecutorType();
+        this.numberOfWorkers = executorType == ExecutorType.VIRTUAL_THREADS
+                ? configuration.getExpansionPermits()
+                : configuration.getNumberOfExecutors();
+        this.batchSize = configuration.getBatchSize();
+        this.sequentialCutoff = configuration.getSequentialCutoff();
+        this.frontierCutoff = configuration.getFrontierCutoff();
+        this.frontierLimit = configuration.getFrontierLimit();
+        this.stateCodec = configuration.getStateCodec();
+        this.checkpointFile = configuration.getCheckpointFile();
+        this.checkpointInterval = configuration.getCheckpointInterval();
+        this.pauseLock = checkpointFile == null && configuration.getBoundInterval() == 0
+                ? null
+                : new ReentrantReadWriteLock();
+        this.pendingPauses = new AtomicInteger();
+        this.openSnapshots = new AtomicInteger();
+        this.outstandingStates = new AtomicLong();
+        this.idleWorkers = new AtomicInteger();
+        this.idleLock = new ReentrantLock();
+        this.statesAvailable = idleLock.newCondition();
+        this.completion = new CountDownLatch(1);
+        this.instrumentation = job.getInstrumentation();
+    }
+
+    @Override
+    public void run(Collection<? extends State> initialStates) {
+        ExecutorService workers = createWorkers();
+        ScheduledExecutorService checkpoints = null;
+
+        if (instrumentation != null) {
+            instrumentation.setFrontierGauge(outstandingStates::get);
+        }
+
+        try {
+            List<State> nextStates = new ArrayList<>(initialStates);
+            nextStates.removeIf(job::isDominated);
+            if (nextStates.isEmpty()) {
+                return;
+            }
+            publish(nextStates, 0);
+
+            for (int i = 0; i < numberOfWorkers; i++) {
+                workers.execute(this::work);
+            }
+            if (checkpointFile != null) {
+                checkpoints = Executors.newSingleThreadScheduledExecutor();
+                checkpoints.scheduleWithFixedDelay(this::checkpoint, checkpointInterval, checkpointInterval,
+                        TimeUnit.MILLISECONDS);
+            }
+            completion.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new StateException("Interrupted while waiting for the states to be explored.", exception);
+        } finally {
+            finish();
+            workers.shutdownNow();
+            if (checkpoints != null) {
+                checkpoints.shutdownNow();
+                awaitCheckpoint(checkpoints);
+            }
+            if (job.isStopRequested()) {
+                recordUnexplored(workers);
+            }
+            closeStates();
+        }
+
+        rethrowFailure();
+    }
+
+    @Override
+    public void stop() {
+        finish();
+    }
+
+    /**
+     * Gives away at most half of the queued states, so the workers
+     * of this node keep something to explore. The states come in the
+     * order of the strategy, i.e. the most promising ones for the
+     * best-first strategies.
+     */
+    @Override
+    public List<State> donate(int maximum) {
+        List<State> donated = new ArrayList<>();
+
+        if (pauseLock != null) {
+            pauseLock.readLock().lock();
+        }
+        try {
+            int count = Math.min(maximum, states.size() / 2);
+            if (finished || count <= 0) {
+                return donated;
+            }
+
+            states.pollBatch(donated, count);
+            if (outstandingStates.addAndGet(-donated.size()) == 0) {
+                finish();
+            }
+        } finally {
+            if (pauseLock != null) {
+                pauseLock.readLock().unlock();
+            }
+        }
+
+        return donated;
+    }
+
+    private void work() {
+        List<State> batch = new ArrayList<>(batchSize);
+        List<State> nextStates = new ArrayList<>();
+        Expander expander;
+
+        try {
+            expander = new Expander(job, taskFactory.get(), sequentialCutoff,
+                    () -> outstandingStates.get() >= frontierCutoff, () -> pendingPauses.get() > 0,
+                    () -> openSnapshots.get() > 0);
+        } catch (Throwable throwable) {
+            fail(throwable);
+            return;
+        }
+
+        while (!finished) {
+            int polled;
+            batch.clear();
+            nextStates.clear();
+
+            if (pauseLock != null) {
+                pauseLock.readLock().lock();
+            }
+            try {
+                polled = states.pollBatch(batch, batchSize);
+                if (polled > 0) {
+                    expander.expand(batch, nextStates);
+                    publish(nextStates, polled);
+                }
+            } catch (Throwable throwable) {
+                if (job.isStopRequested()) {
+                    // the children of an interrupted batch are lost, its own bounds cover them
+                    batch.forEach(job::recordUnexplored);
+                }
+                fail(throwable);
+                return;
+            } finally {
+                if (pauseLock != null) {
+                    pauseLock.readLock().unlock();
+                }
+            }
+
+            if (polled == 0 && !awaitStates()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Pauses the workers only for taking a snapshot of the outstanding
+     * states, whose bounds are then read while the workers run, as for
+     * a checkpoint. The minimum is still a lower bound once the workers
+     * continue, since they only narrow the states left to be explored.
+     */
+    @Override
+    public double lowerBound() {
+        if (pauseLock == null) {
+            return Double.NEGATIVE_INFINITY;
+        }
+
+        List<State> snapshot;
+        pauseWorkers();
+        try {
+            if (finished) {
+                return Double.NEGATIVE_INFINITY;
+            }
+            snapshot = states.snapshot();
+            openSnapshots.incrementAndGet();
+        } catch (UnsupportedOperationException exception) {
+            // the custom strategy does not support snapshots
+            return Double.NEGATIVE_INFINITY;
+        } finally {
+            pauseLock.writeLock().unlock();
+        }
+
+        try {
+            double bound = Double.POSITIVE_INFINITY;
+            for (State state : snapshot) {
+                if (!(state instanceof BoundedState)) {
+                    return Double.NEGATIVE_INFINITY;
+                }
+                bound = Math.min(bound, ((BoundedState) state).getBound());
+            }
+            return bound;
+        } catch (RuntimeException exception) {
+            fail(new StateException("Failed to read the bounds of the outstanding states.", exception));
+            return Double.NEGATIVE_INFINITY;
+        } finally {
+            closeSnapshot(snapshot);
+        }
+    }
+
+    /**
+     * Workers hold the read lock for a whole batch, from polling to
+     * publishing the children, so while the write lock is held every
+     * outstanding state is in the strategy. The pause only lasts for
+     * copying the registered arrays and taking a snapshot of the
+     * strategy: the states are encoded and the file is written while
+     * the workers run, and the states they drop in the meantime are
+     * not recycled until the checkpoint is written.
+     * While the checkpoint waits for the lock the workers publish their
+     * local stacks instead of exploring them inline, so no worker holds
+     * the lock for longer than the expansion of a single state.
+     * A failed batch is lost, hence no checkpoint is taken after the
+     * job finished.
+     */
+    private void checkpoint() {
+        Checkpoint checkpoint;
+
+        pauseWorkers();
+        try {
+            if (finished) {
+                return;
+            }
+            checkpoint = job.checkpoint(states.snapshot());
+            openSnapshots.incrementAndGet();
+        } catch (RuntimeException exception) {
+            fail(new StateException("Failed to take the checkpoint.", exception));
+            return;
+        } finally {
+            pauseLock.writeLock().unlock();
+        }
+
+        try {
+            checkpoint.write(checkpointFile, stateCodec);
+        } catch (IOException | RuntimeException exception) {
+            fail(new StateException("Failed to write the checkpoint.", exception));
+        } finally {
+            closeSnapshot(checkpoint.getFrontier());
+        }
+    }
+
+    private void awaitCheckpoint(ExecutorService checkpoints) {
+        try {
+            checkpoints.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Lets the workers recycle states again and releases the
+     * snapshot, e.g. the segment files it links to.
+     */
+    private void closeSnapshot(List<State> snapshot) {
+        openSnapshots.decrementAndGet();
+
+        if (!(snapshot instanceof AutoCloseable)) {
+            return;
+        }
+
+        try {
+            ((AutoCloseable) snapshot).close();
+        } catch (Exception exception) {
+            fail(new StateException("Failed to release the snapshot.", exception));
+        }
+    }
+
+    /**
+     * Publishes the children of a batch with a single bulk insert.
+     * The counter is updated before the insert, so it stays positive
+     * for as long as any of the published states is outstanding.
+     */
+    private void publish(List<State> nextStates, int expandedStates) {
+        long outstanding = outstandingStates.addAndGet(nextStates.size() - expandedStates);
+        if (outstanding == 0) {
+            finish();
+            return;
+        }
+
+        if (outstanding > frontierLimit) {
+            job.stop(StopReason.FRONTIER_LIMIT);
+        }
+
+        if (instrumentation != null) {
+            instrumentation.sampleFrontier(outstanding);
+        }
+
+        if (nextStates.isEmpty()) {
+            return;
+        }
+
+        try {
+            states.putAll(nextStates);
+        } catch (InterruptedException interruptedException) {
+            throw new StateException("Failed to add a next state.", interruptedException);
+        }
+
+        if (idleWorkers.get() > 0) {
+            signalIdleWorkers();
+        }
+    }
+
+    /**
+     * Waits for the workers to finish their expansions, which
+     * publish their children to the strategy, and records every
+     * state left in the strategy as unexplored. Every state is
+     * polled, i.e. a spilling strategy reads back all its segments.
+     */
+    private void recordUnexplored(ExecutorService workers) {
+        try {
+            workers.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            job.recordUnexploredBound(Double.NEGATIVE_INFINITY);
+            return;
+        }
+
+        State state;
+        while ((state = states.poll()) != null) {
+            job.recordUnexplored(state);
+        }
+    }
+
+    /**
+     * Releases the resources of a strategy which holds any, e.g. the
+     * segment files of a {@link gbb.exploring.SpillingStrategy}, which
+     * are left on disk when a failed job stops polling.
+     */
+    private void closeStates() {
+        if (!(states instanceof AutoCloseable)) {
+            return;
+        }
+
+        try {
+            ((AutoCloseable) states).close();
+        } catch (Exception exception) {
+            if (failure == null) {
+                failure = new StateException("Failed to close the search strategy.", exception);
+            }
+        }
+    }
+
+    /**
+     * Takes the write lock, while the workers hand their local stacks
+     * over instead of exploring them inline.
+     */
+    private void pauseWorkers() {
+        pendingPauses.incrementAndGet();
+        try {
+            pauseLock.writeLock().lock();
+        } finally {
+            pendingPauses.decrementAndGet();
+        }
+    }
+
+    private boolean awaitStates() {
+        idleLock.lock();
+        idleWorkers.incrementAndGet();
+        try {
+            while (!finished && states.isEmpty()) {
+                statesAvailable.await();
+            }
+            return true;
+        } catch (InterruptedException exception) {
+            return false;
+        } finally {
+            idleWorkers.decrementAndGet();
+            idleLock.unlock();
+        }
+    }
+
+    /**
+     * Records the first failure. Failures after the job finished,
+     * e.g. of expansions interrupted by a stop, are ignored.
+     */
+    private void fail(Throwable throwable) {
+        if (failure == null && !finished) {
+            failure = throwable;
+        }
+        finish();
+    }
+
+    private void finish() {
+        finished = true;
+        signalIdleWorkers();
+        completion.countDown();
+    }
+
+    private void signalIdleWorkers() {
+        idleLock.lock();
+        try {
+            statesAvailable.signalAll();
+        } finally {
+            idleLock.unlock();
+        }
+    }
+
+    /**
+     * Creates the pool running the worker loops. A platform thread per
+     * expansion permit would defeat the purpose of the permits, so there
+     * is no fallback when virtual threads are not available.
+     */
+    private ExecutorService createWorkers() {
+        if (executorType == ExecutorType.VIRTUAL_THREADS) {
+            try {
+                Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (ExecutorService) factory.invoke(null);
+            } catch (ReflectiveOperationException exception) {
+                throw new IllegalStateException("Virtual threads are not available on this runtime.", exception);
+            }
+        }
+
+        return Executors.newFixedThreadPool(numberOfWorkers);
+    }
+
+    private void rethrowFailure() {
+        Throwable cause = failure;
+
+        if (cause instanceof StateException) {
+            throw (StateException) cause;
+        }
+
+        if (cause instanceof TaskException) {
+            throw (TaskException) cause;
+        }
+
+        if (cause != null) {
+            throw new TaskException("Failed to compute the next states.", cause);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package gbb;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link Task} which pushes the next states of a state into the
+ * {@link StateSink} of the worker instead of returning them, so
+ * no collection is allocated for every expanded state.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public abstract class SinkTask<T extends State> extends Task<T> {
+
+    /**
+     * Pushes the viable next states of a given
+     * state into the sink of the worker.
+     * @param state current state
+     * @param sink receiver of the next states
+     */
+    @Override
+    public abstract void expand(T state, StateSink<? super T> sink);
+
+    /**
+     * Collects the states pushed by {@link #expand(State, StateSink)}.
+     * The workers never call it, they expand through the sink.
+     * @param state current state
+     * @return {@link Collection} of states
+     */
+    @Override
+    public final Collection<T> compute(T state) {
+        List<T> nextStates = new ArrayList<>();
+        expand(state, nextStates::add);
+        return nextStates;
+    }
+}
@@ -0,0 +1,33 @@
+package gbb;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Service provider interface for serializing states,
+ * used whenever states leave the heap of the current JVM.
+ *
+ * Implementations should write self-delimiting
+ * records, since states are stored one after another.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public interface StateCodec<T extends State> {
+
+    /**
+     * Writes the given state to the output.
+     * @param state state to be written
+     * @param output destination of the state
+     * @throws IOException on writing failures
+     */
+    void encode(T state, DataOutput output) throws IOException;
+
+    /**
+     * Reads the next state from the input.
+     * @param input source of the state
+     * @return the state read
+     * @throws IOException on reading failures
+     */
+    T decode(DataInput input) throws IOException;
+}
@@ -0,0 +1,70 @@
+package gbb;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * Bounded free list of states, meant to be kept by a {@link Task}
+ * created for every worker through a task factory: the task acquires
+ * its next states from the pool in {@link SinkTask#expand(State, StateSink)}
+ * and releases them in {@link Task#recycle(State)}, so a search in its
+ * steady state allocates almost no states.
+ *
+ * The pool is not thread-safe. States which are released may come
+ * from other workers, e.g. after being stolen, which only moves
+ * them from one pool to another.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public final class StatePool<T extends State> {
+    private final Supplier<? extends T> factory;
+    private final int capacity;
+    private final ArrayDeque<T> states;
+
+    /**
+     * @param factory creates a state when the pool is empty
+     * @param capacity maximum number of states kept by the pool
+     */
+    public StatePool(Supplier<? extends T> factory, int capacity) {
+        if (factory == null) {
+            throw new IllegalArgumentException("The state factory should not be null.");
+        }
+
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The capacity should not be negative.");
+        }
+
+        this.factory = factory;
+        this.capacity = capacity;
+        this.states = new ArrayDeque<>(Math.min(capacity, 1024));
+    }
+
+    /**
+     * Returns a released state, or else a new one from the factory.
+     * The fields of a released state are the ones it was released with.
+     * @return state to be initialized by the caller
+     */
+    public T acquire() {
+        T state = states.pollLast();
+        return state != null ? state : factory.get();
+    }
+
+    /**
+     * Keeps the state for a later {@link #acquire()},
+     * unless the pool is already full.
+     * @param state state which is no longer referenced
+     */
+    public void release(T state) {
+        if (states.size() < capacity) {
+            states.addLast(state);
+        }
+    }
+
+    /**
+     * Returns the number of states kept by the pool.
+     * @return number of states
+     */
+    public int size() {
+        return states.size();
+    }
+}
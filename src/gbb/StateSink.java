@@ -0,0 +1,20 @@
+package gbb;
+
+/**
+ * Receiver of the next states pushed by {@link Task#expand(State, StateSink)}.
+ *
+ * Every worker passes the same sink to all of its expansions, and the
+ * sink routes each state as it arrives, either to the frontier or to
+ * the local stack of the worker, so no collection is built per state.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+@FunctionalInterface
+public interface StateSink<T extends State> {
+
+    /**
+     * Accepts a next state of the state being expanded.
+     * @param state next state
+     */
+    void accept(T state);
+}
@@ -0,0 +1,36 @@
+package gbb;
+
+/**
+ * Enum for storing the reasons for which a run of a {@link Job}
+ * stops before exploring every state.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public enum StopReason {
+    /**
+     * Stopped through {@link Job#cancel()} or by
+     * cancelling the future of {@link Job#startAsync()}.
+     */
+    CANCELLED,
+
+    /**
+     * Stopped by the early stop predicate of the {@link Configuration}.
+     */
+    EARLY_STOP,
+
+    /**
+     * The wall-clock time limit ran out.
+     */
+    TIME_LIMIT,
+
+    /**
+     * The limit on the number of expanded states was reached.
+     */
+    NODE_LIMIT,
+
+    /**
+     * The limit on the number of states waiting
+     * to be explored was exceeded.
+     */
+    FRONTIER_LIMIT;
+}
@@ -0,0 +1,55 @@
+package gbb;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Independent part of a {@link Job} created by {@link Job#partition(int, ToDoubleFunction)}:
+ * a share of the frontier, together with the incumbent and the
+ * registered resources at the time of the partitioning.
+ *
+ * A sub-job is written to a file in the checkpoint format, and is run
+ * on any node by a job built like the partitioned one through
+ * {@link Job#resume(Path)}. The results of all the sub-jobs are
+ * combined by {@link Job#merge(java.util.Collection)}.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public final class SubJob {
+    private final Checkpoint checkpoint;
+    private final double estimatedSize;
+    private final StateCodec<State> codec;
+
+    SubJob(Checkpoint checkpoint, double estimatedSize, StateCodec<State> codec) {
+        this.checkpoint = checkpoint;
+        this.estimatedSize = estimatedSize;
+        this.codec = codec;
+    }
+
+    /**
+     * Returns the number of states the sub-job starts from.
+     * @return number of states
+     */
+    public int getNumberOfStates() {
+        return checkpoint.getFrontier().size();
+    }
+
+    /**
+     * Returns the sum of the estimated subtree sizes of its states.
+     * @return estimated size
+     */
+    public double getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    /**
+     * Writes the sub-job to a file, which is atomically replaced.
+     *
+     * @param file destination of the sub-job
+     * @throws IOException on writing failures
+     */
+    public void write(Path file) throws IOException {
+        checkpoint.write(file, codec);
+    }
+}
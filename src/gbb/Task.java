@@ -12,11 +12,48 @@ public abstract class Task<T extends State> {
     /**
      * The task method with returns the viable next states
      * of a given state.
+     *
+     * A task which should not allocate a collection for
+     * every state extends {@link SinkTask} instead.
      * @param state current state
      * @return {@link Collection} of states
      */
     public abstract Collection<T> compute(T state);
 
+    /**
+     * Pushes the viable next states of a given state into
+     * the sink of the worker, which is how the job expands
+     * every state. The default implementation pushes the states
+     * returned by {@link #compute(State)}.
+     * @param state current state
+     * @param sink receiver of the next states
+     */
+    public void expand(T state, StateSink<? super T> sink) {
+        Collection<T> nextStates = compute(state);
+        if (nextStates == null) {
+            return;
+        }
+
+        for (T nextState : nextStates) {
+            sink.accept(nextState);
+        }
+    }
+
+    /**
+     * Hook called by the workers once the job no longer references
+     * a state: after the state was expanded, or when it is dropped
+     * as dominated or as a duplicate. The state may then be reused,
+     * e.g. through a {@link StatePool}. The current best solution
+     * is never recycled, but a state kept by the task itself, e.g.
+     * in a registered array, should not be reused. The hook is
+     * called on the task of the worker which dropped the state, and
+     * does nothing by default. The states left unexplored by a
+     * stopped job are not recycled.
+     * @param state state which is no longer referenced
+     */
+    public void recycle(T state) {
+    }
+
     /**
      * Returns the {@link Job} associated for the current
      * {@link Task} instance.
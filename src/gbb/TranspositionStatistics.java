@@ -0,0 +1,52 @@
+package gbb;
+
+/**
+ * Counters of the transposition table of a {@link Job}.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public final class TranspositionStatistics {
+    static final TranspositionStatistics EMPTY = new TranspositionStatistics(0, 0, 0);
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+
+    TranspositionStatistics(long hits, long misses, long evictions) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    /**
+     * Returns the number of states skipped because they were
+     * already seen with a bound at least as good.
+     * @return number of hits
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of states recorded in the table,
+     * either new or seen before with a worse bound.
+     * @return number of misses
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of recorded states
+     * evicted to make room for new ones.
+     * @return number of evictions
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TranspositionStatistics{hits=%d, misses=%d, evictions=%d}", hits, misses, evictions);
+    }
+}
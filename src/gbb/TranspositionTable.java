@@ -0,0 +1,159 @@
+package gbb;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded concurrent table of the states already seen,
+ * keyed by their fingerprints.
+ *
+ * The table is set-associative: a fingerprint maps to a bucket of
+ * a few slots, which are replaced with CAS. When a bucket is full,
+ * a slot is evicted with the CLOCK policy: entries hit since the
+ * last sweep get a second chance. Two workers recording the same
+ * state at the same time may both miss, which only costs a
+ * redundant expansion.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+final class TranspositionTable {
+    private static final int WAYS = 4;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private final AtomicReferenceArray<Entry> entries;
+    private final int bucketMask;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    /**
+     * @param capacity maximum number of recorded states, rounded up to a power of two
+     * @throws IllegalArgumentException if the capacity is not positive or too large
+     */
+    TranspositionTable(int capacity) {
+        if (capacity < 1 || capacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException(String.format("The capacity of a transposition table should be" +
+                    " between 1 and %d.", MAXIMUM_CAPACITY));
+        }
+
+        int length = Math.max(Integer.highestOneBit(capacity - 1) << 1, WAYS);
+        this.entries = new AtomicReferenceArray<>(length);
+        this.bucketMask = length / WAYS - 1;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    /**
+     * Checks if a state was already seen with a bound at least as
+     * good, otherwise records it with the given bound.
+     *
+     * @param fingerprint fingerprint of the state
+     * @param bound bound of the state
+     * @return <code>true</code> if the state should be skipped
+     */
+    boolean isDuplicate(long fingerprint, double bound) {
+        int bucket = (hash(fingerprint) & bucketMask) * WAYS;
+
+        while (true) {
+            int slot = find(bucket, fingerprint);
+
+            if (slot >= 0) {
+                Entry entry = entries.get(slot);
+                if (entry.fingerprint != fingerprint) {
+                    continue;
+                }
+
+                if (entry.bound <= bound) {
+                    entry.referenced = true;
+                    hits.increment();
+                    return true;
+                }
+
+                if (entries.compareAndSet(slot, entry, new Entry(fingerprint, bound))) {
+                    misses.increment();
+                    return false;
+                }
+                continue;
+            }
+
+            Entry candidate = new Entry(fingerprint, bound);
+            int free = findFree(bucket);
+            if (free >= 0 && entries.compareAndSet(free, null, candidate)) {
+                misses.increment();
+                return false;
+            }
+
+            if (free < 0 && evict(bucket, candidate)) {
+                misses.increment();
+                evictions.increment();
+                return false;
+            }
+        }
+    }
+
+    TranspositionStatistics getStatistics() {
+        return new TranspositionStatistics(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    /**
+     * Sweeps the bucket from a random slot, clearing the reference
+     * bits, and replaces the first entry without it.
+     */
+    private boolean evict(int bucket, Entry candidate) {
+        int start = ThreadLocalRandom.current().nextInt(WAYS);
+
+        for (int i = 0; i < 2 * WAYS; i++) {
+            int slot = bucket + (start + i) % WAYS;
+            Entry entry = entries.get(slot);
+
+            if (entry == null) {
+                return false;
+            }
+
+            if (entry.referenced) {
+                entry.referenced = false;
+            } else if (entries.compareAndSet(slot, entry, candidate)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private int find(int bucket, long fingerprint) {
+        for (int slot = bucket; slot < bucket + WAYS; slot++) {
+            Entry entry = entries.get(slot);
+            if (entry != null && entry.fingerprint == fingerprint) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int findFree(int bucket) {
+        for (int slot = bucket; slot < bucket + WAYS; slot++) {
+            if (entries.get(slot) == null) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private static int hash(long fingerprint) {
+        long hash = fingerprint * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static final class Entry {
+        private final long fingerprint;
+        private final double bound;
+        private volatile boolean referenced;
+
+        private Entry(long fingerprint, double bound) {
+            this.fingerprint = fingerprint;
+            this.bound = bound;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package gbb;
+
+import gbb.exceptions.StateException;
+import gbb.exceptions.TaskException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Work-stealing engine built on a {@link ForkJoinPool}.
+ *
+ * Every forked unit of work is a batch of at most batchSize states.
+ * The children of a batch are pushed on the deque of the worker
+ * which expanded it and are popped in LIFO order, so every worker
+ * explores its own subtree depth-first. An idle worker steals the
+ * oldest (shallowest) state of another worker, hence threads only
+ * interact when one of them runs out of work. Termination follows
+ * the completion of the root {@link CountedCompleter}. States
+ * dominated by the incumbent of the {@link Job} are dropped both
+ * before being forked and before being expanded. Children below the
+ * sequential cutoff, or produced while the worker already holds more
+ * surplus tasks than the frontier cutoff, are explored inline.
+ * Once the job is stopped the pending expansions complete without
+ * expanding and record their states as unexplored.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+final class WorkStealingEngine implements ExecutionEngine {
+    private final Job job;
+    private final int numberOfExecutors;
+    private final int batchSize;
+    private final long frontierLimit;
+    private final AtomicLong pendingStates;
+    private final Instrumentation instrumentation;
+    private final ThreadLocal<Expander> expanders;
+
+    WorkStealingEngine(Job job, Supplier<Task<State>> taskFactory, Configuration configuration) {
+        this.job = job;
+        this.numberOfExecutors = configuration.getNumberOfExecutors();
+        this.batchSize = configuration.getBatchSize();
+        this.frontierLimit = configuration.getFrontierLimit();
+        this.pendingStates = new AtomicLong();
+        this.instrumentation = job.getInstrumentation();
+
+        Predicate<State> sequentialCutoff = configuration.getSequentialCutoff();
+        int frontierCutoff = configuration.getFrontierCutoff();
+        this.expanders = ThreadLocal.withInitial(() -> new Expander(job, taskFactory.get(), sequentialCutoff,
+                () -> ForkJoinTask.getSurplusQueuedTaskCount() >= frontierCutoff, () -> false, () -> false));
+    }
+
+    @Override
+    public void run(Collection<? extends State> initialStates) {
+        ForkJoinPool workers = new ForkJoinPool(numberOfExecutors);
+
+        if (instrumentation != null) {
+            instrumentation.setFrontierGauge(pendingStates::get);
+        }
+
+        try {
+            workers.invoke(new Expansion(null, new ArrayList<>(initialStates), false));
+        } catch (StateException | TaskException exception) {
+            throw exception;
+        } catch (RuntimeException | Error exception) {
+            throw new TaskException("Failed to compute the next states.", exception);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * The expansions check {@link Job#isStopRequested()} before
+     * running, so the pending ones complete without expanding.
+     */
+    @Override
+    public void stop() {
+    }
+
+    /**
+     * The states are spread over the deques of the workers,
+     * which are not accessible from outside the pool.
+     */
+    @Override
+    public List<State> donate(int maximum) {
+        return Collections.emptyList();
+    }
+
+    /**
+     * For the same reason, the bounds of the
+     * pending states are unknown.
+     */
+    @Override
+    public double lowerBound() {
+        return Double.NEGATIVE_INFINITY;
+    }
+
+    private final class Expansion extends CountedCompleter<Void> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<State> states;
+        private final boolean expand;
+
+        private Expansion(Expansion parent, List<State> states, boolean expand) {
+            super(parent);
+            this.states = states;
+            this.expand = expand;
+        }
+
+        @Override
+        public void compute() {
+            if (expand) {
+                countPending(-states.size());
+            }
+
+            if (job.isStopRequested()) {
+                states.forEach(job::recordUnexplored);
+                tryComplete();
+                return;
+            }
+
+            List<State> nextStates = states;
+            if (expand) {
+                nextStates = new ArrayList<>();
+                expanders.get().expand(states, nextStates);
+            }
+
+            countPending(nextStates.size());
+            for (int from = 0; from < nextStates.size(); from += batchSize) {
+                int to = Math.min(from + batchSize, nextStates.size());
+                addToPendingCount(1);
+                new Expansion(this, new ArrayList<>(nextStates.subList(from, to)), true).fork();
+            }
+            tryComplete();
+        }
+
+        /**
+         * Counts the states of the forked expansions, only
+         * when a frontier limit is set or statistics are enabled.
+         */
+        private void countPending(int delta) {
+            if (frontierLimit == Long.MAX_VALUE && instrumentation == null) {
+                return;
+            }
+
+            long pending = pendingStates.addAndGet(delta);
+            if (pending > frontierLimit) {
+                job.stop(StopReason.FRONTIER_LIMIT);
+            }
+            if (instrumentation != null && delta > 0) {
+                instrumentation.sampleFrontier(pending);
+            }
+        }
+    }
+}
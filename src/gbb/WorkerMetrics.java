@@ -0,0 +1,53 @@
+package gbb;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of a single worker, written only by the worker
+ * itself so recording needs neither locks nor atomic increments.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+final class WorkerMetrics {
+    private final AtomicLong expandedStates;
+    private final AtomicLong busyNanos;
+    private final LatencyHistogram expansions;
+
+    WorkerMetrics() {
+        this.expandedStates = new AtomicLong();
+        this.busyNanos = new AtomicLong();
+        this.expansions = new LatencyHistogram();
+    }
+
+    /**
+     * Records the expansion of a batch or of a single state.
+     *
+     * @param states number of states expanded by the call
+     * @param nanos duration of the call
+     */
+    void recordExpansion(int states, long nanos) {
+        expandedStates.lazySet(expandedStates.get() + states);
+        expansions.record(nanos);
+    }
+
+    /**
+     * Records the time spent expanding a batch, inline children included.
+     *
+     * @param nanos duration of the expansion
+     */
+    void recordBusy(long nanos) {
+        busyNanos.lazySet(busyNanos.get() + nanos);
+    }
+
+    long getExpandedStates() {
+        return expandedStates.get();
+    }
+
+    long getBusyNanos() {
+        return busyNanos.get();
+    }
+
+    LatencyHistogram getExpansions() {
+        return expansions;
+    }
+}
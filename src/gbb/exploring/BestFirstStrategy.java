@@ -0,0 +1,87 @@
+package gbb.exploring;
+
+import gbb.BoundedState;
+import gbb.State;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.PriorityBlockingQueue;
+
+/**
+ * Strategy which always explores the most promising state,
+ * i.e. the {@link BoundedState} with the smallest bound.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public class BestFirstStrategy<T extends State> implements SearchStrategy<T> {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private PriorityBlockingQueue<T> queue;
+
+    /**
+     * Constructor with no states for
+     * {@link BestFirstStrategy}.
+     */
+    public BestFirstStrategy() {
+        queue = new PriorityBlockingQueue<>(INITIAL_CAPACITY,
+                (first, second) -> ((BoundedState) first).compareTo((BoundedState) second));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public T poll() {
+        return queue.poll();
+    }
+
+    /**
+     * {@inheritDoc}
+     * @throws IllegalArgumentException if the state is not a {@link BoundedState}
+     */
+    @Override
+    public void put(T state) throws InterruptedException {
+        checkBounded(state);
+        queue.add(state);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The states are drained under a single lock acquisition.
+     */
+    @Override
+    public int pollBatch(Collection<? super T> batch, int maxStates) {
+        return queue.drainTo(batch, maxStates);
+    }
+
+    /**
+     * {@inheritDoc}
+     * @throws IllegalArgumentException if any state is not a {@link BoundedState}
+     */
+    @Override
+    public void putAll(Collection<? extends T> states) throws InterruptedException {
+        for (T state : states) {
+            checkBounded(state);
+        }
+        queue.addAll(states);
+    }
+
+    private void checkBounded(T state) {
+        if (!(state instanceof BoundedState)) {
+            throw new IllegalArgumentException("The best first search strategy accepts only bounded states.");
+        }
+    }
+
+    @Override
+    public List<T> snapshot() {
+        return new ArrayList<>(queue);
+    }
+}
@@ -2,7 +2,10 @@ package gbb.exploring;
 
 import gbb.State;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Deque;
+import java.util.List;
 import java.util.concurrent.ConcurrentLinkedDeque;
 
 /**
@@ -38,4 +41,19 @@ public class BreadthFirstStrategy<T extends State> implements SearchStrategy<T>
     public void put(T state) throws InterruptedException {
         queue.addLast(state);
     }
+
+    /**
+     * {@inheritDoc}
+     * The states are linked together and appended
+     * to the queue with a single atomic operation.
+     */
+    @Override
+    public void putAll(Collection<? extends T> states) throws InterruptedException {
+        queue.addAll(states);
+    }
+
+    @Override
+    public List<T> snapshot() {
+        return new ArrayList<>(queue);
+    }
 }
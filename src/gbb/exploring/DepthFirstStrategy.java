@@ -2,10 +2,16 @@ package gbb.exploring;
 
 import gbb.State;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Deque;
+import java.util.List;
 import java.util.concurrent.ConcurrentLinkedDeque;
 
 /**
+ * The top of the stack is the tail of the deque, so that
+ * a batch of states can be pushed with a single append.
+ *
  * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 6/18/19)
  */
 public class DepthFirstStrategy<T extends State> implements SearchStrategy<T> {
@@ -31,11 +37,26 @@ public class DepthFirstStrategy<T extends State> implements SearchStrategy<T> {
 
     @Override
     public T poll() {
-        return stack.pollFirst();
+        return stack.pollLast();
     }
 
     @Override
     public void put(T state) throws InterruptedException {
-        stack.addFirst(state);
+        stack.addLast(state);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The states are linked together and pushed
+     * on the stack with a single atomic operation.
+     */
+    @Override
+    public void putAll(Collection<? extends T> states) throws InterruptedException {
+        stack.addAll(states);
+    }
+
+    @Override
+    public List<T> snapshot() {
+        return new ArrayList<>(stack);
     }
 }
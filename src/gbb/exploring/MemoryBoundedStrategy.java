@@ -0,0 +1,167 @@
+package gbb.exploring;
+
+import gbb.State;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+/**
+ * Hybrid strategy which explores level-by-level while the frontier
+ * fits in a configured capacity and falls back to top-down exploration
+ * once the capacity is exceeded.
+ *
+ * The capacity is expressed either in states or in estimated bytes.
+ * In top-down mode the newest states are explored first, which
+ * consumes the frontier; the level-by-level order is resumed once
+ * the frontier drops to half of the capacity.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public class MemoryBoundedStrategy<T extends State> implements SearchStrategy<T> {
+    private static final long DEFAULT_MAX_STATES = 1_000_000;
+
+    private Deque<T> deque;
+    private ToLongFunction<? super T> sizeEstimator;
+    private long capacity;
+    private AtomicLong size;
+    private AtomicLong weight;
+    private volatile boolean depthFirst;
+
+    /**
+     * Constructor with no states for {@link MemoryBoundedStrategy}
+     * with a capacity of one million states.
+     */
+    public MemoryBoundedStrategy() {
+        this(DEFAULT_MAX_STATES);
+    }
+
+    /**
+     * Constructor with no states for {@link MemoryBoundedStrategy}
+     * with a capacity in states.
+     * @param maxStates maximum number of states before falling back to top-down exploration
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public MemoryBoundedStrategy(long maxStates) {
+        this(maxStates, state -> 1);
+    }
+
+    /**
+     * Constructor with no states for {@link MemoryBoundedStrategy}
+     * with a capacity in estimated bytes.
+     * @param maxBytes maximum estimated size of the frontier before
+     *                 falling back to top-down exploration
+     * @param sizeEstimator estimates the size in bytes of a state, it
+     *                      should return the same value for the same state
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public MemoryBoundedStrategy(long maxBytes, ToLongFunction<? super T> sizeEstimator) {
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("The capacity of the frontier should be positive.");
+        }
+
+        this.deque = new ConcurrentLinkedDeque<>();
+        this.sizeEstimator = sizeEstimator;
+        this.capacity = maxBytes;
+        this.size = new AtomicLong();
+        this.weight = new AtomicLong();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return deque.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.min(Integer.MAX_VALUE, size.get());
+    }
+
+    @Override
+    public T poll() {
+        T state = depthFirst ? deque.pollLast() : deque.pollFirst();
+
+        if (state != null) {
+            size.decrementAndGet();
+            release(sizeEstimator.applyAsLong(state));
+        }
+
+        return state;
+    }
+
+    @Override
+    public void put(T state) throws InterruptedException {
+        deque.addLast(state);
+        size.incrementAndGet();
+        reserve(sizeEstimator.applyAsLong(state));
+    }
+
+    @Override
+    public int pollBatch(Collection<? super T> batch, int maxStates) {
+        boolean fromTop = depthFirst;
+        long released = 0;
+        int count = 0;
+        T state;
+
+        while (count < maxStates && (state = fromTop ? deque.pollLast() : deque.pollFirst()) != null) {
+            batch.add(state);
+            released += sizeEstimator.applyAsLong(state);
+            count++;
+        }
+
+        if (count > 0) {
+            size.addAndGet(-count);
+            release(released);
+        }
+
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The states are linked together and appended
+     * to the frontier with a single atomic operation.
+     */
+    @Override
+    public void putAll(Collection<? extends T> states) throws InterruptedException {
+        long reserved = 0;
+        for (T state : states) {
+            reserved += sizeEstimator.applyAsLong(state);
+        }
+
+        deque.addAll(states);
+        size.addAndGet(states.size());
+        reserve(reserved);
+    }
+
+    /**
+     * Returns <code>true</code> if the frontier exceeded its
+     * capacity and the states are explored top-down.
+     * @return <code>true</code> in top-down mode,
+     *         <code>false</code> in level-by-level mode.
+     */
+    public boolean isDepthFirst() {
+        return depthFirst;
+    }
+
+    private void reserve(long bytes) {
+        if (weight.addAndGet(bytes) > capacity && !depthFirst) {
+            depthFirst = true;
+        }
+    }
+
+    private void release(long bytes) {
+        if (weight.addAndGet(-bytes) <= capacity / 2 && depthFirst) {
+            depthFirst = false;
+        }
+    }
+
+    @Override
+    public List<T> snapshot() {
+        return new ArrayList<>(deque);
+    }
+}
@@ -0,0 +1,221 @@
+package gbb.exploring;
+
+import gbb.BoundedState;
+import gbb.State;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Relaxed best first strategy implemented as a MultiQueue.
+ *
+ * The states are spread over several independently locked
+ * sub-heaps. Every state is inserted in its own random sub-heap
+ * and the next state is taken from the better of two randomly
+ * sampled sub-heaps, hence {@link #poll()} returns a near-best state
+ * while the threads rarely compete for the same lock. A job creates
+ * two sub-heaps for every worker.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public class RelaxedBestFirstStrategy<T extends State> implements SearchStrategy<T> {
+    static final int QUEUES_PER_THREAD = 2;
+
+    private SubQueue<T>[] queues;
+
+    /**
+     * Constructor with no states for {@link RelaxedBestFirstStrategy}
+     * using two sub-heaps for every available processor.
+     */
+    public RelaxedBestFirstStrategy() {
+        this(QUEUES_PER_THREAD * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor with no states for {@link RelaxedBestFirstStrategy}.
+     * @param numberOfQueues number of sub-heaps
+     * @throws IllegalArgumentException if the number of sub-heaps is not positive
+     */
+    public RelaxedBestFirstStrategy(int numberOfQueues) {
+        if (numberOfQueues < 1) {
+            throw new IllegalArgumentException("The number of queues should be positive.");
+        }
+
+        @SuppressWarnings("unchecked")
+        SubQueue<T>[] subQueues = (SubQueue<T>[]) new SubQueue<?>[numberOfQueues];
+        queues = subQueues;
+        for (int i = 0; i < numberOfQueues; i++) {
+            queues[i] = new SubQueue<>();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (SubQueue<T> queue : queues) {
+            size += queue.size;
+        }
+        return size;
+    }
+
+    @Override
+    public T poll() {
+        List<T> batch = new ArrayList<>(1);
+        return pollBatch(batch, 1) == 0 ? null : batch.get(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The states are taken from a single sub-heap
+     * under a single lock acquisition.
+     */
+    @Override
+    public int pollBatch(Collection<? super T> batch, int maxStates) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for (int attempt = 0; attempt < queues.length; attempt++) {
+            SubQueue<T> first = queues[random.nextInt(queues.length)];
+            SubQueue<T> second = queues[random.nextInt(queues.length)];
+            SubQueue<T> best = first.isBetterThan(second) ? first : second;
+
+            if (best.size > 0 && best.lock.tryLock()) {
+                try {
+                    int count = best.drainTo(batch, maxStates);
+                    if (count > 0) {
+                        return count;
+                    }
+                } finally {
+                    best.lock.unlock();
+                }
+            }
+        }
+
+        for (SubQueue<T> queue : queues) {
+            if (queue.size > 0) {
+                queue.lock.lock();
+                try {
+                    int count = queue.drainTo(batch, maxStates);
+                    if (count > 0) {
+                        return count;
+                    }
+                } finally {
+                    queue.lock.unlock();
+                }
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @throws IllegalArgumentException if the state is not a {@link BoundedState}
+     */
+    @Override
+    public void put(T state) throws InterruptedException {
+        putAll(Collections.singletonList(state));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Every state is inserted in its own randomly chosen sub-heap,
+     * so siblings with correlated bounds do not gather in one of them.
+     * @throws IllegalArgumentException if any state is not a {@link BoundedState}
+     */
+    @Override
+    public void putAll(Collection<? extends T> states) throws InterruptedException {
+        for (T state : states) {
+            if (!(state instanceof BoundedState)) {
+                throw new IllegalArgumentException("The best first search strategy accepts only bounded states.");
+            }
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (T state : states) {
+            SubQueue<T> queue = queues[random.nextInt(queues.length)];
+
+            while (!queue.lock.tryLock()) {
+                queue = queues[random.nextInt(queues.length)];
+            }
+
+            try {
+                queue.add(state);
+            } finally {
+                queue.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of sub-heaps.
+     * @return number of sub-heaps
+     */
+    public int getNumberOfQueues() {
+        return queues.length;
+    }
+
+    @Override
+    public List<T> snapshot() {
+        List<T> states = new ArrayList<>();
+
+        for (SubQueue<T> queue : queues) {
+            queue.lock.lock();
+            try {
+                states.addAll(queue.heap);
+            } finally {
+                queue.lock.unlock();
+            }
+        }
+
+        return states;
+    }
+
+    private static final class SubQueue<T extends State> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final PriorityQueue<T> heap = new PriorityQueue<>(
+                (first, second) -> ((BoundedState) first).compareTo((BoundedState) second));
+        private volatile double top = Double.POSITIVE_INFINITY;
+        private volatile int size;
+
+        private boolean isBetterThan(SubQueue<T> other) {
+            if (other.size == 0) {
+                return true;
+            }
+            return size > 0 && top <= other.top;
+        }
+
+        private void add(T state) {
+            heap.add(state);
+            refresh();
+        }
+
+        private int drainTo(Collection<? super T> batch, int maxStates) {
+            int count = 0;
+            T state;
+
+            while (count < maxStates && (state = heap.poll()) != null) {
+                batch.add(state);
+                count++;
+            }
+
+            refresh();
+            return count;
+        }
+
+        private void refresh() {
+            T head = heap.peek();
+            top = head == null ? Double.POSITIVE_INFINITY : ((BoundedState) head).getBound();
+            size = heap.size();
+        }
+    }
+}
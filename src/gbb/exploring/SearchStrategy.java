@@ -2,6 +2,9 @@ package gbb.exploring;
 
 import gbb.State;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * A collection of {@link State} that should be
  * explored next given a search strategy.
@@ -39,4 +42,51 @@ public interface SearchStrategy<T extends State> {
      * @throws InterruptedException if interrupted while waiting
      */
     void put(T state) throws InterruptedException;
+
+    /**
+     * Retrieves and removes at most the given number of
+     * states, in the order in which they should be explored.
+     * @param batch collection receiving the states
+     * @param maxStates maximum number of states to retrieve
+     * @return number of states added to the batch
+     */
+    default int pollBatch(Collection<? super T> batch, int maxStates) {
+        int count = 0;
+        T state;
+
+        while (count < maxStates && (state = poll()) != null) {
+            batch.add(state);
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Inserts all the specified states into the current
+     * search strategy, as if they were added one by one
+     * through {@link #put(State)}.
+     * @param states the states to add
+     * @throws InterruptedException if interrupted while waiting
+     */
+    default void putAll(Collection<? extends T> states) throws InterruptedException {
+        for (T state : states) {
+            put(state);
+        }
+    }
+
+    /**
+     * Returns a copy of the states held by the current search
+     * strategy, in an order such that putting them one by one
+     * into an empty strategy of the same kind reproduces the
+     * same exploration order. The caller should prevent any
+     * concurrent modification while the copy is taken, and close
+     * the copy once it is no longer used if it is {@link AutoCloseable}.
+     * @return copy of the states
+     * @throws UnsupportedOperationException if the strategy can not be copied
+     */
+    default List<T> snapshot() {
+        throw new UnsupportedOperationException(String.format("The search strategy: %s" +
+                " does not support snapshots.", getClass().getName()));
+    }
 }
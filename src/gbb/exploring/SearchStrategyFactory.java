@@ -17,6 +17,10 @@ public class SearchStrategyFactory<T extends State> {
 
         searchStrategyByType.put(SearchStrategyType.BREADTH_FIRST_SEARCH.name(), BreadthFirstStrategy.class);
         searchStrategyByType.put(SearchStrategyType.DEPTH_FIRST_SEARCH.name(), DepthFirstStrategy.class);
+        searchStrategyByType.put(SearchStrategyType.BEST_FIRST_SEARCH.name(), BestFirstStrategy.class);
+        searchStrategyByType.put(SearchStrategyType.RELAXED_BEST_FIRST_SEARCH.name(),
+                RelaxedBestFirstStrategy.class);
+        searchStrategyByType.put(SearchStrategyType.MEMORY_BOUNDED_SEARCH.name(), MemoryBoundedStrategy.class);
     }
 
     /**
@@ -62,6 +66,25 @@ public class SearchStrategyFactory<T extends State> {
         return getInstance(searchStrategyType.name());
     }
 
+    /**
+     * Method for retrieving the {@link SearchStrategy} associated
+     * with a search strategy type, sized for the given number of
+     * threads sharing it, e.g. with two sub-heaps per thread for
+     * {@link SearchStrategyType#RELAXED_BEST_FIRST_SEARCH}.
+     * @param searchStrategyType type associated with the desired {@link SearchStrategy}
+     * @param numberOfThreads number of threads sharing the strategy
+     * @return {@link SearchStrategy} for the given type value.
+     * @throws IllegalArgumentException when fails to instantiate {@link SearchStrategy}
+     *                                  or on null values.
+     */
+    public SearchStrategy<T> getInstance(SearchStrategyType searchStrategyType, int numberOfThreads) {
+        if (searchStrategyType == SearchStrategyType.RELAXED_BEST_FIRST_SEARCH) {
+            return new RelaxedBestFirstStrategy<>(RelaxedBestFirstStrategy.QUEUES_PER_THREAD * numberOfThreads);
+        }
+
+        return getInstance(searchStrategyType);
+    }
+
     /**
      * Method for registering a new {@link SearchStrategy} with a given name.
      * @param name given name
@@ -17,5 +17,27 @@ public enum SearchStrategyType {
      * Explore the candidate solutions
      * in a top-down fashion.
      */
-    DEPTH_FIRST_SEARCH;
+    DEPTH_FIRST_SEARCH,
+
+    /**
+     * Explore the candidate solutions
+     * in the ascending order of their bounds.
+     * Requires {@link gbb.BoundedState} states.
+     */
+    BEST_FIRST_SEARCH,
+
+    /**
+     * Explore the candidate solutions
+     * in an approximate ascending order of their
+     * bounds, trading exactness for scalability.
+     * Requires {@link gbb.BoundedState} states.
+     */
+    RELAXED_BEST_FIRST_SEARCH,
+
+    /**
+     * Explore the candidate solutions
+     * in a level-by-level fashion while the frontier
+     * fits in memory and in a top-down fashion otherwise.
+     */
+    MEMORY_BOUNDED_SEARCH;
 }
@@ -0,0 +1,539 @@
+package gbb.exploring;
+
+import gbb.State;
+import gbb.StateCodec;
+import gbb.exceptions.StateException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Strategy which keeps a hot window of states on the heap and
+ * spills the cold ones to segment files on local disk.
+ *
+ * The exploration order is either level-by-level or top-down and is
+ * preserved exactly: in level-by-level order the newest states are
+ * spilled and in top-down order the oldest ones, so the spilled states
+ * are always the last to be explored. When the in-memory part drains,
+ * the next segment is read back sequentially as a whole and its file
+ * is deleted. The states are serialized through a {@link StateCodec}.
+ *
+ * The operations take a single lock, but the disk is only accessed
+ * without holding it: a full batch of states is swapped out under the
+ * lock and then written by the thread which spilled it, while it can
+ * still be polled from the heap, and a segment is read back by a single
+ * poller while the others wait for it. The files are streamed and never
+ * synced, since they are scratch data which is useless after a crash.
+ * A {@link #snapshot()} links the segment files instead of reading
+ * them, so taking one only copies the states on the heap, and the
+ * spilled ones are decoded while it is iterated, e.g. by a checkpoint
+ * written while the workers run. Draining the strategy after a job
+ * is stopped costs a full pass over the spilled states. A job closes
+ * the strategy when its run ends.
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public class SpillingStrategy<T extends State> implements SearchStrategy<T>, AutoCloseable {
+    private final boolean topDown;
+    private final StateCodec<T> codec;
+    private final Path directory;
+    private final int memoryCapacity;
+    private final ReentrantLock lock;
+    private final Condition loaded;
+    private final Deque<T> memory;
+    private final Deque<T> pending;
+    private final Deque<Segment<T>> segments;
+    private final List<Snapshot> snapshots;
+    private volatile int size;
+
+    /**
+     * Constructor with no states for {@link SpillingStrategy}.
+     * @param searchStrategyType exploration order, either
+     *                           {@link SearchStrategyType#BREADTH_FIRST_SEARCH}
+     *                           or {@link SearchStrategyType#DEPTH_FIRST_SEARCH}
+     * @param codec serializer for the spilled states
+     * @param directory local directory for the segment files
+     * @param memoryCapacity number of states kept on the heap,
+     *                       which is also the number of states per segment
+     * @throws IllegalArgumentException on an unsupported order or a non-positive capacity
+     */
+    public SpillingStrategy(SearchStrategyType searchStrategyType, StateCodec<T> codec,
+                            Path directory, int memoryCapacity) {
+        if (searchStrategyType != SearchStrategyType.BREADTH_FIRST_SEARCH
+                && searchStrategyType != SearchStrategyType.DEPTH_FIRST_SEARCH) {
+            throw new IllegalArgumentException(String.format("The search strategy type: %s" +
+                    " can not be spilled to disk.", searchStrategyType));
+        }
+
+        if (memoryCapacity < 1) {
+            throw new IllegalArgumentException("The memory capacity should be positive.");
+        }
+
+        this.topDown = searchStrategyType == SearchStrategyType.DEPTH_FIRST_SEARCH;
+        this.codec = codec;
+        this.directory = directory;
+        this.memoryCapacity = memoryCapacity;
+        this.lock = new ReentrantLock();
+        this.loaded = lock.newCondition();
+        this.memory = new ArrayDeque<>();
+        this.pending = new ArrayDeque<>();
+        this.segments = new ArrayDeque<>();
+        this.snapshots = new ArrayList<>();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public T poll() {
+        List<T> batch = new ArrayList<>(1);
+        return pollBatch(batch, 1) == 0 ? null : batch.get(0);
+    }
+
+    @Override
+    public void put(T state) throws InterruptedException {
+        putAll(Collections.singletonList(state));
+    }
+
+    @Override
+    public int pollBatch(Collection<? super T> batch, int maxStates) {
+        List<Path> consumed = new ArrayList<>();
+        int count = 0;
+
+        lock.lock();
+        try {
+            while (count < maxStates && size > 0) {
+                if (memory.isEmpty() && !refill(consumed)) {
+                    continue;
+                }
+
+                batch.add(topDown ? memory.pollLast() : memory.pollFirst());
+                size--;
+                count++;
+            }
+        } finally {
+            lock.unlock();
+            delete(consumed);
+        }
+
+        return count;
+    }
+
+    @Override
+    public void putAll(Collection<? extends T> states) throws InterruptedException {
+        List<Segment<T>> spilled = new ArrayList<>();
+
+        lock.lock();
+        try {
+            for (T state : states) {
+                if (topDown) {
+                    push(state, spilled);
+                } else {
+                    append(state, spilled);
+                }
+                size++;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        for (Segment<T> segment : spilled) {
+            store(segment);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The spilled segments stay on disk: their files are linked, or
+     * copied if the file system has no hard links, and read back one at
+     * a time while the snapshot is iterated. The snapshot is
+     * {@link AutoCloseable}, and closing it deletes the linked files,
+     * which are otherwise deleted when the strategy is closed.
+     */
+    @Override
+    public List<T> snapshot() {
+        lock.lock();
+        try {
+            Snapshot snapshot = new Snapshot();
+
+            if (topDown) {
+                for (Segment<T> segment : segments) {
+                    snapshot.add(segment);
+                }
+                snapshot.add(new Segment<>(new ArrayList<>(memory)));
+            } else {
+                snapshot.add(new Segment<>(new ArrayList<>(memory)));
+                for (Segment<T> segment : segments) {
+                    snapshot.add(segment);
+                }
+                snapshot.add(new Segment<>(new ArrayList<>(pending)));
+            }
+
+            snapshots.add(snapshot);
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of spilled segments, including
+     * the ones whose file is still being written.
+     * @return number of segments
+     */
+    public int getNumberOfSegments() {
+        lock.lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Deletes the remaining segment files, including the ones linked by
+     * open snapshots, and drops all the states. A segment whose file is
+     * still being written is deleted by the thread writing it.
+     */
+    @Override
+    public void close() {
+        List<Path> files = new ArrayList<>();
+
+        lock.lock();
+        try {
+            for (Snapshot snapshot : snapshots) {
+                files.addAll(snapshot.links);
+            }
+            snapshots.clear();
+            for (Segment<T> segment : segments) {
+                segment.removed = true;
+                if (segment.file != null) {
+                    files.add(segment.file);
+                }
+            }
+            segments.clear();
+            memory.clear();
+            pending.clear();
+            size = 0;
+        } finally {
+            lock.unlock();
+        }
+
+        delete(files);
+    }
+
+    private void push(T state, List<Segment<T>> spilled) {
+        memory.addLast(state);
+
+        if (memory.size() > 2 * memoryCapacity) {
+            List<T> oldest = new ArrayList<>(memoryCapacity);
+            for (int i = 0; i < memoryCapacity; i++) {
+                oldest.add(memory.pollFirst());
+            }
+            spill(oldest, spilled);
+        }
+    }
+
+    private void append(T state, List<Segment<T>> spilled) {
+        if (segments.isEmpty() && pending.isEmpty() && memory.size() < memoryCapacity) {
+            memory.addLast(state);
+            return;
+        }
+
+        pending.addLast(state);
+        if (pending.size() >= memoryCapacity) {
+            spill(new ArrayList<>(pending), spilled);
+            pending.clear();
+        }
+    }
+
+    /**
+     * Queues the states as the newest segment, which keeps them
+     * on the heap until {@link #store(Segment)} wrote its file.
+     */
+    private void spill(List<T> states, List<Segment<T>> spilled) {
+        Segment<T> segment = new Segment<>(states);
+        segments.addLast(segment);
+        spilled.add(segment);
+    }
+
+    /**
+     * Writes the file of a segment without holding the lock, and then
+     * drops its states from the heap, unless the segment was refilled
+     * meanwhile, in which case the file is no longer needed.
+     */
+    private void store(Segment<T> segment) {
+        Path file = null;
+        StateException failure = null;
+
+        try {
+            file = write(segment.states);
+        } catch (StateException exception) {
+            failure = exception;
+        }
+
+        lock.lock();
+        try {
+            if (segment.removed) {
+                // a refilled segment may already be recycled while it is written
+                failure = null;
+            } else if (failure == null) {
+                segment.file = file;
+                segment.states = null;
+                file = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (file != null) {
+            delete(Collections.singletonList(file));
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Moves the next segment, or the pending states, into memory. A
+     * segment on disk is read without holding the lock: the other
+     * pollers wait for it while the producers keep adding states.
+     *
+     * @param consumed receives the files to delete once the lock is released
+     * @return <code>false</code> if the lock was released, so the
+     *         memory should be checked again
+     */
+    private boolean refill(List<Path> consumed) {
+        Segment<T> segment = topDown ? segments.peekLast() : segments.peekFirst();
+
+        if (segment == null) {
+            memory.addAll(pending);
+            pending.clear();
+            return true;
+        }
+
+        if (segment.states == null) {
+            load(segment);
+            return false;
+        }
+
+        segments.remove(segment);
+        segment.removed = true;
+        memory.addAll(segment.states);
+        if (segment.file != null) {
+            consumed.add(segment.file);
+        }
+        return true;
+    }
+
+    private void load(Segment<T> segment) {
+        if (segment.loading) {
+            loaded.awaitUninterruptibly();
+            return;
+        }
+
+        segment.loading = true;
+        lock.unlock();
+        List<T> states = null;
+        try {
+            states = read(segment.file);
+        } finally {
+            lock.lock();
+            segment.loading = false;
+            segment.states = states;
+            loaded.signalAll();
+        }
+    }
+
+    private Path write(List<T> states) {
+        try {
+            Path file = Files.createTempFile(directory, "gbb-frontier-", ".segment");
+            try (DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(file)))) {
+                output.writeInt(states.size());
+                for (T state : states) {
+                    codec.encode(state, output);
+                }
+            } catch (IOException | RuntimeException exception) {
+                Files.deleteIfExists(file);
+                throw exception;
+            }
+
+            return file;
+        } catch (IOException exception) {
+            throw new StateException("Failed to spill the states to disk.", exception);
+        }
+    }
+
+    private List<T> read(Path file) {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            int count = input.readInt();
+            List<T> states = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                states.add(codec.decode(input));
+            }
+            return states;
+        } catch (IOException exception) {
+            throw new StateException("Failed to read the spilled states from disk.", exception);
+        }
+    }
+
+    /**
+     * Links a segment file under a new name, so the snapshot
+     * still reads it once the segment is refilled.
+     */
+    private Path link(Path file) {
+        try {
+            Path link = Files.createTempFile(directory, "gbb-snapshot-", ".segment");
+            Files.delete(link);
+            try {
+                Files.createLink(link, file);
+            } catch (UnsupportedOperationException | FileSystemException exception) {
+                Files.copy(file, link);
+            }
+            return link;
+        } catch (IOException exception) {
+            throw new StateException("Failed to link the spilled states.", exception);
+        }
+    }
+
+    private static void delete(List<Path> files) {
+        try {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException exception) {
+            throw new StateException("Failed to delete the spilled states.", exception);
+        }
+    }
+
+    /**
+     * Spilled states, on the heap until their file is written and
+     * again once it is read back, and on disk in between.
+     */
+    private static final class Segment<T> {
+        private final int size;
+        private List<T> states;
+        private Path file;
+        private boolean loading;
+        private boolean removed;
+
+        private Segment(List<T> states) {
+            this.size = states.size();
+            this.states = states;
+        }
+
+        private Segment(Path file, int size) {
+            this.size = size;
+            this.file = file;
+        }
+    }
+
+    /**
+     * Copy of the strategy whose spilled part is read from the
+     * linked segment files as it is accessed, one segment at a
+     * time, and which is meant to be iterated in order.
+     */
+    private final class Snapshot extends AbstractList<T> implements AutoCloseable {
+        private final List<Segment<T>> parts;
+        private final List<Integer> starts;
+        private final List<Path> links;
+        private int size;
+        private int readPart;
+        private List<T> readStates;
+
+        private Snapshot() {
+            this.parts = new ArrayList<>();
+            this.starts = new ArrayList<>();
+            this.links = new ArrayList<>();
+            this.readPart = -1;
+        }
+
+        /**
+         * Appends the states of a segment, which the snapshot may
+         * keep as they are since they are never modified.
+         */
+        private void add(Segment<T> segment) {
+            if (segment.size == 0) {
+                return;
+            }
+
+            if (segment.states == null) {
+                Path link = link(segment.file);
+                links.add(link);
+                segment = new Segment<>(link, segment.size);
+            }
+
+            parts.add(segment);
+            starts.add(size);
+            size += segment.size;
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(String.format("Index: %d, size: %d.", index, size));
+            }
+
+            int part = Collections.binarySearch(starts, index);
+            if (part < 0) {
+                part = -part - 2;
+            }
+
+            Segment<T> segment = parts.get(part);
+            List<T> states = segment.states;
+            if (states == null) {
+                if (readPart != part) {
+                    readStates = read(segment.file);
+                    readPart = part;
+                }
+                states = readStates;
+            }
+
+            return states.get(index - starts.get(part));
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Deletes the linked segment files.
+         */
+        @Override
+        public void close() {
+            lock.lock();
+            try {
+                snapshots.remove(this);
+            } finally {
+                lock.unlock();
+            }
+
+            delete(links);
+            readStates = null;
+        }
+    }
+}
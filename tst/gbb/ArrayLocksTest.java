@@ -0,0 +1,54 @@
+package gbb;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public class ArrayLocksTest {
+
+    @Test
+    public void perElementLocksTest() {
+        /** GIVEN */
+        ArrayLocks locks = ArrayLocks.create(ArrayLockingType.PER_ELEMENT, 4, 10);
+
+        /** THEN */
+        assertEquals(10, locks.getNumberOfLocks());
+        assertNotSame(locks.lockFor(0), locks.lockFor(4));
+    }
+
+    @Test
+    public void stripedLocksTest() {
+        /** GIVEN */
+        ArrayLocks locks = ArrayLocks.create(ArrayLockingType.STRIPED, 4, 10);
+
+        /** THEN */
+        assertEquals(4, locks.getNumberOfLocks());
+        assertSame(locks.lockFor(1), locks.lockFor(5));
+        assertSame(locks.lockFor(1), locks.lockFor(9));
+        assertNotSame(locks.lockFor(1), locks.lockFor(2));
+    }
+
+    @Test
+    public void stripedLocksOfSmallArrayTest() {
+        /** GIVEN */
+        ArrayLocks locks = ArrayLocks.create(ArrayLockingType.STRIPED, 64, 1);
+
+        /** THEN */
+        assertEquals(1, locks.getNumberOfLocks());
+    }
+
+    @Test
+    public void singleLockTest() {
+        /** GIVEN */
+        ArrayLocks locks = ArrayLocks.create(ArrayLockingType.SINGLE, 4, 10);
+
+        /** THEN */
+        assertEquals(1, locks.getNumberOfLocks());
+        assertSame(locks.lockFor(0), locks.lockFor(9));
+    }
+}
@@ -0,0 +1,115 @@
+package gbb;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public class CheckpointTest {
+    private static final StateCodec<State> CODEC = new NumberStateCodec();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void writeAndReadTest() throws IOException {
+        /** GIVEN */
+        Path file = folder.getRoot().toPath().resolve("job.checkpoint");
+        Map<String, Object> arrays = new LinkedHashMap<>();
+        arrays.put("values", new Object[] {null, 7, 8L, 2.5, true, "text", new NumberState(3), BigInteger.TEN});
+        arrays.put("ints", new int[] {1, -2, 3});
+        arrays.put("longs", new long[] {Long.MAX_VALUE, 0});
+        arrays.put("doubles", new double[] {0.5, Double.NaN});
+        ConcurrentLongMap<Object> memo = new ConcurrentLongMap<>(8);
+        memo.put(0, "zero");
+        memo.put(-3, 9L);
+        arrays.put("memo", memo);
+        Checkpoint checkpoint = new Checkpoint(new Incumbent(new NumberState(42), 42.0), arrays,
+                Arrays.asList(new NumberState(1), new NumberState(2)));
+
+        /** WHEN */
+        checkpoint.write(file, CODEC);
+        Checkpoint read = Checkpoint.read(file, CODEC);
+
+        /** THEN */
+        assertEquals(42.0, read.getIncumbent().getValue(), 0);
+        assertEquals(42, ((NumberState) read.getIncumbent().getSolution()).number);
+        Object[] values = (Object[]) read.getArrays().get("values");
+        assertArrayEquals(new Object[] {null, 7, 8L, 2.5, true, "text"}, Arrays.copyOf(values, 6));
+        assertEquals(3, ((NumberState) values[6]).number);
+        assertEquals(BigInteger.TEN, values[7]);
+        assertArrayEquals(new int[] {1, -2, 3}, (int[]) read.getArrays().get("ints"));
+        assertArrayEquals(new long[] {Long.MAX_VALUE, 0}, (long[]) read.getArrays().get("longs"));
+        assertArrayEquals(new double[] {0.5, Double.NaN}, (double[]) read.getArrays().get("doubles"), 0);
+        ConcurrentLongMap<Object> readMemo = (ConcurrentLongMap<Object>) read.getArrays().get("memo");
+        assertEquals(8, readMemo.getCapacity());
+        assertEquals("zero", readMemo.get(0));
+        assertEquals(9L, readMemo.get(-3));
+        assertEquals(2, read.getFrontier().size());
+        assertEquals(2, ((NumberState) read.getFrontier().get(1)).number);
+        assertEquals(1, folder.getRoot().listFiles().length);
+    }
+
+    @Test
+    public void emptyIncumbentTest() throws IOException {
+        /** GIVEN */
+        Path file = folder.getRoot().toPath().resolve("job.checkpoint");
+        Checkpoint checkpoint = new Checkpoint(Incumbent.NONE, new LinkedHashMap<>(), Arrays.asList());
+
+        /** WHEN */
+        checkpoint.write(file, CODEC);
+        Checkpoint read = Checkpoint.read(file, CODEC);
+
+        /** THEN */
+        assertNull(read.getIncumbent().getSolution());
+        assertEquals(Double.POSITIVE_INFINITY, read.getIncumbent().getValue(), 0);
+        assertEquals(0, read.getFrontier().size());
+    }
+
+    @Test (expected = IOException.class)
+    public void unknownFileTest() throws IOException {
+        /** GIVEN */
+        Path file = folder.getRoot().toPath().resolve("other.file");
+        Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+
+        /** WHEN */
+        Checkpoint.read(file, CODEC);
+    }
+
+    private static final class NumberState implements State {
+        private int number;
+
+        private NumberState(int number) {
+            this.number = number;
+        }
+    }
+
+    private static final class NumberStateCodec implements StateCodec<State> {
+
+        @Override
+        public void encode(State state, DataOutput output) throws IOException {
+            output.writeInt(((NumberState) state).number);
+        }
+
+        @Override
+        public State decode(DataInput input) throws IOException {
+            return new NumberState(input.readInt());
+        }
+    }
+}
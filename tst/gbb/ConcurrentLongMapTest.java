@@ -0,0 +1,186 @@
+package gbb;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public class ConcurrentLongMapTest {
+
+    @Test
+    public void putAndGetTest() {
+        /** GIVEN */
+        ConcurrentLongMap<String> map = new ConcurrentLongMap<>(4);
+
+        /** WHEN */
+        map.put(0, "zero");
+        map.put(-7, "minus seven");
+        map.put(Long.MAX_VALUE, "max");
+        String previous = map.put(-7, "other");
+
+        /** THEN */
+        assertEquals("zero", map.get(0));
+        assertEquals("other", map.get(-7));
+        assertEquals("minus seven", previous);
+        assertEquals("max", map.get(Long.MAX_VALUE));
+        assertNull(map.get(42));
+    }
+
+    @Test
+    public void removeTest() {
+        /** GIVEN */
+        ConcurrentLongMap<String> map = new ConcurrentLongMap<>(4);
+        map.put(3, "three");
+        map.put(0, "zero");
+
+        /** WHEN */
+        map.put(3, null);
+        map.compute(0, value -> null);
+
+        /** THEN */
+        assertNull(map.get(3));
+        assertNull(map.get(0));
+        assertNull(map.put(5, null));
+    }
+
+    @Test
+    public void computeTest() {
+        /** GIVEN */
+        ConcurrentLongMap<Integer> map = new ConcurrentLongMap<>(4);
+
+        /** WHEN */
+        map.compute(11, value -> value == null ? 1 : value + 1);
+        int result = map.compute(11, value -> value == null ? 1 : value + 1);
+
+        /** THEN */
+        assertEquals(2, result);
+        assertEquals(2, (int) map.get(11));
+    }
+
+    @Test (expected = IllegalStateException.class)
+    public void fullMapTest() {
+        /** GIVEN */
+        ConcurrentLongMap<Long> map = new ConcurrentLongMap<>(1);
+
+        /** WHEN */
+        for (long key = 1; key <= 5; key++) {
+            map.put(key, key);
+        }
+    }
+
+    @Test
+    public void removedSlotsAreReusedTest() {
+        /** GIVEN */
+        int capacity = 16;
+        ConcurrentLongMap<Long> map = new ConcurrentLongMap<>(capacity);
+
+        /** WHEN */
+        for (long key = 1; key <= 100 * capacity; key++) {
+            map.put(key, key);
+            if (key > capacity) {
+                map.put(key - capacity, null);
+            }
+        }
+
+        /** THEN */
+        for (long key = 1; key <= 100 * capacity; key++) {
+            assertEquals(key > 99 * capacity ? Long.valueOf(key) : null, map.get(key));
+        }
+    }
+
+    @Test
+    public void concurrentRemoveTest() throws InterruptedException {
+        /** GIVEN */
+        int capacity = 64;
+        int numberOfThreads = 4;
+        int rounds = 20000;
+        ConcurrentLongMap<Integer> map = new ConcurrentLongMap<>(capacity);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < numberOfThreads; i++) {
+            long thread = i;
+            threads.add(new Thread(() -> {
+                for (long round = 0; round < rounds; round++) {
+                    long key = numberOfThreads + round * numberOfThreads + thread + 1;
+                    map.compute(key, value -> value == null ? 1 : value + 1);
+                    map.compute(thread + 1, value -> value == null ? 1 : value + 1);
+                    map.put(key, null);
+                }
+            }));
+        }
+
+        /** WHEN */
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        /** THEN */
+        Map<Long, Integer> entries = new HashMap<>();
+        map.forEach(entries::put);
+        assertEquals(numberOfThreads, entries.size());
+        for (long thread = 1; thread <= numberOfThreads; thread++) {
+            assertEquals(rounds, (int) entries.get(thread));
+        }
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void nonPositiveCapacityTest() {
+        /** WHEN */
+        new ConcurrentLongMap<>(0);
+    }
+
+    @Test
+    public void forEachTest() {
+        /** GIVEN */
+        ConcurrentLongMap<Long> map = new ConcurrentLongMap<>(16);
+        Map<Long, Long> entries = new HashMap<>();
+        for (long key = -8; key < 8; key++) {
+            map.put(key, key * key);
+        }
+        map.put(5, null);
+
+        /** WHEN */
+        map.forEach(entries::put);
+
+        /** THEN */
+        assertEquals(15, entries.size());
+        assertEquals(64, (long) entries.get(-8L));
+        assertEquals(0, (long) entries.get(0L));
+        assertNull(entries.get(5L));
+    }
+
+    @Test
+    public void concurrentComputeTest() throws InterruptedException {
+        /** GIVEN */
+        int keys = 1000;
+        int numberOfThreads = 4;
+        ConcurrentLongMap<Integer> map = new ConcurrentLongMap<>(keys);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < numberOfThreads; i++) {
+            threads.add(new Thread(() -> {
+                for (long key = 0; key < keys; key++) {
+                    map.compute(key * 31, value -> value == null ? 1 : value + 1);
+                }
+            }));
+        }
+
+        /** WHEN */
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        /** THEN */
+        for (long key = 0; key < keys; key++) {
+            assertEquals(numberOfThreads, (int) map.get(key * 31));
+        }
+    }
+}
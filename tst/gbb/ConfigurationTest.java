@@ -1,11 +1,19 @@
 package gbb;
 
 import gbb.Configuration;
+import gbb.exploring.MemoryBoundedStrategy;
+import gbb.exploring.SearchStrategy;
 import gbb.exploring.SearchStrategyType;
 import org.junit.Test;
 
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 6/21/19)
@@ -20,6 +28,16 @@ public class ConfigurationTest {
         /** THEN */
         assertEquals(1, configuration.getNumberOfExecutors());
         assertEquals(SearchStrategyType.DEPTH_FIRST_SEARCH, configuration.getSearchStrategyType());
+        assertEquals(ExecutionEngineType.SHARED_FRONTIER, configuration.getExecutionEngineType());
+        assertEquals(1, configuration.getBatchSize());
+        assertNull(configuration.getSearchStrategySupplier());
+        assertNull(configuration.getSequentialCutoff());
+        assertEquals(Integer.MAX_VALUE, configuration.getFrontierCutoff());
+        assertEquals(ArrayLockingType.PER_ELEMENT, configuration.getArrayLockingType());
+        assertEquals(64, configuration.getLockStripes());
+        assertEquals(0, configuration.getTranspositionTableCapacity());
+        assertEquals(ExecutorType.PLATFORM_THREADS, configuration.getExecutorType());
+        assertEquals(0, configuration.getExpansionPermits());
     }
 
     @Test
@@ -27,14 +45,30 @@ public class ConfigurationTest {
         /** GIVEN */
         int numberOfExecutors = 4;
         SearchStrategyType searchStrategyType = SearchStrategyType.BREADTH_FIRST_SEARCH;
+        ExecutionEngineType executionEngineType = ExecutionEngineType.WORK_STEALING;
+        Predicate<State> sequentialCutoff = state -> true;
         Configuration configuration = new Configuration.Builder()
                 .withNumberOfExecutors(numberOfExecutors)
                 .withSearchStrategy(searchStrategyType)
+                .withExecutionEngine(executionEngineType)
+                .withBatchSize(16)
+                .withSequentialCutoff(sequentialCutoff)
+                .withFrontierCutoff(64)
+                .withArrayLocking(ArrayLockingType.SINGLE)
+                .withLockStripes(8)
+                .withTranspositionTable(1024)
                 .build();
 
         /** THEN */
         assertEquals(numberOfExecutors, configuration.getNumberOfExecutors());
         assertEquals(searchStrategyType, configuration.getSearchStrategyType());
+        assertEquals(executionEngineType, configuration.getExecutionEngineType());
+        assertEquals(16, configuration.getBatchSize());
+        assertSame(sequentialCutoff, configuration.getSequentialCutoff());
+        assertEquals(64, configuration.getFrontierCutoff());
+        assertEquals(ArrayLockingType.SINGLE, configuration.getArrayLockingType());
+        assertEquals(8, configuration.getLockStripes());
+        assertEquals(1024, configuration.getTranspositionTableCapacity());
     }
 
     @Test
@@ -42,9 +76,11 @@ public class ConfigurationTest {
         /** GIVEN */
         int numberOfExecutors = 4;
         SearchStrategyType searchStrategyType = SearchStrategyType.BREADTH_FIRST_SEARCH;
+        ExecutionEngineType executionEngineType = ExecutionEngineType.WORK_STEALING;
         Configuration configuration = new Configuration.Builder()
                 .withNumberOfExecutors(numberOfExecutors)
                 .withSearchStrategy(searchStrategyType)
+                .withExecutionEngine(executionEngineType)
                 .build();
 
         /** WHEN */
@@ -54,5 +90,172 @@ public class ConfigurationTest {
         assertNotEquals(configuration, copyConfiguration);
         assertEquals(numberOfExecutors, copyConfiguration.getNumberOfExecutors());
         assertEquals(searchStrategyType, copyConfiguration.getSearchStrategyType());
+        assertEquals(executionEngineType, copyConfiguration.getExecutionEngineType());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void nonPositiveBatchSizeTest() {
+        /** WHEN */
+        new Configuration.Builder().withBatchSize(0);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void nonPositiveFrontierCutoffTest() {
+        /** WHEN */
+        new Configuration.Builder().withFrontierCutoff(0);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void nonPositiveLockStripesTest() {
+        /** WHEN */
+        new Configuration.Builder().withLockStripes(0);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void nonPositiveTranspositionTableCapacityTest() {
+        /** WHEN */
+        new Configuration.Builder().withTranspositionTable(0);
+    }
+
+    @Test
+    public void virtualThreadsTest() {
+        /** GIVEN */
+        Configuration configuration = new Configuration.Builder()
+                .withVirtualThreads(1000)
+                .build();
+
+        /** THEN */
+        assertEquals(ExecutorType.VIRTUAL_THREADS, configuration.getExecutorType());
+        assertEquals(1000, new Configuration(configuration).getExpansionPermits());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void nonPositiveExpansionPermitsTest() {
+        /** WHEN */
+        new Configuration.Builder().withVirtualThreads(0);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void virtualThreadsWithWorkStealingTest() {
+        /** WHEN */
+        new Configuration.Builder()
+                .withVirtualThreads(16)
+                .withExecutionEngine(ExecutionEngineType.WORK_STEALING)
+                .build();
+    }
+
+    @Test
+    public void budgetsTest() {
+        /** GIVEN */
+        Configuration configuration = new Configuration.Builder()
+                .withTimeLimit(2, TimeUnit.SECONDS)
+                .withNodeLimit(1000)
+                .withFrontierLimit(100)
+                .build();
+
+        /** WHEN */
+        Configuration copy = new Configuration(configuration);
+
+        /** THEN */
+        assertEquals(2000, copy.getTimeLimit());
+        assertEquals(1000, copy.getNodeLimit());
+        assertEquals(100, copy.getFrontierLimit());
+    }
+
+    @Test
+    public void boundIntervalTest() {
+        /** GIVEN */
+        Configuration configuration = new Configuration.Builder()
+                .withEarlyStop(result -> result.getRelativeGap() <= 0.01, 2, TimeUnit.SECONDS)
+                .build();
+
+        /** WHEN */
+        Configuration copy = new Configuration(configuration);
+
+        /** THEN */
+        assertEquals(2000, copy.getBoundInterval());
+        assertEquals(0, new Configuration.Builder().withEarlyStop(result -> true).build().getBoundInterval());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void nonPositiveBoundIntervalTest() {
+        /** WHEN */
+        new Configuration.Builder().withEarlyStop(result -> true, 0, TimeUnit.SECONDS);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void boundIntervalWithWorkStealingTest() {
+        /** WHEN */
+        new Configuration.Builder()
+                .withEarlyStop(result -> true, 1, TimeUnit.SECONDS)
+                .withExecutionEngine(ExecutionEngineType.WORK_STEALING)
+                .build();
+    }
+
+    @Test
+    public void noBudgetsTest() {
+        /** GIVEN */
+        Configuration configuration = new Configuration.Builder().build();
+
+        /** THEN */
+        assertEquals(0, configuration.getTimeLimit());
+        assertEquals(Long.MAX_VALUE, configuration.getNodeLimit());
+        assertEquals(Long.MAX_VALUE, configuration.getFrontierLimit());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void nonPositiveTimeLimitTest() {
+        /** WHEN */
+        new Configuration.Builder().withTimeLimit(0, TimeUnit.SECONDS);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void nonPositiveNodeLimitTest() {
+        /** WHEN */
+        new Configuration.Builder().withNodeLimit(0);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void nonPositiveFrontierLimitTest() {
+        /** WHEN */
+        new Configuration.Builder().withFrontierLimit(-1);
+    }
+
+    @Test
+    public void statisticsTest() {
+        /** GIVEN */
+        Configuration configuration = new Configuration.Builder()
+                .withStatistics(true)
+                .withJmxName("knapsack")
+                .build();
+
+        /** WHEN */
+        Configuration copy = new Configuration(configuration);
+
+        /** THEN */
+        assertTrue(copy.isStatisticsEnabled());
+        assertEquals("knapsack", copy.getJmxName());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void jmxNameWithoutStatisticsTest() {
+        /** WHEN */
+        new Configuration.Builder()
+                .withJmxName("knapsack")
+                .build();
+    }
+
+    @Test
+    public void customSearchStrategyTest() {
+        /** GIVEN */
+        Configuration configuration = new Configuration.Builder()
+                .withSearchStrategy(() -> new MemoryBoundedStrategy<>(16))
+                .build();
+
+        /** WHEN */
+        SearchStrategy<State> strategy = new Configuration(configuration).getSearchStrategySupplier().get();
+
+        /** THEN */
+        assertTrue(strategy instanceof MemoryBoundedStrategy);
     }
 }
@@ -0,0 +1,236 @@
+package gbb;
+
+import gbb.exceptions.StateException;
+import gbb.exploring.SearchStrategyType;
+import org.junit.Test;
+
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public class DistributedTest {
+    private static final int N = 12;
+
+    @Test (timeout = 30000)
+    public void workerThreadsTest() throws Exception {
+        /** GIVEN */
+        Coordinator coordinator = new Coordinator(0, 3, new DistributedWorkerProcess.SubsetState(0, 0),
+                new DistributedWorkerProcess.SubsetCodec());
+        List<CompletableFuture<JobResult>> workers = new ArrayList<>();
+
+        /** WHEN */
+        for (int i = 0; i < 3; i++) {
+            DistributedWorker worker = new DistributedWorker(DistributedWorkerProcess.createJob(N), "localhost",
+                    coordinator.getPort());
+            workers.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return worker.run();
+                } catch (Exception exception) {
+                    throw new IllegalStateException(exception);
+                }
+            }));
+        }
+        JobResult result = coordinator.run();
+
+        /** THEN */
+        long workerExpandedStates = 0;
+        for (CompletableFuture<JobResult> worker : workers) {
+            JobResult workerResult = worker.get(10, TimeUnit.SECONDS);
+            workerExpandedStates += workerResult.getExpandedStates();
+            assertEquals(-N, workerResult.getBestValue(), 0);
+        }
+        assertEquals(1 << N, result.getExpandedStates());
+        assertEquals(1 << N, workerExpandedStates);
+        assertEquals(-N, result.getBestValue(), 0);
+        assertEquals(N, result.<DistributedWorkerProcess.SubsetState>getBestSolution().getSize());
+    }
+
+    @Test (timeout = 60000)
+    public void workerProcessesTest() throws Exception {
+        /** GIVEN */
+        Coordinator coordinator = new Coordinator(0, 2, new DistributedWorkerProcess.SubsetState(0, 0),
+                new DistributedWorkerProcess.SubsetCodec());
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        List<Process> processes = new ArrayList<>();
+
+        /** WHEN */
+        for (int i = 0; i < 2; i++) {
+            processes.add(new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                    DistributedWorkerProcess.class.getName(), "localhost", String.valueOf(coordinator.getPort()),
+                    String.valueOf(N))
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start());
+        }
+        JobResult result = coordinator.run();
+
+        /** THEN */
+        for (Process process : processes) {
+            assertTrue(process.waitFor(10, TimeUnit.SECONDS));
+            assertEquals(0, process.exitValue());
+        }
+        assertEquals(1 << N, result.getExpandedStates());
+        assertEquals(-N, result.getBestValue(), 0);
+    }
+
+    @Test (timeout = 10000)
+    public void receivedSolutionIsNotSentBackTest() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            /** GIVEN */
+            DistributedWorker worker = new DistributedWorker(DistributedWorkerProcess.createJob(N), "localhost",
+                    serverSocket.getLocalPort());
+            CompletableFuture<JobResult> result = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return worker.run();
+                } catch (Exception exception) {
+                    throw new IllegalStateException(exception);
+                }
+            });
+            List<Byte> received = new ArrayList<>();
+
+            /** WHEN */
+            try (Channel channel = new Channel(serverSocket.accept(),
+                    (StateCodec) new DistributedWorkerProcess.SubsetCodec())) {
+                channel.receiveHeader();
+                received.add(channel.receive().getType());
+                channel.sendSolution(new DistributedWorkerProcess.SubsetState(N - 1, N), -N);
+                channel.sendTerminate();
+                channel.shutdownOutput();
+
+                try {
+                    while (true) {
+                        received.add(channel.receive().getType());
+                    }
+                } catch (EOFException exception) {
+                    // the worker closed the connection
+                }
+            }
+
+            /** THEN */
+            assertEquals(Collections.singletonList(Channel.REQUEST_WORK), received);
+            assertEquals(-N, result.get(10, TimeUnit.SECONDS).getBestValue(), 0);
+        }
+    }
+
+    @Test (expected = StateException.class, timeout = 10000)
+    public void unknownProtocolTest() throws Exception {
+        /** GIVEN */
+        Coordinator coordinator = new Coordinator(0, 1, new DistributedWorkerProcess.SubsetState(0, 0),
+                new DistributedWorkerProcess.SubsetCodec());
+
+        /** WHEN */
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), coordinator.getPort())) {
+            DataOutputStream output = new DataOutputStream(socket.getOutputStream());
+            output.writeInt(42);
+            output.writeInt(42);
+            output.flush();
+            coordinator.run();
+        }
+    }
+
+    @Test (expected = StateException.class, timeout = 10000)
+    public void lostConnectionTest() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            /** GIVEN */
+            Job job = new Job.Builder()
+                    .withConfiguration(new Configuration.Builder()
+                            .withStateCodec(new DistributedWorkerProcess.SubsetCodec())
+                            .withSearchStrategy(SearchStrategyType.BREADTH_FIRST_SEARCH)
+                            .build())
+                    .withTaskFactory(SlowBinaryTask::new)
+                    .build();
+            DistributedWorker worker = new DistributedWorker(job, "localhost", serverSocket.getLocalPort());
+            CompletableFuture.runAsync(() -> {
+                try (Socket socket = serverSocket.accept();
+                     Channel channel = new Channel(socket, (StateCodec) new DistributedWorkerProcess.SubsetCodec())) {
+                    channel.receiveHeader();
+                    channel.receive();
+                    channel.sendWork(Collections.singletonList(new DistributedWorkerProcess.SubsetState(0, 0)));
+                    while (channel.receive().getType() != Channel.SOLUTION) {
+                        // waits for the worker to explore
+                    }
+                    socket.setSoLinger(true, 0);
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+
+            /** WHEN */
+            worker.run();
+        }
+    }
+
+    @Test (expected = StateException.class, timeout = 10000)
+    public void acceptTimeoutTest() throws Exception {
+        try (Coordinator coordinator = new Coordinator(0, 2, new DistributedWorkerProcess.SubsetState(0, 0),
+                new DistributedWorkerProcess.SubsetCodec())) {
+            /** GIVEN */
+            coordinator.setAcceptTimeout(100, TimeUnit.MILLISECONDS);
+
+            /** WHEN */
+            coordinator.run();
+        }
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void workerWithoutCodecTest() {
+        /** GIVEN */
+        Job job = new Job.Builder().build();
+
+        /** WHEN */
+        new DistributedWorker(job, "localhost", 0);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void workerWithWorkStealingTest() {
+        /** GIVEN */
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withStateCodec(new DistributedWorkerProcess.SubsetCodec())
+                        .withExecutionEngine(ExecutionEngineType.WORK_STEALING)
+                        .build())
+                .build();
+
+        /** WHEN */
+        new DistributedWorker(job, "localhost", 0);
+    }
+
+    /**
+     * Expands a binary tree of the given depth slowly, so breadth
+     * first it keeps finding better solutions for a while.
+     */
+    private static final class SlowBinaryTask extends Task<DistributedWorkerProcess.SubsetState> {
+        private static final int DEPTH = 12;
+
+        @Override
+        public Collection<DistributedWorkerProcess.SubsetState> compute(DistributedWorkerProcess.SubsetState state) {
+            getJob().offerSolution(state, -state.getSize());
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+
+            if (state.getSize() == DEPTH) {
+                return Collections.emptyList();
+            }
+            return Arrays.asList(new DistributedWorkerProcess.SubsetState(0, state.getSize() + 1),
+                    new DistributedWorkerProcess.SubsetState(0, state.getSize() + 1));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package gbb;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Worker of the distributed search tests, run either on a thread
+ * or in its own JVM through {@link #main(String[])}. It enumerates
+ * every subset of {1..n}, offering minus the size of each subset.
+ * The process exits with a non-zero status if the search fails.
+ *
+ * Usage: <code>DistributedWorkerProcess host port n</code>
+ *
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public final class DistributedWorkerProcess {
+
+    private DistributedWorkerProcess() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Job job = createJob(Integer.parseInt(args[2]));
+        new DistributedWorker(job, args[0], Integer.parseInt(args[1])).run();
+    }
+
+    static Job createJob(int n) {
+        return new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withStateCodec(new SubsetCodec())
+                        .build())
+                .withTaskFactory(() -> new SubsetTask(n))
+                .build();
+    }
+
+    /**
+     * Subset whose largest element is last.
+     */
+    static final class SubsetState implements State {
+        private final int last;
+        private final int size;
+
+        SubsetState(int last, int size) {
+            this.last = last;
+            this.size = size;
+        }
+
+        int getSize() {
+            return size;
+        }
+    }
+
+    static final class SubsetCodec implements StateCodec<SubsetState> {
+
+        @Override
+        public void encode(SubsetState state, DataOutput output) throws IOException {
+            output.writeInt(state.last);
+            output.writeInt(state.size);
+        }
+
+        @Override
+        public SubsetState decode(DataInput input) throws IOException {
+            return new SubsetState(input.readInt(), input.readInt());
+        }
+    }
+
+    private static final class SubsetTask extends Task<SubsetState> {
+        private final int n;
+
+        private SubsetTask(int n) {
+            this.n = n;
+        }
+
+        @Override
+        public Collection<SubsetState> compute(SubsetState state) {
+            getJob().offerSolution(state, -state.size);
+
+            List<SubsetState> nextStates = new ArrayList<>();
+            for (int i = state.last + 1; i <= n; i++) {
+                nextStates.add(new SubsetState(i, state.size + 1));
+            }
+            return nextStates;
+        }
+    }
+}
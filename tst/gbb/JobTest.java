@@ -4,41 +4,1570 @@ import gbb.Configuration;
 import gbb.Job;
 import gbb.State;
 import gbb.Task;
+import gbb.exceptions.StateException;
+import gbb.exceptions.TaskException;
+import gbb.exploring.MemoryBoundedStrategy;
+import gbb.exploring.SearchStrategy;
+import gbb.exploring.SpillingStrategy;
+import gbb.exploring.SearchStrategyType;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
 
 /**
  * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 6/21/19)
  */
 public class JobTest {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void backtrackingTest() {
+        /** GIVEN */
+        int n = 5;
+        int expectedSolution = 32; //2 ** 5
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder().build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(SubsetTask.class)
+                .registerArray("n", new Object[1])
+                .registerArray("solution", new Object[1])
+                .build();
+
+        /** WHEN */
+        job.updateArray("n", n, 0);
+        job.updateArray("solution", 0, 0);
+        job.start();
+        int solution = (int) job.queryArray("solution", 0);
+
+        /** THEN */
+        assertEquals(expectedSolution, solution);
+    }
+
+    @Test
+    public void parallelBacktrackingTest() {
+        /** GIVEN */
+        int n = 10;
+        int expectedSolution = 1024; //2 ** 10
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withNumberOfExecutors(4)
+                        .withSearchStrategy(SearchStrategyType.BREADTH_FIRST_SEARCH)
+                        .build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(CountingSubsetTask.class)
+                .registerArray("n", new Object[1])
+                .registerArray("solution", new Object[1])
+                .build();
+
+        /** WHEN */
+        job.updateArray("n", n, 0);
+        job.updateArray("solution", 0, 0);
+        job.start();
+        int solution = (int) job.queryArray("solution", 0);
+
+        /** THEN */
+        assertEquals(expectedSolution, solution);
+    }
+
+    @Test
+    public void workStealingBacktrackingTest() {
+        /** GIVEN */
+        int n = 12;
+        int expectedSolution = 4096; //2 ** 12
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withNumberOfExecutors(4)
+                        .withExecutionEngine(ExecutionEngineType.WORK_STEALING)
+                        .build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(CountingSubsetTask.class)
+                .registerArray("n", new Object[1])
+                .registerArray("solution", new Object[1])
+                .build();
+
+        /** WHEN */
+        job.updateArray("n", n, 0);
+        job.updateArray("solution", 0, 0);
+        job.start();
+        int solution = (int) job.queryArray("solution", 0);
+
+        /** THEN */
+        assertEquals(expectedSolution, solution);
+    }
+
+    @Test (expected = TaskException.class)
+    public void workStealingFailingTaskTest() {
+        /** GIVEN */
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withNumberOfExecutors(2)
+                        .withExecutionEngine(ExecutionEngineType.WORK_STEALING)
+                        .build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(FailingTask.class)
+                .build();
+
+        /** WHEN */
+        job.start();
+    }
+
+    @Test
+    public void sharedFrontierBatchedBacktrackingTest() {
+        batchedBacktrackingTest(ExecutionEngineType.SHARED_FRONTIER);
+    }
+
+    @Test
+    public void workStealingBatchedBacktrackingTest() {
+        batchedBacktrackingTest(ExecutionEngineType.WORK_STEALING);
+    }
+
+    private void batchedBacktrackingTest(ExecutionEngineType executionEngineType) {
+        /** GIVEN */
+        int n = 12;
+        int expectedSolution = 4096; //2 ** 12
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withNumberOfExecutors(4)
+                        .withExecutionEngine(executionEngineType)
+                        .withBatchSize(8)
+                        .build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(CountingSubsetTask.class)
+                .registerArray("n", new Object[1])
+                .registerArray("solution", new Object[1])
+                .build();
+
+        /** WHEN */
+        job.updateArray("n", n, 0);
+        job.updateArray("solution", 0, 0);
+        job.start();
+        int solution = (int) job.queryArray("solution", 0);
+
+        /** THEN */
+        assertEquals(expectedSolution, solution);
+    }
+
+    @Test
+    public void memoryBoundedBacktrackingTest() {
+        /** GIVEN */
+        int n = 12;
+        int expectedSolution = 4096; //2 ** 12
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withNumberOfExecutors(4)
+                        .withSearchStrategy(() -> new MemoryBoundedStrategy<>(64))
+                        .build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(CountingSubsetTask.class)
+                .registerArray("n", new Object[1])
+                .registerArray("solution", new Object[1])
+                .build();
+
+        /** WHEN */
+        job.updateArray("n", n, 0);
+        job.updateArray("solution", 0, 0);
+        job.start();
+        int solution = (int) job.queryArray("solution", 0);
+
+        /** THEN */
+        assertEquals(expectedSolution, solution);
+    }
+
+    @Test
+    public void searchStrategyDecidesOrderTest() {
+        /** GIVEN */
+        List<String> expectedOrder = Arrays.asList("", "1", "2", "3", "1, 2", "1, 3", "2, 3", "1, 2, 3");
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withSearchStrategy(SearchStrategyType.BREADTH_FIRST_SEARCH)
+                        .build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(RecordingSubsetTask.class)
+                .registerArray("n", new Object[1])
+                .registerArray("solution", new Object[1])
+                .build();
+
+        /** WHEN */
+        job.updateArray("n", 3, 0);
+        job.updateArray("solution", 0, 0);
+        RecordingSubsetTask.ORDER.clear();
+        job.start();
+
+        /** THEN */
+        assertEquals(expectedOrder, RecordingSubsetTask.ORDER);
+    }
+
+    @Test
+    public void sequentialCutoffExploresInlineTest() {
+        /** GIVEN */
+        List<String> expectedOrder = Arrays.asList("", "3", "2", "2, 3", "1", "1, 3", "1, 2", "1, 2, 3");
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withSearchStrategy(SearchStrategyType.BREADTH_FIRST_SEARCH)
+                        .withSequentialCutoff(state -> !((SubsetState) state).getPositions().isEmpty())
+                        .build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(RecordingSubsetTask.class)
+                .registerArray("n", new Object[1])
+                .registerArray("solution", new Object[1])
+                .build();
+
+        /** WHEN */
+        job.updateArray("n", 3, 0);
+        RecordingSubsetTask.ORDER.clear();
+        job.start();
+
+        /** THEN */
+        assertEquals(expectedOrder, RecordingSubsetTask.ORDER);
+    }
+
+    @Test
+    public void sharedFrontierCutoffTest() {
+        cutoffTest(ExecutionEngineType.SHARED_FRONTIER);
+    }
+
+    @Test
+    public void workStealingCutoffTest() {
+        cutoffTest(ExecutionEngineType.WORK_STEALING);
+    }
+
+    private void cutoffTest(ExecutionEngineType executionEngineType) {
+        /** GIVEN */
+        int n = 12;
+        int expectedSolution = 4096; //2 ** 12
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withNumberOfExecutors(4)
+                        .withExecutionEngine(executionEngineType)
+                        .withSequentialCutoff(state -> ((SubsetState) state).getPositions().size() >= 4)
+                        .withFrontierCutoff(16)
+                        .build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(CountingSubsetTask.class)
+                .registerArray("n", new Object[1])
+                .registerArray("solution", new Object[1])
+                .build();
+
+        /** WHEN */
+        job.updateArray("n", n, 0);
+        job.updateArray("solution", 0, 0);
+        job.start();
+        int solution = (int) job.queryArray("solution", 0);
+
+        /** THEN */
+        assertEquals(expectedSolution, solution);
+    }
+
+    @Test (expected = TaskException.class)
+    public void failingTaskTest() {
+        /** GIVEN */
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder().withNumberOfExecutors(2).build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(FailingTask.class)
+                .build();
+
+        /** WHEN */
+        job.start();
+    }
+
+    @Test
+    public void offerSolutionIsMonotonicTest() {
+        /** GIVEN */
+        Job job = new Job.Builder().build();
+        State first = SubsetState.getInitialState();
+        State second = SubsetState.getInitialState();
+
+        /** WHEN & THEN */
+        assertEquals(Double.POSITIVE_INFINITY, job.getBestValue(), 0);
+        assertNull(job.getBestSolution());
+        assertTrue(job.offerSolution(first, 10));
+        assertFalse(job.offerSolution(second, 12));
+        assertFalse(job.offerSolution(second, 10));
+        assertSame(first, job.getBestSolution());
+        assertTrue(job.offerSolution(second, 5));
+        assertSame(second, job.getBestSolution());
+        assertEquals(5, job.getBestValue(), 0);
+    }
+
+    @Test
+    public void sharedFrontierPruningTest() {
+        pruningTest(ExecutionEngineType.SHARED_FRONTIER);
+    }
+
+    @Test
+    public void workStealingPruningTest() {
+        pruningTest(ExecutionEngineType.WORK_STEALING);
+    }
+
+    private void pruningTest(ExecutionEngineType executionEngineType) {
+        /** GIVEN */
+        TreeState pruned = new TreeState("pruned", 4);
+        TreeState better = new TreeState("better", 1, 3, pruned);
+        TreeState stale = new TreeState("stale", 8);
+        TreeState root = new TreeState("root", 0, stale, better);
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withExecutionEngine(executionEngineType)
+                        .build())
+                .withInitialState(root)
+                .withTask(TreeTask.class)
+                .build();
+
+        /** WHEN */
+        TreeTask.EXPANDED.clear();
+        job.start();
+
+        /** THEN */
+        assertEquals(Arrays.asList("root", "better"), TreeTask.EXPANDED);
+        assertSame(better, job.getBestSolution());
+        assertEquals(3, job.getBestValue(), 0);
+    }
+
+    @Test
+    public void checkpointAndResumeTest() throws IOException {
+        /** GIVEN */
+        int n = 8;
+        int expectedSolution = 256; //2 ** 8
+        Path checkpointFile = folder.getRoot().toPath().resolve("subsets.checkpoint");
+        Configuration configuration = new Configuration.Builder()
+                .withNumberOfExecutors(2)
+                .withStateCodec(new SubsetStateCodec())
+                .withCheckpointing(checkpointFile, 10, TimeUnit.MILLISECONDS)
+                .build();
+        Job crashingJob = new Job.Builder()
+                .withConfiguration(configuration)
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(CrashingSubsetTask.class)
+                .registerArray("n", new Object[] {n})
+                .registerArray("solution", new Object[] {0})
+                .build();
+        Job resumedJob = new Job.Builder()
+                .withConfiguration(configuration)
+                .withTask(CountingSubsetTask.class)
+                .registerArray("n", new Object[1])
+                .registerArray("solution", new Object[1])
+                .build();
+
+        /** WHEN */
+        CrashingSubsetTask.EXPANDED.set(0);
+        try {
+            crashingJob.start();
+        } catch (TaskException exception) {
+            // expected crash after a number of expansions
+        }
+        resumedJob.resume(checkpointFile);
+        int solution = (int) resumedJob.queryArray("solution", 0);
+
+        /** THEN */
+        assertTrue(Files.exists(checkpointFile));
+        assertEquals(n, (int) resumedJob.queryArray("n", 0));
+        assertEquals(expectedSolution, solution);
+    }
+
+    @Test
+    public void checkpointDuringSequentialSubtreeTest() throws IOException {
+        /** GIVEN */
+        int n = 8;
+        Path checkpointFile = folder.getRoot().toPath().resolve("sequential.checkpoint");
+        Configuration configuration = new Configuration.Builder()
+                .withStateCodec(new SubsetStateCodec())
+                .withSequentialCutoff(state -> !((SubsetState) state).getPositions().isEmpty())
+                .withCheckpointing(checkpointFile, 10, TimeUnit.MILLISECONDS)
+                .build();
+        Job crashingJob = new Job.Builder()
+                .withConfiguration(configuration)
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(CrashingSubsetTask.class)
+                .registerArray("n", new Object[] {n})
+                .registerArray("solution", new Object[] {0})
+                .build();
+        Job resumedJob = new Job.Builder()
+                .withConfiguration(configuration)
+                .withTask(CountingSubsetTask.class)
+                .registerArray("n", new Object[1])
+                .registerArray("solution", new Object[1])
+                .build();
+
+        /** WHEN */
+        CrashingSubsetTask.EXPANDED.set(0);
+        try {
+            crashingJob.start();
+        } catch (TaskException exception) {
+            // expected crash inside the subtree explored inline
+        }
+        resumedJob.resume(checkpointFile);
+
+        /** THEN */
+        assertEquals(256, (int) resumedJob.queryArray("solution", 0)); //2 ** 8
+    }
+
+    @Test (expected = StateException.class)
+    public void checkpointWithoutSnapshotsTest() {
+        /** GIVEN */
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withStateCodec(new SubsetStateCodec())
+                        .withSearchStrategy(() -> new LastInFirstOutStrategy())
+                        .withCheckpointing(folder.getRoot().toPath().resolve("snapshots.checkpoint"), 1,
+                                TimeUnit.MILLISECONDS)
+                        .build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(BlockingSubsetTask.class)
+                .registerIntArray("n", new int[] {16})
+                .registerIntArray("solution", new int[1])
+                .registerIntArray("running", new int[1])
+                .registerIntArray("maxRunning", new int[1])
+                .build();
+
+        /** WHEN */
+        job.start();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void failedJobDeletesSpilledStatesTest() throws IOException {
+        /** GIVEN */
+        Path directory = folder.newFolder("segments").toPath();
+        StateCodec<State> codec = (StateCodec) new SubsetStateCodec();
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withSearchStrategy(() -> new SpillingStrategy<>(SearchStrategyType.BREADTH_FIRST_SEARCH,
+                                codec, directory, 8))
+                        .build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(CrashingSubsetTask.class)
+                .registerArray("n", new Object[] {10})
+                .registerArray("solution", new Object[] {0})
+                .build();
+
+        /** WHEN */
+        CrashingSubsetTask.EXPANDED.set(0);
+        try {
+            job.start();
+        } catch (TaskException exception) {
+            // expected crash with states spilled to disk
+        }
+
+        /** THEN */
+        try (Stream<Path> segments = Files.list(directory)) {
+            assertEquals(0, segments.count());
+        }
+    }
+
+    @Test (expected = IllegalStateException.class)
+    public void resumeWithoutCodecTest() {
+        /** GIVEN */
+        Job job = new Job.Builder().withTask(CountingSubsetTask.class).build();
+
+        /** WHEN */
+        job.resume(folder.getRoot().toPath().resolve("missing.checkpoint"));
+    }
+
+    @Test
+    public void primitiveArraysBacktrackingTest() {
+        /** GIVEN */
+        int n = 10;
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withNumberOfExecutors(4)
+                        .withExecutionEngine(ExecutionEngineType.WORK_STEALING)
+                        .build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(PrimitiveCountingSubsetTask.class)
+                .registerIntArray("n", new int[] {n})
+                .registerLongArray("solution", new long[1])
+                .registerDoubleArray("weight", new double[1])
+                .build();
+
+        /** WHEN */
+        job.start();
+
+        /** THEN */
+        assertEquals(1024, job.queryLongArray("solution", 0)); //2 ** 10
+        assertEquals(5120.0, job.queryDoubleArray("weight", 0), 0); //10 * 2 ** 9
+        assertEquals(n, job.queryIntArray("n", 0));
+    }
+
+    @Test
+    public void primitiveArraysTest() {
+        /** GIVEN */
+        Job job = new Job.Builder()
+                .registerIntArray("ints", new int[] {1, 2})
+                .registerLongArray("longs", new long[] {3})
+                .registerDoubleArray("doubles", new double[] {-0.0})
+                .build();
+
+        /** WHEN */
+        job.updateIntArray("ints", 5, 1);
+        long longValue = job.applyOnLongArray("longs", value -> value * 2, 0);
+        double doubleValue = job.applyOnDoubleArray("doubles", value -> value + 1.5, 0);
+
+        /** THEN */
+        assertEquals(1, job.queryIntArray("ints", 0));
+        assertEquals(5, job.queryIntArray("ints", 1));
+        assertEquals(7, job.applyOnIntArray("ints", value -> value + 2, 1));
+        assertEquals(6, longValue);
+        assertEquals(6, job.queryLongArray("longs", 0));
+        assertEquals(1.5, doubleValue, 0);
+        assertEquals(1.5, job.queryDoubleArray("doubles", 0), 0);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void registerPrimitiveArrayWithSameNameTest() {
+        /** GIVEN */
+        Job.Builder builder = new Job.Builder().registerArray("values", new Object[1]);
+
+        /** WHEN */
+        builder.registerIntArray("values", new int[1]);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void queryPrimitiveArrayWithOtherTypeTest() {
+        /** GIVEN */
+        Job job = new Job.Builder().registerLongArray("values", new long[1]).build();
+
+        /** WHEN */
+        job.queryIntArray("values", 0);
+    }
+
+    @Test
+    public void perElementLockingTest() throws InterruptedException {
+        concurrentUpdatesTest(ArrayLockingType.PER_ELEMENT);
+    }
+
+    @Test
+    public void stripedLockingTest() throws InterruptedException {
+        concurrentUpdatesTest(ArrayLockingType.STRIPED);
+    }
+
+    @Test
+    public void singleLockingTest() throws InterruptedException {
+        concurrentUpdatesTest(ArrayLockingType.SINGLE);
+    }
+
+    @Test (timeout = 10000)
+    public void nestedApplyOnSameStripeTest() {
+        /** GIVEN */
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withArrayLocking(ArrayLockingType.STRIPED)
+                        .withLockStripes(4)
+                        .build())
+                .registerArray("counters", new Object[] {0, 0, 0, 0, 0, 0, 0, 0})
+                .build();
+
+        /** WHEN */
+        job.applyOnArray("counters", value -> {
+            job.applyOnArray("counters", other -> (int) other + 1, 4);
+            return (int) value + 1;
+        }, 0);
+
+        /** THEN */
+        assertEquals(1, (int) job.queryArray("counters", 0));
+        assertEquals(1, (int) job.queryArray("counters", 4));
+    }
+
+    private void concurrentUpdatesTest(ArrayLockingType arrayLockingType) throws InterruptedException {
+        /** GIVEN */
+        int length = 100;
+        int numberOfThreads = 4;
+        int updates = 10_000;
+        Object[] counters = new Object[length];
+        Arrays.fill(counters, 0);
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withArrayLocking(arrayLockingType)
+                        .withLockStripes(7)
+                        .build())
+                .registerArray("counters", counters)
+                .build();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < numberOfThreads; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < updates; j++) {
+                    job.applyOnArray("counters", value -> (int) value + 1, j % length);
+                }
+            }));
+        }
+
+        /** WHEN */
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        /** THEN */
+        for (int i = 0; i < length; i++) {
+            assertEquals(numberOfThreads * updates / length, (int) job.queryArray("counters", i));
+        }
+    }
+
+    @Test
+    public void lockFreeUpdatesTest() throws InterruptedException {
+        /** GIVEN */
+        int updates = 10_000;
+        Job job = new Job.Builder()
+                .registerArray("counter", new Object[] {0})
+                .registerArray("bound", new Object[] {Integer.MAX_VALUE})
+                .build();
+        Thread lockFree = new Thread(() -> {
+            for (int i = 0; i < updates; i++) {
+                job.<Integer>updateAndGetArray("counter", value -> value + 1, 0);
+                job.accumulateAndGetArray("bound", updates - i, Math::min, 0);
+            }
+        });
+        Thread locking = new Thread(() -> {
+            for (int i = 0; i < updates; i++) {
+                job.applyOnArray("counter", value -> (int) value + 1, 0);
+            }
+        });
+
+        /** WHEN */
+        lockFree.start();
+        locking.start();
+        lockFree.join();
+        locking.join();
+
+        /** THEN */
+        assertEquals(2 * updates, (int) job.queryArray("counter", 0));
+        assertEquals(1, (int) job.queryArray("bound", 0));
+    }
+
+    @Test
+    public void compareAndSetArrayTest() {
+        /** GIVEN */
+        String initial = "initial";
+        Job job = new Job.Builder().registerArray("values", new Object[] {initial}).build();
+
+        /** WHEN & THEN */
+        assertFalse(job.compareAndSetArray("values", "other", "next", 0));
+        assertSame(initial, job.queryArray("values", 0));
+        assertTrue(job.compareAndSetArray("values", initial, "next", 0));
+        assertEquals("next", job.queryArray("values", 0));
+    }
+
+    @Test
+    public void snapshotRangeTest() {
+        /** GIVEN */
+        Job job = new Job.Builder()
+                .registerArray("values", new Object[] {"a", "b", "c", "d"})
+                .registerIntArray("ints", new int[] {1, 2, 3, 4})
+                .registerLongArray("longs", new long[] {5, 6, 7})
+                .registerDoubleArray("doubles", new double[] {0.5, 1.5})
+                .build();
+
+        /** WHEN */
+        job.updateArray("values", "e", 2);
+        job.updateIntArray("ints", 9, 1);
+
+        /** THEN */
+        assertArrayEquals(new Object[] {"b", "e"}, job.snapshotRange("values", 1, 3));
+        assertArrayEquals(new int[] {1, 9, 3, 4}, job.snapshotIntRange("ints", 0, 4));
+        assertArrayEquals(new long[] {}, job.snapshotLongRange("longs", 3, 3));
+        assertArrayEquals(new double[] {1.5}, job.snapshotDoubleRange("doubles", 1, 2), 0);
+    }
+
+    @Test (expected = IndexOutOfBoundsException.class)
+    public void snapshotRangeOutOfBoundsTest() {
+        /** GIVEN */
+        Job job = new Job.Builder().registerIntArray("ints", new int[4]).build();
+
+        /** WHEN */
+        job.snapshotIntRange("ints", 2, 5);
+    }
+
+    @Test
+    public void snapshotRangeIsConsistentTest() throws InterruptedException {
+        /** GIVEN */
+        int length = 16;
+        AtomicBoolean running = new AtomicBoolean(true);
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder().withLockStripes(4).build())
+                .registerLongArray("row", new long[length])
+                .build();
+        // every update moves one unit between two positions, so the sum of a consistent row stays 0
+        Thread writer = new Thread(() -> {
+            for (int i = 0; running.get(); i++) {
+                job.applyOnLongArray("row", value -> value + 1, i % length);
+                job.applyOnLongArray("row", value -> value - 1, (i * 7 + 3) % length);
+            }
+        });
+
+        /** WHEN */
+        writer.start();
+        try {
+            for (int i = 0; i < 10_000; i++) {
+                long sum = 0;
+                for (long value : job.snapshotLongRange("row", 0, length)) {
+                    sum += value;
+                }
+
+                /** THEN */
+                assertTrue(sum == 0 || sum == 1);
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+    }
+
+    @Test
+    public void memoizationMapTest() {
+        /** GIVEN */
+        int n = 10;
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withNumberOfExecutors(4)
+                        .withExecutionEngine(ExecutionEngineType.WORK_STEALING)
+                        .build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(MemoizingSubsetTask.class)
+                .registerIntArray("n", new int[] {n})
+                .registerMap("subsets", 16)
+                .build();
+
+        /** WHEN */
+        job.start();
+
+        /** THEN */
+        for (int size = 0; size <= n; size++) {
+            int expected = binomial(n, size);
+            assertEquals(expected, (int) job.queryMap("subsets", size));
+        }
+        assertNull(job.queryMap("subsets", n + 1));
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void registerMapWithSameNameTest() {
+        /** GIVEN */
+        Job.Builder builder = new Job.Builder().registerIntArray("values", new int[1]);
+
+        /** WHEN */
+        builder.registerMap("values", 16);
+    }
+
+    private static int binomial(int n, int k) {
+        int result = 1;
+        for (int i = 1; i <= k; i++) {
+            result = result * (n - k + i) / i;
+        }
+        return result;
+    }
+
+    @Test
+    public void transpositionTableTest() {
+        /** GIVEN */
+        int n = 8;
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withTranspositionTable(4096)
+                        .build())
+                .withInitialState(new MaskState(0))
+                .withTask(MaskTask.class)
+                .registerIntArray("n", new int[] {n})
+                .registerIntArray("expanded", new int[1])
+                .build();
+
+        /** WHEN */
+        job.start();
+        TranspositionStatistics statistics = job.getTranspositionStatistics();
+
+        /** THEN */
+        assertEquals(256, job.queryIntArray("expanded", 0)); //2 ** 8 instead of every ordering
+        assertEquals(255, statistics.getMisses());
+        assertEquals(8 * 128 - 255, statistics.getHits());
+        assertEquals(0, statistics.getEvictions());
+    }
+
+    @Test
+    public void parallelTranspositionTableTest() {
+        /** GIVEN */
+        int n = 8;
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withNumberOfExecutors(4)
+                        .withExecutionEngine(ExecutionEngineType.WORK_STEALING)
+                        .withTranspositionTable(64)
+                        .build())
+                .withInitialState(new MaskState(0))
+                .withTask(MaskTask.class)
+                .registerIntArray("n", new int[] {n})
+                .registerIntArray("expanded", new int[1])
+                .build();
+
+        /** WHEN */
+        job.start();
+
+        /** THEN */
+        assertTrue(job.queryIntArray("expanded", 0) >= 256);
+        assertTrue(job.getTranspositionStatistics().getHits() > 0);
+        assertTrue(job.getTranspositionStatistics().getEvictions() > 0);
+    }
+
+    @Test
+    public void virtualThreadsBacktrackingTest() {
+        /** GIVEN */
+        assumeTrue(isVirtualThreadsAvailable());
+        int n = 6;
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withSearchStrategy(SearchStrategyType.BREADTH_FIRST_SEARCH)
+                        .withVirtualThreads(32)
+                        .build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(BlockingSubsetTask.class)
+                .registerIntArray("n", new int[] {n})
+                .registerIntArray("solution", new int[1])
+                .registerIntArray("running", new int[1])
+                .registerIntArray("maxRunning", new int[1])
+                .build();
+
+        /** WHEN */
+        job.start();
+
+        /** THEN */
+        assertEquals(64, job.queryIntArray("solution", 0)); //2 ** 6
+        assertTrue(job.queryIntArray("maxRunning", 0) > 1);
+        assertTrue(job.queryIntArray("maxRunning", 0) <= 32);
+    }
+
+    @Test (expected = IllegalStateException.class)
+    public void virtualThreadsUnavailableTest() {
+        /** GIVEN */
+        assumeFalse(isVirtualThreadsAvailable());
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder().withVirtualThreads(1000).build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(CountingSubsetTask.class)
+                .registerArray("n", new Object[] {4})
+                .registerArray("solution", new Object[] {0})
+                .build();
+
+        /** WHEN */
+        job.start();
+    }
+
+    @Test
+    public void sharedFrontierTaskFactoryTest() {
+        taskFactoryTest(ExecutionEngineType.SHARED_FRONTIER);
+    }
+
+    @Test
+    public void workStealingTaskFactoryTest() {
+        taskFactoryTest(ExecutionEngineType.WORK_STEALING);
+    }
+
+    private void taskFactoryTest(ExecutionEngineType executionEngineType) {
+        /** GIVEN */
+        int n = 10;
+        int numberOfExecutors = 4;
+        List<ScratchSubsetTask> tasks = Collections.synchronizedList(new ArrayList<>());
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withNumberOfExecutors(numberOfExecutors)
+                        .withExecutionEngine(executionEngineType)
+                        .build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(FailingTask.class)
+                .withTaskFactory(() -> {
+                    ScratchSubsetTask task = new ScratchSubsetTask();
+                    tasks.add(task);
+                    return task;
+                })
+                .registerIntArray("n", new int[] {n})
+                .build();
+
+        /** WHEN */
+        job.start();
+
+        /** THEN */
+        assertTrue(tasks.size() >= 1 && tasks.size() <= numberOfExecutors);
+        assertEquals(1024, tasks.stream().mapToInt(task -> task.expanded).sum()); //2 ** 10
+    }
+
+    @Test (expected = IllegalStateException.class)
+    public void noTaskTest() {
+        /** GIVEN */
+        Job job = new Job.Builder().withInitialState(SubsetState.getInitialState()).build();
+
+        /** WHEN */
+        job.start();
+    }
+
+    @Test
+    public void startAsyncTest() throws Exception {
+        /** GIVEN */
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder().withNumberOfExecutors(2).build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(OfferingSubsetTask.class)
+                .registerIntArray("n", new int[] {10})
+                .build();
+
+        /** WHEN */
+        JobResult result = job.startAsync().get(10, TimeUnit.SECONDS);
+
+        /** THEN */
+        assertEquals(1024, result.getExpandedStates()); //2 ** 10
+        assertEquals(-10, result.getBestValue(), 0);
+        assertEquals(10, result.<SubsetState>getBestSolution().getPositions().size());
+        assertFalse(result.isStopped());
+    }
+
+    @Test
+    public void earlyStopTest() {
+        /** GIVEN */
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withEarlyStop(result -> result.getBestValue() <= -3)
+                        .build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(OfferingSubsetTask.class)
+                .registerIntArray("n", new int[] {16})
+                .build();
+
+        /** WHEN */
+        job.start();
+        JobResult result = job.getResult();
+
+        /** THEN */
+        assertTrue(result.isStopped());
+        assertEquals(-3, result.getBestValue(), 0);
+        assertTrue(result.getExpandedStates() < 1 << 16);
+    }
+
+    @Test
+    public void gapEarlyStopTest() {
+        /** GIVEN */
+        int depth = 24;
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withNumberOfExecutors(2)
+                        .withEarlyStop(result -> result.getGap() <= 1, 10, TimeUnit.MILLISECONDS)
+                        .build())
+                .withInitialState(new LevelState(0))
+                .withTask(LevelTask.class)
+                .registerIntArray("depth", new int[] {depth})
+                .build();
+
+        /** WHEN */
+        job.start();
+        JobResult result = job.getResult();
+
+        /** THEN */
+        assertEquals(StopReason.EARLY_STOP, result.getStopReason());
+        assertEquals(0, result.getBestValue(), 0);
+        assertEquals(-1, result.getBestBound(), 0);
+        assertTrue(result.getExpandedStates() < (1 << (depth + 1)) - 1);
+    }
+
+    @Test
+    public void cancelTest() throws Exception {
+        /** GIVEN */
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder().withNumberOfExecutors(2).build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(BlockingSubsetTask.class)
+                .registerIntArray("n", new int[] {16})
+                .registerIntArray("solution", new int[1])
+                .registerIntArray("running", new int[1])
+                .registerIntArray("maxRunning", new int[1])
+                .build();
+
+        /** WHEN */
+        CompletableFuture<JobResult> future = job.startAsync();
+        Thread.sleep(100);
+        job.cancel();
+        JobResult result = future.get(10, TimeUnit.SECONDS);
+
+        /** THEN */
+        assertTrue(result.isStopped());
+        assertTrue(result.getExpandedStates() < 1 << 16);
+    }
+
+    @Test
+    public void cancelFutureStopsJobTest() throws Exception {
+        /** GIVEN */
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder().withNumberOfExecutors(2).build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(BlockingSubsetTask.class)
+                .registerIntArray("n", new int[] {16})
+                .registerIntArray("solution", new int[1])
+                .registerIntArray("running", new int[1])
+                .registerIntArray("maxRunning", new int[1])
+                .build();
+
+        /** WHEN */
+        CompletableFuture<JobResult> future = job.startAsync();
+        Thread.sleep(100);
+        future.cancel(true);
+        Thread.sleep(100);
+        long expandedStates = job.getResult().getExpandedStates();
+        Thread.sleep(200);
+
+        /** THEN */
+        assertTrue(future.isCancelled());
+        assertTrue(job.getResult().isStopped());
+        assertEquals(expandedStates, job.getResult().getExpandedStates());
+    }
+
+    @Test
+    public void timeLimitTest() {
+        /** GIVEN */
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withNumberOfExecutors(2)
+                        .withTimeLimit(100, TimeUnit.MILLISECONDS)
+                        .build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(BlockingSubsetTask.class)
+                .registerIntArray("n", new int[] {16})
+                .registerIntArray("solution", new int[1])
+                .registerIntArray("running", new int[1])
+                .registerIntArray("maxRunning", new int[1])
+                .build();
+
+        /** WHEN */
+        job.start();
+        JobResult result = job.getResult();
+
+        /** THEN */
+        assertEquals(StopReason.TIME_LIMIT, result.getStopReason());
+        assertTrue(result.getExpandedStates() < 1 << 16);
+        assertEquals(Double.NEGATIVE_INFINITY, result.getBestBound(), 0);
+    }
+
+    @Test
+    public void sharedFrontierNodeLimitTest() {
+        /** GIVEN */
+        Job job = nodeLimitJob(ExecutionEngineType.SHARED_FRONTIER);
+
+        /** WHEN */
+        job.start();
+        JobResult result = job.getResult();
+
+        /** THEN */
+        assertEquals(StopReason.NODE_LIMIT, result.getStopReason());
+        assertEquals(100, result.getExpandedStates());
+    }
+
+    @Test
+    public void workStealingNodeLimitTest() {
+        /** GIVEN */
+        Job job = nodeLimitJob(ExecutionEngineType.WORK_STEALING);
+
+        /** WHEN */
+        job.start();
+        JobResult result = job.getResult();
+
+        /** THEN */
+        assertEquals(StopReason.NODE_LIMIT, result.getStopReason());
+        assertTrue(result.getExpandedStates() >= 100);
+        assertTrue(result.getExpandedStates() < 1 << 16);
+    }
+
+    private Job nodeLimitJob(ExecutionEngineType executionEngineType) {
+        return new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withExecutionEngine(executionEngineType)
+                        .withNodeLimit(100)
+                        .build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(OfferingSubsetTask.class)
+                .registerIntArray("n", new int[] {16})
+                .build();
+    }
+
+    @Test
+    public void sharedFrontierFrontierLimitTest() {
+        frontierLimitTest(ExecutionEngineType.SHARED_FRONTIER);
+    }
+
+    @Test
+    public void workStealingFrontierLimitTest() {
+        frontierLimitTest(ExecutionEngineType.WORK_STEALING);
+    }
+
+    private void frontierLimitTest(ExecutionEngineType executionEngineType) {
+        /** GIVEN */
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withExecutionEngine(executionEngineType)
+                        .withSearchStrategy(SearchStrategyType.BREADTH_FIRST_SEARCH)
+                        .withFrontierLimit(10)
+                        .build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(OfferingSubsetTask.class)
+                .registerIntArray("n", new int[] {16})
+                .build();
+
+        /** WHEN */
+        job.start();
+        JobResult result = job.getResult();
+
+        /** THEN */
+        assertEquals(StopReason.FRONTIER_LIMIT, result.getStopReason());
+        assertTrue(result.getExpandedStates() < 1 << 16);
+    }
+
+    @Test
+    public void optimalityGapTest() {
+        /** GIVEN */
+        TreeState deep = new TreeState("deep", 2, 2);
+        TreeState left = new TreeState("left", 1, 4, deep);
+        TreeState right = new TreeState("right", 3, 6);
+        TreeState root = new TreeState("root", 0, left, right);
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withSearchStrategy(SearchStrategyType.BREADTH_FIRST_SEARCH)
+                        .withNodeLimit(2)
+                        .build())
+                .withInitialState(root)
+                .withTask(TreeTask.class)
+                .build();
+
+        /** WHEN */
+        TreeTask.EXPANDED.clear();
+        job.start();
+        JobResult result = job.getResult();
+
+        /** THEN */
+        assertEquals(Arrays.asList("root", "left"), TreeTask.EXPANDED);
+        assertSame(left, result.getBestSolution());
+        assertEquals(4, result.getBestValue(), 0);
+        assertEquals(2, result.getBestBound(), 0);
+        assertEquals(2, result.getGap(), 0);
+        assertEquals(0.5, result.getRelativeGap(), 0);
+    }
+
+    @Test
+    public void completedRunHasNoGapTest() {
+        /** GIVEN */
+        TreeState left = new TreeState("left", 1, 4);
+        TreeState root = new TreeState("root", 0, left);
+        Job job = new Job.Builder()
+                .withInitialState(root)
+                .withTask(TreeTask.class)
+                .build();
+
+        /** WHEN */
+        job.start();
+        JobResult result = job.getResult();
+
+        /** THEN */
+        assertNull(result.getStopReason());
+        assertEquals(4, result.getBestBound(), 0);
+        assertEquals(0, result.getGap(), 0);
+    }
+
+    @Test
+    public void sharedFrontierStatisticsTest() {
+        statisticsTest(ExecutionEngineType.SHARED_FRONTIER);
+    }
+
+    @Test
+    public void workStealingStatisticsTest() {
+        statisticsTest(ExecutionEngineType.WORK_STEALING);
+    }
+
+    private void statisticsTest(ExecutionEngineType executionEngineType) {
+        /** GIVEN */
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withExecutionEngine(executionEngineType)
+                        .withNumberOfExecutors(2)
+                        .withBatchSize(4)
+                        .withStatistics(true)
+                        .build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(OfferingSubsetTask.class)
+                .registerIntArray("n", new int[] {10})
+                .build();
+
+        /** WHEN */
+        job.start();
+        SearchStatistics statistics = job.getStatistics();
+
+        /** THEN */
+        long workerExpandedStates = 0;
+        for (int i = 0; i < statistics.getNumberOfWorkers(); i++) {
+            workerExpandedStates += statistics.getWorkerExpandedStates(i);
+            assertTrue(statistics.getWorkerUtilization(i) <= 1);
+        }
+        assertEquals(1024, statistics.getExpandedStates()); //2 ** 10
+        assertEquals(1024, workerExpandedStates);
+        assertTrue(statistics.getMaxFrontierSize() > 0);
+        assertTrue(statistics.getStatesPerSecond() > 0);
+        assertTrue(statistics.getExpansionNanosAtPercentile(50) <= statistics.getExpansionNanosAtPercentile(99));
+        assertTrue(statistics.getMaxExpansionNanos() > 0);
+    }
+
+    @Test
+    public void disabledStatisticsTest() {
+        /** GIVEN */
+        Job job = new Job.Builder()
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(OfferingSubsetTask.class)
+                .registerIntArray("n", new int[] {10})
+                .build();
+
+        /** WHEN */
+        job.start();
+        SearchStatistics statistics = job.getStatistics();
+
+        /** THEN */
+        assertEquals(1024, statistics.getExpandedStates()); //2 ** 10
+        assertEquals(0, statistics.getNumberOfWorkers());
+        assertEquals(0, statistics.getMaxFrontierSize());
+    }
+
+    @Test
+    public void jmxStatisticsTest() throws Exception {
+        /** GIVEN */
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withNumberOfExecutors(2)
+                        .withStatistics(true)
+                        .withJmxName("jmxStatisticsTest")
+                        .build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(BlockingSubsetTask.class)
+                .registerIntArray("n", new int[] {16})
+                .registerIntArray("solution", new int[1])
+                .registerIntArray("running", new int[1])
+                .registerIntArray("maxRunning", new int[1])
+                .build();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("gbb:type=Job,name=\"jmxStatisticsTest\"");
+
+        /** WHEN */
+        CompletableFuture<JobResult> future = job.startAsync();
+        long expandedStates = 0;
+        int numberOfWorkers = 0;
+        for (int i = 0; i < 500 && (expandedStates == 0 || numberOfWorkers < 2); i++) {
+            Thread.sleep(10);
+            if (server.isRegistered(name)) {
+                expandedStates = (Long) server.getAttribute(name, "ExpandedStates");
+                numberOfWorkers = (Integer) server.getAttribute(name, "NumberOfWorkers");
+            }
+        }
+        job.cancel();
+        future.get(10, TimeUnit.SECONDS);
+
+        /** THEN */
+        assertTrue(expandedStates > 0);
+        assertEquals(2, numberOfWorkers);
+        assertFalse(server.isRegistered(name));
+    }
+
+    @Test
+    public void flightRecorderEventsTest() throws Exception {
+        /** GIVEN */
+        Path file = folder.getRoot().toPath().resolve("statistics.jfr");
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withStatistics(true)
+                        .build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(OfferingSubsetTask.class)
+                .registerIntArray("n", new int[] {10})
+                .build();
+
+        /** WHEN */
+        try (Recording recording = new Recording()) {
+            recording.enable("gbb.Expansion").withThreshold(Duration.ZERO);
+            recording.start();
+            job.start();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        /** THEN */
+        long expandedStates = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("gbb.Expansion"))
+                .mapToLong(event -> event.getInt("states"))
+                .sum();
+        assertTrue(expandedStates > 0);
+        assertTrue(expandedStates <= 1024);
+    }
+
+    @Test
+    public void partitionAndMergeTest() throws IOException {
+        /** GIVEN */
+        int n = 10;
+        Configuration configuration = new Configuration.Builder()
+                .withNumberOfExecutors(2)
+                .withStateCodec(new SubsetStateCodec())
+                .build();
+        Job job = new Job.Builder()
+                .withConfiguration(configuration)
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(OfferingSubsetTask.class)
+                .registerIntArray("n", new int[] {n})
+                .build();
+
+        /** WHEN */
+        List<SubJob> subJobs = job.partition(3, state -> subsetTreeSize((SubsetState) state, n));
+        List<JobResult> results = new ArrayList<>();
+        for (int i = 0; i < subJobs.size(); i++) {
+            Path file = folder.getRoot().toPath().resolve("part" + i + ".checkpoint");
+            subJobs.get(i).write(file);
+
+            Job subJob = new Job.Builder()
+                    .withConfiguration(configuration)
+                    .withTask(OfferingSubsetTask.class)
+                    .registerIntArray("n", new int[1])
+                    .build();
+            subJob.resume(file);
+            results.add(subJob.getResult());
+        }
+        JobResult result = job.merge(results);
+
+        /** THEN */
+        assertEquals(3, subJobs.size());
+        assertTrue(subJobs.stream().mapToInt(SubJob::getNumberOfStates).sum() >= 3 * Job.STATES_PER_PARTITION);
+        assertEquals(1024, result.getExpandedStates()); //2 ** 10
+        assertEquals(-10, result.getBestValue(), 0);
+        assertEquals(10, result.<SubsetState>getBestSolution().getPositions().size());
+        assertFalse(result.isStopped());
+    }
+
+    @Test
+    public void partitionBalancingTest() {
+        /** GIVEN */
+        int n = 10;
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder().withStateCodec(new SubsetStateCodec()).build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(CountingSubsetTask.class)
+                .registerArray("n", new Object[] {n})
+                .registerArray("solution", new Object[] {0})
+                .build();
+
+        /** WHEN */
+        List<SubJob> subJobs = job.partition(4, state -> subsetTreeSize((SubsetState) state, n));
+
+        /** THEN */
+        double total = subJobs.stream().mapToDouble(SubJob::getEstimatedSize).sum();
+        assertEquals(1024 - (int) job.queryArray("solution", 0), total, 0);
+        for (SubJob subJob : subJobs) {
+            assertTrue(subJob.getEstimatedSize() > 0);
+            assertTrue(subJob.getEstimatedSize() <= total / 2);
+        }
+    }
+
+    @Test
+    public void partitionOfSmallTreeTest() {
+        /** GIVEN */
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder().withStateCodec(new SubsetStateCodec()).build())
+                .withInitialState(SubsetState.getInitialState())
+                .withTask(CountingSubsetTask.class)
+                .registerArray("n", new Object[] {2})
+                .registerArray("solution", new Object[] {0})
+                .build();
+
+        /** WHEN */
+        List<SubJob> subJobs = job.partition(5);
+
+        /** THEN */
+        assertEquals(5, subJobs.size());
+        assertEquals(0, subJobs.stream().mapToInt(SubJob::getNumberOfStates).sum());
+        assertEquals(4, (int) job.queryArray("solution", 0)); //2 ** 2
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void partitionIntoNoSubJobsTest() {
+        /** GIVEN */
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder().withStateCodec(new SubsetStateCodec()).build())
+                .withTask(CountingSubsetTask.class)
+                .build();
+
+        /** WHEN */
+        job.partition(0);
+    }
+
+    @Test (expected = IllegalStateException.class)
+    public void partitionWithoutCodecTest() {
+        /** GIVEN */
+        Job job = new Job.Builder().withTask(CountingSubsetTask.class).build();
+
+        /** WHEN */
+        job.partition(2);
+    }
+
     @Test
-    public void backtrackingTest() {
+    public void stateSinkAndPoolingTest() {
+        stateSinkAndPoolingTest(ExecutionEngineType.SHARED_FRONTIER);
+    }
+
+    @Test
+    public void workStealingStateSinkAndPoolingTest() {
+        stateSinkAndPoolingTest(ExecutionEngineType.WORK_STEALING);
+    }
+
+    private void stateSinkAndPoolingTest(ExecutionEngineType executionEngineType) {
         /** GIVEN */
-        int n = 5;
-        int expectedSolution = 32; //2 ** 5
+        int n = 10;
+        int numberOfExecutors = 2;
+        List<PooledMaskTask> tasks = Collections.synchronizedList(new ArrayList<>());
         Job job = new Job.Builder()
-                .withConfiguration(new Configuration.Builder().build())
-                .withInitialState(SubsetState.getInitialState())
-                .withTask(SubsetTask.class)
-                .registerArray("n", new Object[1])
-                .registerArray("solution", new Object[1])
+                .withConfiguration(new Configuration.Builder()
+                        .withNumberOfExecutors(numberOfExecutors)
+                        .withExecutionEngine(executionEngineType)
+                        .build())
+                .withInitialState(new MutableMaskState())
+                .withTaskFactory(() -> {
+                    PooledMaskTask task = new PooledMaskTask();
+                    tasks.add(task);
+                    return task;
+                })
+                .registerIntArray("n", new int[] {n})
+                .registerIntArray("expanded", new int[1])
                 .build();
 
         /** WHEN */
-        job.updateArray("n", n, 0);
-        job.updateArray("solution", 0, 0);
         job.start();
-        int solution = (int) job.queryArray("solution", 0);
+        JobResult result = job.getResult();
 
         /** THEN */
-        assertEquals(expectedSolution, solution);
+        assertEquals(1024, result.getExpandedStates()); //2 ** 10
+        assertEquals(1024, tasks.stream().mapToInt(task -> task.expanded).sum());
+        // at most one depth-first stack of n + (n - 1) + ... + 1 states per worker
+        assertTrue(tasks.stream().mapToInt(task -> task.created).sum() <= numberOfExecutors * n * (n + 1) / 2);
+        assertEquals(-n, result.getBestValue(), 0);
+        assertEquals(1023, result.<MutableMaskState>getBestSolution().mask);
+    }
+
+    @Test
+    public void poolingAndCheckpointingTest() throws IOException {
+        /** GIVEN */
+        int n = 8;
+        Path checkpointFile = folder.getRoot().toPath().resolve("masks.checkpoint");
+        Configuration configuration = new Configuration.Builder()
+                .withNumberOfExecutors(2)
+                .withStateCodec(new MutableMaskStateCodec())
+                .withCheckpointing(checkpointFile, 5, TimeUnit.MILLISECONDS)
+                .build();
+        Job crashingJob = new Job.Builder()
+                .withConfiguration(configuration)
+                .withInitialState(new MutableMaskState())
+                .withTaskFactory(CrashingPooledMaskTask::new)
+                .registerIntArray("n", new int[] {n})
+                .registerIntArray("expanded", new int[1])
+                .build();
+        Job resumedJob = new Job.Builder()
+                .withConfiguration(configuration)
+                .withTaskFactory(PooledMaskTask::new)
+                .registerIntArray("n", new int[1])
+                .registerIntArray("expanded", new int[1])
+                .build();
+
+        /** WHEN */
+        CrashingPooledMaskTask.EXPANDED.set(0);
+        try {
+            crashingJob.start();
+        } catch (TaskException exception) {
+            // expected crash after a number of expansions
+        }
+        resumedJob.resume(checkpointFile);
+
+        /** THEN */
+        assertEquals(256, resumedJob.queryIntArray("expanded", 0)); //2 ** 8
+        assertEquals(-n, resumedJob.getResult().getBestValue(), 0);
+    }
+
+    @Test
+    public void checkpointWrittenWhileWorkersRunTest() {
+        /** GIVEN */
+        Job job = new Job.Builder()
+                .withConfiguration(new Configuration.Builder()
+                        .withNumberOfExecutors(2)
+                        .withStateCodec(new ObservingMaskStateCodec())
+                        .withCheckpointing(folder.getRoot().toPath().resolve("observed.checkpoint"), 20,
+                                TimeUnit.MILLISECONDS)
+                        .build())
+                .withInitialState(new MutableMaskState())
+                .withTaskFactory(SlowPooledMaskTask::new)
+                .registerIntArray("n", new int[] {12})
+                .registerIntArray("expanded", new int[1])
+                .build();
+
+        /** WHEN */
+        SlowPooledMaskTask.EXPANDED.set(0);
+        SlowPooledMaskTask.RECYCLED.set(0);
+        ObservingMaskStateCodec.reset();
+        job.start();
+
+        /** THEN */
+        assertEquals(4096, job.queryIntArray("expanded", 0)); //2 ** 12
+        assertTrue(ObservingMaskStateCodec.expandedWhileWriting >= 20);
+        assertEquals(0, ObservingMaskStateCodec.recycledWhileWriting);
+    }
+
+    @Test
+    public void sinkTaskComputeTest() {
+        /** GIVEN */
+        SinkTask<LevelState> task = new SinkTask<LevelState>() {
+
+            @Override
+            public void expand(LevelState state, StateSink<? super LevelState> sink) {
+                sink.accept(new LevelState(state.level + 1));
+                sink.accept(new LevelState(state.level + 2));
+            }
+        };
+
+        /** WHEN */
+        Collection<LevelState> nextStates = task.compute(new LevelState(0));
+
+        /** THEN */
+        assertEquals(Arrays.asList(1, 2), nextStates.stream().map(state -> state.level).collect(Collectors.toList()));
+    }
+
+    private static double subsetTreeSize(SubsetState state, int n) {
+        List<Integer> positions = state.getPositions();
+        int last = positions.isEmpty() ? 0 : positions.get(positions.size() - 1);
+        return Math.pow(2, n - last);
     }
 
     private static final class SubsetState implements State {
@@ -84,4 +1613,424 @@ public class JobTest {
             return nextStates;
         }
     }
+
+    public static final class CountingSubsetTask extends Task<SubsetState> {
+
+        @Override
+        public Collection<SubsetState> compute(SubsetState state) {
+            getJob().applyOnArray("solution", value -> (int) value + 1, 0);
+            return nextSubsets(state, (int) getJob().queryArray("n", 0));
+        }
+    }
+
+    public static final class PrimitiveCountingSubsetTask extends Task<SubsetState> {
+
+        @Override
+        public Collection<SubsetState> compute(SubsetState state) {
+            getJob().applyOnLongArray("solution", value -> value + 1, 0);
+            getJob().applyOnDoubleArray("weight", value -> value + state.getPositions().size(), 0);
+            return nextSubsets(state, getJob().queryIntArray("n", 0));
+        }
+    }
+
+    public static final class MemoizingSubsetTask extends Task<SubsetState> {
+
+        @Override
+        public Collection<SubsetState> compute(SubsetState state) {
+            getJob().<Integer>applyOnMap("subsets", state.getPositions().size(),
+                    value -> value == null ? 1 : value + 1);
+            return nextSubsets(state, getJob().queryIntArray("n", 0));
+        }
+    }
+
+    private static final class MaskState implements HashableState {
+        private final int mask;
+
+        private MaskState(int mask) {
+            this.mask = mask;
+        }
+
+        @Override
+        public long getFingerprint() {
+            return mask;
+        }
+    }
+
+    public static final class MaskTask extends Task<MaskState> {
+
+        @Override
+        public Collection<MaskState> compute(MaskState state) {
+            getJob().applyOnIntArray("expanded", value -> value + 1, 0);
+
+            List<MaskState> nextStates = new ArrayList<>();
+            for (int i = 0; i < getJob().queryIntArray("n", 0); i++) {
+                if ((state.mask & (1 << i)) == 0) {
+                    nextStates.add(new MaskState(state.mask | (1 << i)));
+                }
+            }
+            return nextStates;
+        }
+    }
+
+    public static final class BlockingSubsetTask extends Task<SubsetState> {
+
+        @Override
+        public Collection<SubsetState> compute(SubsetState state) {
+            int running = getJob().applyOnIntArray("running", value -> value + 1, 0);
+            getJob().applyOnIntArray("maxRunning", value -> Math.max(value, running), 0);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            getJob().applyOnIntArray("running", value -> value - 1, 0);
+            getJob().applyOnIntArray("solution", value -> value + 1, 0);
+            return nextSubsets(state, getJob().queryIntArray("n", 0));
+        }
+    }
+
+    /**
+     * Keeps its count in a plain field, which is only
+     * correct while every worker has its own instance.
+     */
+    public static final class ScratchSubsetTask extends Task<SubsetState> {
+        private int expanded;
+
+        @Override
+        public Collection<SubsetState> compute(SubsetState state) {
+            expanded++;
+            return nextSubsets(state, getJob().queryIntArray("n", 0));
+        }
+    }
+
+    public static final class OfferingSubsetTask extends Task<SubsetState> {
+
+        @Override
+        public Collection<SubsetState> compute(SubsetState state) {
+            getJob().offerSolution(state, -state.getPositions().size());
+            return nextSubsets(state, getJob().queryIntArray("n", 0));
+        }
+    }
+
+    public static final class RecordingSubsetTask extends Task<SubsetState> {
+        private static final List<String> ORDER = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public Collection<SubsetState> compute(SubsetState state) {
+            ORDER.add(state.toString());
+            return nextSubsets(state, (int) getJob().queryArray("n", 0));
+        }
+    }
+
+    public static final class CrashingSubsetTask extends Task<SubsetState> {
+        private static final AtomicInteger EXPANDED = new AtomicInteger();
+
+        @Override
+        public Collection<SubsetState> compute(SubsetState state) {
+            if (EXPANDED.incrementAndGet() > 150) {
+                throw new IllegalStateException("Crashing on purpose.");
+            }
+
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            getJob().applyOnArray("solution", value -> (int) value + 1, 0);
+            return nextSubsets(state, (int) getJob().queryArray("n", 0));
+        }
+    }
+
+    private static final class SubsetStateCodec implements StateCodec<SubsetState> {
+
+        @Override
+        public void encode(SubsetState state, DataOutput output) throws IOException {
+            output.writeInt(state.getPositions().size());
+            for (int position : state.getPositions()) {
+                output.writeInt(position);
+            }
+        }
+
+        @Override
+        public SubsetState decode(DataInput input) throws IOException {
+            int size = input.readInt();
+            List<Integer> positions = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                positions.add(input.readInt());
+            }
+            return new SubsetState(positions);
+        }
+    }
+
+    public static final class FailingTask extends Task<SubsetState> {
+
+        @Override
+        public Collection<SubsetState> compute(SubsetState state) {
+            throw new IllegalStateException("Failing on purpose.");
+        }
+    }
+
+    private static final class MutableMaskState implements State {
+        private int mask;
+        private int last;
+    }
+
+    /**
+     * Pushes its children into the sink and takes them from a pool
+     * of the states it expanded before, so only a few are created.
+     */
+    public static final class PooledMaskTask extends SinkTask<MutableMaskState> {
+        private final StatePool<MutableMaskState> pool = new StatePool<>(this::create, 64);
+        private int expanded;
+        private int created;
+
+        @Override
+        public void expand(MutableMaskState state, StateSink<? super MutableMaskState> sink) {
+            expanded++;
+            expandMask(getJob(), pool, state, sink);
+        }
+
+        @Override
+        public void recycle(MutableMaskState state) {
+            pool.release(state);
+        }
+
+        private MutableMaskState create() {
+            created++;
+            return new MutableMaskState();
+        }
+    }
+
+    public static final class CrashingPooledMaskTask extends SinkTask<MutableMaskState> {
+        private static final AtomicInteger EXPANDED = new AtomicInteger();
+        private final StatePool<MutableMaskState> pool = new StatePool<>(MutableMaskState::new, 64);
+
+        @Override
+        public void expand(MutableMaskState state, StateSink<? super MutableMaskState> sink) {
+            if (EXPANDED.incrementAndGet() > 150) {
+                throw new IllegalStateException("Crashing on purpose.");
+            }
+
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            expandMask(getJob(), pool, state, sink);
+        }
+
+        @Override
+        public void recycle(MutableMaskState state) {
+            // scribbles over the state, as the next acquire would
+            state.mask = -1;
+            state.last = Integer.MAX_VALUE;
+            pool.release(state);
+        }
+    }
+
+    public static final class SlowPooledMaskTask extends SinkTask<MutableMaskState> {
+        private static final AtomicInteger EXPANDED = new AtomicInteger();
+        private static final AtomicInteger RECYCLED = new AtomicInteger();
+        private final StatePool<MutableMaskState> pool = new StatePool<>(MutableMaskState::new, 64);
+
+        @Override
+        public void expand(MutableMaskState state, StateSink<? super MutableMaskState> sink) {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            EXPANDED.incrementAndGet();
+            expandMask(getJob(), pool, state, sink);
+        }
+
+        @Override
+        public void recycle(MutableMaskState state) {
+            RECYCLED.incrementAndGet();
+            pool.release(state);
+        }
+    }
+
+    /**
+     * Waits, on the first state it encodes, for the workers to expand
+     * more states, and records how many they expanded and recycled.
+     */
+    private static final class ObservingMaskStateCodec implements StateCodec<MutableMaskState> {
+        private static final AtomicBoolean OBSERVED = new AtomicBoolean();
+        private static volatile int expandedWhileWriting;
+        private static volatile int recycledWhileWriting;
+        private final MutableMaskStateCodec codec = new MutableMaskStateCodec();
+
+        private static void reset() {
+            OBSERVED.set(false);
+            expandedWhileWriting = 0;
+            recycledWhileWriting = 0;
+        }
+
+        @Override
+        public void encode(MutableMaskState state, DataOutput output) throws IOException {
+            if (OBSERVED.compareAndSet(false, true)) {
+                int expanded = SlowPooledMaskTask.EXPANDED.get();
+                int recycled = SlowPooledMaskTask.RECYCLED.get();
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+                while (SlowPooledMaskTask.EXPANDED.get() < expanded + 20 && System.nanoTime() < deadline) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                }
+                expandedWhileWriting = SlowPooledMaskTask.EXPANDED.get() - expanded;
+                recycledWhileWriting = SlowPooledMaskTask.RECYCLED.get() - recycled;
+            }
+            codec.encode(state, output);
+        }
+
+        @Override
+        public MutableMaskState decode(DataInput input) throws IOException {
+            return codec.decode(input);
+        }
+    }
+
+    private static final class MutableMaskStateCodec implements StateCodec<MutableMaskState> {
+
+        @Override
+        public void encode(MutableMaskState state, DataOutput output) throws IOException {
+            output.writeInt(state.mask);
+            output.writeInt(state.last);
+        }
+
+        @Override
+        public MutableMaskState decode(DataInput input) throws IOException {
+            MutableMaskState state = new MutableMaskState();
+            state.mask = input.readInt();
+            state.last = input.readInt();
+            return state;
+        }
+    }
+
+    private static void expandMask(Job job, StatePool<MutableMaskState> pool, MutableMaskState state,
+                                   StateSink<? super MutableMaskState> sink) {
+        job.applyOnIntArray("expanded", value -> value + 1, 0);
+        job.offerSolution(state, -Integer.bitCount(state.mask));
+
+        for (int i = state.last; i < job.queryIntArray("n", 0); i++) {
+            MutableMaskState nextState = pool.acquire();
+            nextState.mask = state.mask | (1 << i);
+            nextState.last = i + 1;
+            sink.accept(nextState);
+        }
+    }
+
+    /**
+     * Custom strategy which does not support snapshots.
+     */
+    private static final class LastInFirstOutStrategy implements SearchStrategy<State> {
+        private final ArrayDeque<State> states = new ArrayDeque<>();
+
+        @Override
+        public synchronized boolean isEmpty() {
+            return states.isEmpty();
+        }
+
+        @Override
+        public synchronized int size() {
+            return states.size();
+        }
+
+        @Override
+        public synchronized State poll() {
+            return states.pollLast();
+        }
+
+        @Override
+        public synchronized void put(State state) {
+            states.addLast(state);
+        }
+    }
+
+    /**
+     * Node of a complete binary tree whose leaves are all optimal,
+     * while the bound of every node is one less than the optimum.
+     */
+    private static final class LevelState implements BoundedState {
+        private final int level;
+
+        private LevelState(int level) {
+            this.level = level;
+        }
+
+        @Override
+        public double getBound() {
+            return -1;
+        }
+    }
+
+    public static final class LevelTask extends Task<LevelState> {
+
+        @Override
+        public Collection<LevelState> compute(LevelState state) {
+            if (state.level == getJob().queryIntArray("depth", 0)) {
+                getJob().offerSolution(state, 0);
+                return Collections.emptyList();
+            }
+
+            return Arrays.asList(new LevelState(state.level + 1), new LevelState(state.level + 1));
+        }
+    }
+
+    private static boolean isVirtualThreadsAvailable() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException exception) {
+            return false;
+        }
+    }
+
+    private static List<SubsetState> nextSubsets(SubsetState state, int n) {
+        List<SubsetState> nextStates = new ArrayList<>();
+        List<Integer> positions = state.getPositions();
+        int lower = 1 + (positions.isEmpty() ? 0 : positions.get(positions.size() - 1));
+
+        for (int i = lower; i <= n; i++) {
+            List<Integer> nextPositions = new ArrayList<>(positions);
+            nextPositions.add(i);
+            nextStates.add(new SubsetState(nextPositions));
+        }
+
+        return nextStates;
+    }
+
+    private static final class TreeState implements BoundedState {
+        private String name;
+        private double bound;
+        private double value;
+        private List<TreeState> children;
+
+        public TreeState(String name, double bound, TreeState... children) {
+            this(name, bound, Double.NaN, children);
+        }
+
+        public TreeState(String name, double bound, double value, TreeState... children) {
+            this.name = name;
+            this.bound = bound;
+            this.value = value;
+            this.children = Arrays.asList(children);
+        }
+
+        @Override
+        public double getBound() {
+            return this.bound;
+        }
+    }
+
+    public static final class TreeTask extends Task<TreeState> {
+        private static final List<String> EXPANDED = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public Collection<TreeState> compute(TreeState state) {
+            EXPANDED.add(state.name);
+            if (!Double.isNaN(state.value)) {
+                getJob().offerSolution(state, state.value);
+            }
+            return state.children;
+        }
+    }
 }
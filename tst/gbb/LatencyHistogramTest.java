@@ -0,0 +1,58 @@
+package gbb;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void bucketsCoverEveryValueTest() {
+        /** GIVEN */
+        long[] values = {0, 1, 7, 8, 9, 15, 16, 17, 1000, 123456789, Long.MAX_VALUE};
+
+        /** WHEN & THEN */
+        for (long value : values) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            long highest = LatencyHistogram.highestValueOf(bucket);
+
+            assertTrue(bucket < LatencyHistogram.NUMBER_OF_BUCKETS);
+            assertTrue(highest >= value);
+            assertTrue(highest - value <= value / 8);
+        }
+    }
+
+    @Test
+    public void percentilesTest() {
+        /** GIVEN */
+        LatencyHistogram histogram = new LatencyHistogram();
+        long[] buckets = new long[LatencyHistogram.NUMBER_OF_BUCKETS];
+
+        /** WHEN */
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000);
+        }
+        histogram.addTo(buckets);
+
+        /** THEN */
+        assertEquals(100_000, histogram.getMax());
+        assertEquals(5_050_000, histogram.getSum());
+        assertEquals(LatencyHistogram.highestValueOf(LatencyHistogram.bucketOf(50_000)),
+                LatencyHistogram.valueAtPercentile(buckets, 50));
+        assertEquals(LatencyHistogram.highestValueOf(LatencyHistogram.bucketOf(100_000)),
+                LatencyHistogram.valueAtPercentile(buckets, 100));
+    }
+
+    @Test
+    public void emptyHistogramTest() {
+        /** GIVEN */
+        long[] buckets = new long[LatencyHistogram.NUMBER_OF_BUCKETS];
+
+        /** WHEN & THEN */
+        assertEquals(0, LatencyHistogram.valueAtPercentile(buckets, 99));
+    }
+}
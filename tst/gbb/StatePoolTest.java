@@ -0,0 +1,67 @@
+package gbb;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public class StatePoolTest {
+
+    @Test
+    public void acquireReleasedStateTest() {
+        /** GIVEN */
+        AtomicInteger created = new AtomicInteger();
+        StatePool<TestState> pool = new StatePool<>(() -> new TestState(created.incrementAndGet()), 4);
+        TestState first = pool.acquire();
+        TestState second = pool.acquire();
+
+        /** WHEN */
+        pool.release(first);
+        pool.release(second);
+
+        /** THEN */
+        assertEquals(2, pool.size());
+        assertSame(second, pool.acquire());
+        assertSame(first, pool.acquire());
+        assertNotSame(first, pool.acquire());
+        assertEquals(3, created.get());
+    }
+
+    @Test
+    public void releaseToFullPoolTest() {
+        /** GIVEN */
+        StatePool<TestState> pool = new StatePool<>(() -> new TestState(0), 1);
+
+        /** WHEN */
+        pool.release(new TestState(1));
+        pool.release(new TestState(2));
+
+        /** THEN */
+        assertEquals(1, pool.size());
+        assertEquals(1, pool.acquire().number);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void createPoolWithoutFactoryTest() {
+        new StatePool<TestState>(null, 1);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void createPoolWithNegativeCapacityTest() {
+        new StatePool<>(() -> new TestState(0), -1);
+    }
+
+    private static final class TestState implements State {
+        private final int number;
+
+        private TestState(int number) {
+            this.number = number;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package gbb;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public class TranspositionTableTest {
+
+    @Test
+    public void duplicateTest() {
+        /** GIVEN */
+        TranspositionTable table = new TranspositionTable(16);
+
+        /** WHEN & THEN */
+        assertFalse(table.isDuplicate(42, 5));
+        assertTrue(table.isDuplicate(42, 5));
+        assertTrue(table.isDuplicate(42, 7));
+        assertFalse(table.isDuplicate(43, 5));
+        assertEquals(2, table.getStatistics().getHits());
+        assertEquals(2, table.getStatistics().getMisses());
+        assertEquals(0, table.getStatistics().getEvictions());
+    }
+
+    @Test
+    public void betterBoundIsNotDuplicateTest() {
+        /** GIVEN */
+        TranspositionTable table = new TranspositionTable(16);
+        table.isDuplicate(42, 5);
+
+        /** WHEN & THEN */
+        assertFalse(table.isDuplicate(42, 3));
+        assertTrue(table.isDuplicate(42, 4));
+        assertEquals(2, table.getStatistics().getMisses());
+    }
+
+    @Test
+    public void evictionTest() {
+        /** GIVEN */
+        TranspositionTable table = new TranspositionTable(4);
+        for (long fingerprint = 1; fingerprint <= 4; fingerprint++) {
+            table.isDuplicate(fingerprint, 0);
+        }
+        table.isDuplicate(1, 0);
+
+        /** WHEN */
+        boolean duplicate = table.isDuplicate(5, 0);
+
+        /** THEN */
+        assertFalse(duplicate);
+        assertEquals(1, table.getStatistics().getEvictions());
+        assertTrue("the state hit since the last sweep should survive", table.isDuplicate(1, 0));
+        assertTrue(table.isDuplicate(5, 0));
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void nonPositiveCapacityTest() {
+        /** WHEN */
+        new TranspositionTable(0);
+    }
+}
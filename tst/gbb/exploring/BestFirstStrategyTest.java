@@ -0,0 +1,140 @@
+package gbb.exploring;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public class BestFirstStrategyTest {
+
+    @Test
+    public void bestFirstOrderTest() throws InterruptedException {
+        /** GIVEN */
+        List<Integer> expectedOrder = Arrays.asList(1, 2, 3, 4);
+        List<Integer> actualOrder = new ArrayList<>();
+        BestFirstStrategy<TestState> states = new BestFirstStrategy<>();
+
+        for (int x : Arrays.asList(3, 1, 4, 2)) {
+            states.put(new TestBoundedState(x, x * 1.5));
+        }
+
+        /** WHEN */
+        while (!states.isEmpty()) {
+            actualOrder.add(states.poll().getNumber());
+        }
+
+        assertEquals(expectedOrder, actualOrder);
+        assertTrue(states.isEmpty());
+    }
+
+    @Test
+    public void emptyCollectionTest() {
+        /** GIVEN */
+        BestFirstStrategy<TestState> states = new BestFirstStrategy<>();
+
+        /** WHEN & THEN */
+        assertTrue(states.isEmpty());
+    }
+
+    @Test
+    public void nonEmptyCollectionTest() throws InterruptedException {
+        /** GIVEN */
+        List<Integer> elements = Arrays.asList(2, 5, 7, 11);
+        BestFirstStrategy<TestState> states = new BestFirstStrategy<>();
+
+        for (int x : elements) {
+            states.put(new TestBoundedState(x, x));
+        }
+
+        /** WHEN & THEN */
+        assertFalse(states.isEmpty());
+        assertEquals(elements.size(), states.size());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void putUnboundedStateTest() throws InterruptedException {
+        /** GIVEN */
+        BestFirstStrategy<TestState> states = new BestFirstStrategy<>();
+
+        /** WHEN */
+        states.put(new TestState(1));
+    }
+
+    @Test
+    public void pollBatchTest() throws InterruptedException {
+        /** GIVEN */
+        List<Integer> expectedFirstBatch = Arrays.asList(1, 2, 3);
+        List<TestState> batch = new ArrayList<>();
+        BestFirstStrategy<TestState> states = new BestFirstStrategy<>();
+
+        for (int x : Arrays.asList(3, 1, 4, 2)) {
+            states.put(new TestBoundedState(x, x));
+        }
+
+        /** WHEN */
+        int count = states.pollBatch(batch, 3);
+
+        /** THEN */
+        assertEquals(3, count);
+        assertEquals(expectedFirstBatch, batch.stream().map(TestState::getNumber).collect(Collectors.toList()));
+        assertEquals(1, states.size());
+        assertEquals(1, states.pollBatch(batch, 3));
+        assertEquals(0, states.pollBatch(batch, 3));
+    }
+
+    @Test
+    public void putAllTest() throws InterruptedException {
+        /** GIVEN */
+        BestFirstStrategy<TestState> bulk = new BestFirstStrategy<>();
+        BestFirstStrategy<TestState> oneByOne = new BestFirstStrategy<>();
+        List<TestState> elements = new ArrayList<>();
+        for (int x : Arrays.asList(3, 1, 4, 2)) {
+            elements.add(new TestBoundedState(x, x));
+        }
+
+        /** WHEN */
+        bulk.putAll(elements);
+        for (TestState element : elements) {
+            oneByOne.put(element);
+        }
+
+        /** THEN */
+        assertEquals(elements.size(), bulk.size());
+        while (!oneByOne.isEmpty()) {
+            assertEquals(oneByOne.poll().getNumber(), bulk.poll().getNumber());
+        }
+        assertTrue(bulk.isEmpty());
+    }
+
+    @Test
+    public void snapshotTest() throws InterruptedException {
+        /** GIVEN */
+        BestFirstStrategy<TestState> states = new BestFirstStrategy<>();
+        BestFirstStrategy<TestState> restored = new BestFirstStrategy<>();
+        for (int x : Arrays.asList(3, 1, 4, 5, 2)) {
+            states.put(new TestBoundedState(x, x));
+        }
+
+        /** WHEN */
+        List<TestState> snapshot = states.snapshot();
+        for (TestState state : snapshot) {
+            restored.put(state);
+        }
+
+        /** THEN */
+        assertEquals(5, states.size());
+        while (!states.isEmpty()) {
+            assertEquals(states.poll().getNumber(), restored.poll().getNumber());
+        }
+        assertTrue(restored.isEmpty());
+    }
+}
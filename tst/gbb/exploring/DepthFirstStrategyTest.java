@@ -5,6 +5,7 @@ import org.junit.Test;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -57,4 +58,73 @@ public class DepthFirstStrategyTest {
         assertFalse(states.isEmpty());
         assertEquals(elements.size(), states.size());
     }
+
+    @Test
+    public void pollBatchTest() throws InterruptedException {
+        /** GIVEN */
+        List<Integer> expectedFirstBatch = Arrays.asList(4, 3, 2);
+        List<TestState> batch = new ArrayList<>();
+        DepthFirstStrategy<TestState> states = new DepthFirstStrategy<>();
+
+        for (int x : Arrays.asList(1, 2, 3, 4)) {
+            states.put(new TestState(x));
+        }
+
+        /** WHEN */
+        int count = states.pollBatch(batch, 3);
+
+        /** THEN */
+        assertEquals(3, count);
+        assertEquals(expectedFirstBatch, batch.stream().map(TestState::getNumber).collect(Collectors.toList()));
+        assertEquals(1, states.size());
+        assertEquals(1, states.pollBatch(batch, 3));
+        assertEquals(0, states.pollBatch(batch, 3));
+    }
+
+    @Test
+    public void putAllTest() throws InterruptedException {
+        /** GIVEN */
+        DepthFirstStrategy<TestState> bulk = new DepthFirstStrategy<>();
+        DepthFirstStrategy<TestState> oneByOne = new DepthFirstStrategy<>();
+        List<TestState> elements = new ArrayList<>();
+        for (int x : Arrays.asList(1, 2, 3, 4)) {
+            elements.add(new TestState(x));
+        }
+
+        /** WHEN */
+        bulk.putAll(elements);
+        for (TestState element : elements) {
+            oneByOne.put(element);
+        }
+
+        /** THEN */
+        assertEquals(elements.size(), bulk.size());
+        while (!oneByOne.isEmpty()) {
+            assertEquals(oneByOne.poll().getNumber(), bulk.poll().getNumber());
+        }
+        assertTrue(bulk.isEmpty());
+    }
+
+    @Test
+    public void snapshotTest() throws InterruptedException {
+        /** GIVEN */
+        DepthFirstStrategy<TestState> states = new DepthFirstStrategy<>();
+        DepthFirstStrategy<TestState> restored = new DepthFirstStrategy<>();
+        for (int x : Arrays.asList(3, 1, 4, 5, 2)) {
+            states.put(new TestState(x));
+        }
+
+        /** WHEN */
+        List<TestState> snapshot = states.snapshot();
+        for (TestState state : snapshot) {
+            restored.put(state);
+        }
+
+        /** THEN */
+        assertEquals(5, states.size());
+        while (!states.isEmpty()) {
+            assertEquals(states.poll().getNumber(), restored.poll().getNumber());
+        }
+        assertTrue(restored.isEmpty());
+    }
 }
@@ -0,0 +1,138 @@
+package gbb.exploring;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public class MemoryBoundedStrategyTest {
+
+    @Test
+    public void bfsOrderBelowCapacityTest() throws InterruptedException {
+        /** GIVEN */
+        List<Integer> expectedOrder = Arrays.asList(1, 2, 3);
+        List<Integer> actualOrder = new ArrayList<>();
+        MemoryBoundedStrategy<TestState> states = new MemoryBoundedStrategy<>(3);
+
+        for (int x : expectedOrder) {
+            states.put(new TestState(x));
+        }
+
+        /** WHEN */
+        while (!states.isEmpty()) {
+            actualOrder.add(states.poll().getNumber());
+        }
+
+        /** THEN */
+        assertFalse(states.isDepthFirst());
+        assertEquals(expectedOrder, actualOrder);
+    }
+
+    @Test
+    public void dfsOrderAboveCapacityTest() throws InterruptedException {
+        /** GIVEN */
+        MemoryBoundedStrategy<TestState> states = new MemoryBoundedStrategy<>(4);
+
+        for (int x : Arrays.asList(1, 2, 3, 4, 5, 6)) {
+            states.put(new TestState(x));
+        }
+
+        /** WHEN & THEN */
+        assertTrue(states.isDepthFirst());
+        assertEquals(6, states.poll().getNumber());
+        assertEquals(5, states.poll().getNumber());
+        assertTrue(states.isDepthFirst());
+        assertEquals(4, states.poll().getNumber());
+        assertEquals(3, states.poll().getNumber());
+        assertFalse(states.isDepthFirst());
+        assertEquals(1, states.poll().getNumber());
+        assertEquals(2, states.poll().getNumber());
+        assertTrue(states.isEmpty());
+    }
+
+    @Test
+    public void byteCapacityTest() throws InterruptedException {
+        /** GIVEN */
+        MemoryBoundedStrategy<TestState> states = new MemoryBoundedStrategy<>(100, state -> state.getNumber());
+
+        /** WHEN */
+        states.putAll(Arrays.asList(new TestState(40), new TestState(50)));
+        boolean belowCapacity = !states.isDepthFirst();
+        states.put(new TestState(20));
+
+        /** THEN */
+        assertTrue(belowCapacity);
+        assertTrue(states.isDepthFirst());
+        assertEquals(3, states.size());
+        assertEquals(20, states.poll().getNumber());
+        assertEquals(50, states.poll().getNumber());
+        assertFalse(states.isDepthFirst());
+    }
+
+    @Test
+    public void pollBatchTest() throws InterruptedException {
+        /** GIVEN */
+        List<TestState> batch = new ArrayList<>();
+        MemoryBoundedStrategy<TestState> states = new MemoryBoundedStrategy<>(10);
+
+        for (int x : Arrays.asList(1, 2, 3, 4)) {
+            states.put(new TestState(x));
+        }
+
+        /** WHEN */
+        int count = states.pollBatch(batch, 3);
+
+        /** THEN */
+        assertEquals(3, count);
+        assertEquals(1, batch.get(0).getNumber());
+        assertEquals(3, batch.get(2).getNumber());
+        assertEquals(1, states.size());
+    }
+
+    @Test
+    public void emptyCollectionTest() {
+        /** GIVEN */
+        MemoryBoundedStrategy<TestState> states = new MemoryBoundedStrategy<>();
+
+        /** WHEN & THEN */
+        assertTrue(states.isEmpty());
+        assertEquals(0, states.size());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void nonPositiveCapacityTest() {
+        /** WHEN */
+        new MemoryBoundedStrategy<TestState>(0);
+    }
+
+    @Test
+    public void snapshotTest() throws InterruptedException {
+        /** GIVEN */
+        MemoryBoundedStrategy<TestState> states = new MemoryBoundedStrategy<>(4);
+        MemoryBoundedStrategy<TestState> restored = new MemoryBoundedStrategy<>(4);
+        for (int x : Arrays.asList(3, 1, 4, 5, 2)) {
+            states.put(new TestState(x));
+        }
+
+        /** WHEN */
+        List<TestState> snapshot = states.snapshot();
+        for (TestState state : snapshot) {
+            restored.put(state);
+        }
+
+        /** THEN */
+        assertEquals(5, states.size());
+        while (!states.isEmpty()) {
+            assertEquals(states.poll().getNumber(), restored.poll().getNumber());
+        }
+        assertTrue(restored.isEmpty());
+    }
+}
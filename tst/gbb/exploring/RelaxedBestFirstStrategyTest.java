@@ -0,0 +1,300 @@
+package gbb.exploring;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public class RelaxedBestFirstStrategyTest {
+    private static final int NUMBER_OF_STATES = 20_000;
+    private static final int NUMBER_OF_THREADS = 8;
+
+    @Test
+    public void singleQueueIsExactTest() throws InterruptedException {
+        /** GIVEN */
+        List<Integer> expectedOrder = Arrays.asList(1, 2, 3, 4);
+        List<Integer> actualOrder = new ArrayList<>();
+        RelaxedBestFirstStrategy<TestState> states = new RelaxedBestFirstStrategy<>(1);
+
+        for (int x : Arrays.asList(3, 1, 4, 2)) {
+            states.put(new TestBoundedState(x, x));
+        }
+
+        /** WHEN */
+        while (!states.isEmpty()) {
+            actualOrder.add(states.poll().getNumber());
+        }
+
+        /** THEN */
+        assertEquals(expectedOrder, actualOrder);
+        assertNull(states.poll());
+    }
+
+    @Test
+    public void emptyCollectionTest() {
+        /** GIVEN */
+        RelaxedBestFirstStrategy<TestState> states = new RelaxedBestFirstStrategy<>();
+
+        /** WHEN & THEN */
+        assertTrue(states.isEmpty());
+        assertNull(states.poll());
+    }
+
+    @Test
+    public void nonEmptyCollectionTest() throws InterruptedException {
+        /** GIVEN */
+        List<Integer> elements = Arrays.asList(2, 5, 7, 11);
+        RelaxedBestFirstStrategy<TestState> states = new RelaxedBestFirstStrategy<>(8);
+
+        for (int x : elements) {
+            states.put(new TestBoundedState(x, x));
+        }
+
+        /** WHEN & THEN */
+        assertFalse(states.isEmpty());
+        assertEquals(elements.size(), states.size());
+    }
+
+    @Test
+    public void batchesAreNotLostTest() throws InterruptedException {
+        /** GIVEN */
+        RelaxedBestFirstStrategy<TestState> states = new RelaxedBestFirstStrategy<>(4);
+        List<TestState> elements = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            elements.add(new TestBoundedState(i, i));
+        }
+
+        /** WHEN */
+        states.putAll(elements.subList(0, 50));
+        states.putAll(elements.subList(50, 100));
+        List<TestState> polled = new ArrayList<>();
+        while (states.pollBatch(polled, 7) > 0) {
+        }
+
+        /** THEN */
+        assertEquals(100, polled.size());
+        assertTrue(states.isEmpty());
+        assertEquals(elements.size(), polled.stream().map(TestState::getNumber).distinct().count());
+    }
+
+    @Test
+    public void batchIsSpreadOverQueuesTest() throws InterruptedException {
+        /** GIVEN */
+        RelaxedBestFirstStrategy<TestState> states = new RelaxedBestFirstStrategy<>(8);
+        List<TestState> siblings = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            siblings.add(new TestBoundedState(i, i));
+        }
+
+        /** WHEN */
+        states.putAll(siblings);
+        List<TestState> batch = new ArrayList<>();
+        int count = states.pollBatch(batch, siblings.size());
+
+        /** THEN */
+        assertTrue(String.format("%d siblings share a sub-heap.", count), count < 250);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void putUnboundedStateTest() throws InterruptedException {
+        /** GIVEN */
+        RelaxedBestFirstStrategy<TestState> states = new RelaxedBestFirstStrategy<>();
+
+        /** WHEN */
+        states.put(new TestState(1));
+    }
+
+    @Test
+    public void rankErrorTest() throws InterruptedException {
+        /** GIVEN */
+        int numberOfQueues = 16;
+        RelaxedBestFirstStrategy<TestState> states = new RelaxedBestFirstStrategy<>(numberOfQueues);
+        List<Integer> bounds = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_STATES; i++) {
+            bounds.add(i);
+        }
+        Collections.shuffle(bounds, new Random(42));
+        for (int bound : bounds) {
+            states.put(new TestBoundedState(bound, bound));
+        }
+
+        /** WHEN */
+        RemainingRanks remaining = new RemainingRanks(NUMBER_OF_STATES);
+        long totalRankError = 0;
+        int maxRankError = 0;
+        while (!states.isEmpty()) {
+            int bound = states.poll().getNumber();
+            int rankError = remaining.removeAndRank(bound);
+            totalRankError += rankError;
+            maxRankError = Math.max(maxRankError, rankError);
+        }
+        double meanRankError = (double) totalRankError / NUMBER_OF_STATES;
+
+        /** THEN */
+        assertTrue(remaining.isEmpty());
+        assertTrue(String.format("Mean rank error %.2f is too large.", meanRankError),
+                meanRankError <= 2 * numberOfQueues);
+        assertTrue(String.format("Max rank error %d is too large.", maxRankError),
+                maxRankError <= 32 * numberOfQueues);
+    }
+
+    @Test
+    public void contendedPollsAreNotLostTest() throws Exception {
+        /** GIVEN */
+        RelaxedBestFirstStrategy<TestState> states = createShuffledStates(2 * NUMBER_OF_THREADS);
+
+        /** WHEN */
+        int[] polled = pollConcurrently(states, NUMBER_OF_THREADS);
+
+        /** THEN */
+        assertTrue(states.isEmpty());
+        assertEquals(NUMBER_OF_STATES, Arrays.stream(polled).distinct().count());
+    }
+
+    @Test
+    public void contendedRankErrorTest() throws Exception {
+        /** GIVEN */
+        int numberOfThreads = NUMBER_OF_THREADS;
+        int numberOfQueues = 2 * NUMBER_OF_THREADS;
+        RelaxedBestFirstStrategy<TestState> states = createShuffledStates(numberOfQueues);
+
+        /** WHEN */
+        int[] polled = pollConcurrently(states, numberOfThreads);
+        RemainingRanks remaining = new RemainingRanks(NUMBER_OF_STATES);
+        long totalRankError = 0;
+        for (int bound : polled) {
+            totalRankError += remaining.removeAndRank(bound);
+        }
+        double meanRankError = (double) totalRankError / NUMBER_OF_STATES;
+
+        /** THEN */
+        assertTrue(remaining.isEmpty());
+        assertTrue(String.format("Mean rank error %.2f is too large.", meanRankError),
+                meanRankError <= 2 * numberOfQueues + numberOfThreads);
+    }
+
+    @Test
+    public void snapshotTest() throws InterruptedException {
+        /** GIVEN */
+        RelaxedBestFirstStrategy<TestState> states = new RelaxedBestFirstStrategy<>(4);
+        RelaxedBestFirstStrategy<TestState> restored = new RelaxedBestFirstStrategy<>(1);
+        for (int x : Arrays.asList(3, 1, 4, 5, 2)) {
+            states.put(new TestBoundedState(x, x));
+        }
+
+        /** WHEN */
+        List<TestState> snapshot = states.snapshot();
+        for (TestState state : snapshot) {
+            restored.put(state);
+        }
+
+        /** THEN */
+        assertEquals(5, states.size());
+        for (int x = 1; x <= 5; x++) {
+            assertEquals(x, restored.poll().getNumber());
+        }
+    }
+
+    private RelaxedBestFirstStrategy<TestState> createShuffledStates(int numberOfQueues)
+            throws InterruptedException {
+        RelaxedBestFirstStrategy<TestState> states = new RelaxedBestFirstStrategy<>(numberOfQueues);
+        List<Integer> bounds = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_STATES; i++) {
+            bounds.add(i);
+        }
+        Collections.shuffle(bounds, new Random(42));
+        for (int bound : bounds) {
+            states.put(new TestBoundedState(bound, bound));
+        }
+        return states;
+    }
+
+    /**
+     * Polls every state from the given number of threads at once and
+     * returns their bounds, ordered by tickets taken right after each
+     * poll, which approximate the order in which the polls took effect.
+     * The threads yield after every poll, so with more threads than
+     * processors they are rarely preempted while holding the lock of a
+     * sub-heap, which would hide it from the others for a time slice.
+     */
+    private int[] pollConcurrently(RelaxedBestFirstStrategy<TestState> states, int numberOfThreads)
+            throws Exception {
+        int[] polled = new int[NUMBER_OF_STATES];
+        AtomicInteger tickets = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executors = Executors.newFixedThreadPool(numberOfThreads);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < numberOfThreads; t++) {
+            futures.add(executors.submit(() -> {
+                start.await();
+                TestState state;
+                while ((state = states.poll()) != null) {
+                    polled[tickets.getAndIncrement()] = state.getNumber();
+                    Thread.yield();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executors.shutdown();
+
+        assertEquals(NUMBER_OF_STATES, tickets.get());
+        return polled;
+    }
+
+    /**
+     * Fenwick tree counting the remaining values smaller than a given one.
+     */
+    private static final class RemainingRanks {
+        private int[] tree;
+        private int remaining;
+
+        private RemainingRanks(int size) {
+            tree = new int[size + 1];
+            for (int i = 0; i < size; i++) {
+                add(i, 1);
+            }
+            remaining = size;
+        }
+
+        private int removeAndRank(int value) {
+            int rank = 0;
+            for (int i = value; i > 0; i -= i & -i) {
+                rank += tree[i];
+            }
+            add(value, -1);
+            remaining--;
+            return rank;
+        }
+
+        private void add(int value, int delta) {
+            for (int i = value + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+
+        private boolean isEmpty() {
+            return remaining == 0;
+        }
+    }
+}
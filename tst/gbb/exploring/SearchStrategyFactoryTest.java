@@ -2,6 +2,7 @@ package gbb.exploring;
 
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -38,6 +39,55 @@ public class SearchStrategyFactoryTest {
         assertFalse(strategy instanceof BreadthFirstStrategy);
     }
 
+    @Test
+    public void getBestFirstSearchStrategyTest() {
+        /** GIVEN */
+        SearchStrategyFactory<TestState> factory = new SearchStrategyFactory<>();
+
+        /** WHEN */
+        SearchStrategy<TestState> strategy = factory.getInstance(SearchStrategyType.BEST_FIRST_SEARCH);
+
+        /** THEN */
+        assertTrue(strategy instanceof BestFirstStrategy);
+    }
+
+    @Test
+    public void getRelaxedBestFirstSearchStrategyTest() {
+        /** GIVEN */
+        SearchStrategyFactory<TestState> factory = new SearchStrategyFactory<>();
+
+        /** WHEN */
+        SearchStrategy<TestState> strategy = factory.getInstance(SearchStrategyType.RELAXED_BEST_FIRST_SEARCH);
+
+        /** THEN */
+        assertTrue(strategy instanceof RelaxedBestFirstStrategy);
+    }
+
+    @Test
+    public void getRelaxedBestFirstSearchStrategyForThreadsTest() {
+        /** GIVEN */
+        SearchStrategyFactory<TestState> factory = new SearchStrategyFactory<>();
+
+        /** WHEN */
+        SearchStrategy<TestState> strategy = factory.getInstance(SearchStrategyType.RELAXED_BEST_FIRST_SEARCH, 3);
+
+        /** THEN */
+        assertEquals(6, ((RelaxedBestFirstStrategy<TestState>) strategy).getNumberOfQueues());
+        assertTrue(factory.getInstance(SearchStrategyType.DEPTH_FIRST_SEARCH, 3) instanceof DepthFirstStrategy);
+    }
+
+    @Test
+    public void getMemoryBoundedSearchStrategyTest() {
+        /** GIVEN */
+        SearchStrategyFactory<TestState> factory = new SearchStrategyFactory<>();
+
+        /** WHEN */
+        SearchStrategy<TestState> strategy = factory.getInstance(SearchStrategyType.MEMORY_BOUNDED_SEARCH);
+
+        /** THEN */
+        assertTrue(strategy instanceof MemoryBoundedStrategy);
+    }
+
     @Test
     public void notReturningTheSameInstanceTest() {
         /** GIVEN */
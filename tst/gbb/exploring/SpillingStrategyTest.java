@@ -0,0 +1,240 @@
+package gbb.exploring;
+
+import gbb.StateCodec;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public class SpillingStrategyTest {
+    private static final StateCodec<TestState> CODEC = new TestStateCodec();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void bfsOrderIsPreservedTest() throws InterruptedException {
+        orderIsPreservedTest(SearchStrategyType.BREADTH_FIRST_SEARCH, new BreadthFirstStrategy<>());
+    }
+
+    @Test
+    public void dfsOrderIsPreservedTest() throws InterruptedException {
+        orderIsPreservedTest(SearchStrategyType.DEPTH_FIRST_SEARCH, new DepthFirstStrategy<>());
+    }
+
+    private void orderIsPreservedTest(SearchStrategyType searchStrategyType, SearchStrategy<TestState> expected)
+            throws InterruptedException {
+        /** GIVEN */
+        SpillingStrategy<TestState> states = new SpillingStrategy<>(searchStrategyType, CODEC,
+                folder.getRoot().toPath(), 8);
+        Random random = new Random(7);
+        int maxSegments = 0;
+
+        /** WHEN & THEN */
+        for (int i = 0; i < 5_000; i++) {
+            if (random.nextInt(3) == 0 && !expected.isEmpty()) {
+                assertEquals(expected.poll().getNumber(), states.poll().getNumber());
+            } else {
+                TestState state = new TestState(i);
+                expected.put(state);
+                states.put(state);
+            }
+            maxSegments = Math.max(maxSegments, states.getNumberOfSegments());
+            assertEquals(expected.size(), states.size());
+        }
+        while (!expected.isEmpty()) {
+            assertEquals(expected.poll().getNumber(), states.poll().getNumber());
+        }
+
+        assertTrue(maxSegments > 1);
+        assertTrue(states.isEmpty());
+        assertEquals(0, folder.getRoot().listFiles().length);
+    }
+
+    @Test
+    public void batchOperationsTest() throws InterruptedException {
+        /** GIVEN */
+        SpillingStrategy<TestState> states = new SpillingStrategy<>(SearchStrategyType.BREADTH_FIRST_SEARCH,
+                CODEC, folder.getRoot().toPath(), 4);
+        List<TestState> elements = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            elements.add(new TestState(i));
+        }
+
+        /** WHEN */
+        states.putAll(elements);
+        List<TestState> batch = new ArrayList<>();
+        int count = states.pollBatch(batch, 10);
+
+        /** THEN */
+        assertEquals(10, count);
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, batch.get(i).getNumber());
+        }
+        assertEquals(10, states.size());
+    }
+
+    @Test
+    public void closeDeletesSegmentsTest() throws InterruptedException {
+        /** GIVEN */
+        File directory = folder.getRoot();
+        SpillingStrategy<TestState> states = new SpillingStrategy<>(SearchStrategyType.DEPTH_FIRST_SEARCH,
+                CODEC, directory.toPath(), 2);
+        for (int i = 0; i < 10; i++) {
+            states.put(new TestState(i));
+        }
+        int spilledFiles = directory.listFiles().length;
+
+        /** WHEN */
+        states.close();
+
+        /** THEN */
+        assertTrue(spilledFiles > 0);
+        assertEquals(0, directory.listFiles().length);
+        assertTrue(states.isEmpty());
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void unsupportedOrderTest() {
+        /** WHEN */
+        new SpillingStrategy<>(SearchStrategyType.BEST_FIRST_SEARCH, CODEC, folder.getRoot().toPath(), 8);
+    }
+
+    @Test
+    public void snapshotTest() throws InterruptedException {
+        /** GIVEN */
+        SpillingStrategy<TestState> states = new SpillingStrategy<>(SearchStrategyType.DEPTH_FIRST_SEARCH, CODEC,
+                folder.getRoot().toPath(), 1);
+        SpillingStrategy<TestState> restored = new SpillingStrategy<>(SearchStrategyType.DEPTH_FIRST_SEARCH,
+                CODEC, folder.getRoot().toPath(), 1);
+        for (int x : Arrays.asList(3, 1, 4, 5, 2)) {
+            states.put(new TestState(x));
+        }
+
+        /** WHEN */
+        List<TestState> snapshot = states.snapshot();
+        for (TestState state : snapshot) {
+            restored.put(state);
+        }
+
+        /** THEN */
+        assertEquals(5, states.size());
+        while (!states.isEmpty()) {
+            assertEquals(states.poll().getNumber(), restored.poll().getNumber());
+        }
+        assertTrue(restored.isEmpty());
+    }
+    @Test
+    public void snapshotOutlivesSegmentsTest() throws Exception {
+        /** GIVEN */
+        File directory = folder.getRoot();
+        SpillingStrategy<TestState> states = new SpillingStrategy<>(SearchStrategyType.BREADTH_FIRST_SEARCH,
+                CODEC, directory.toPath(), 2);
+        for (int i = 0; i < 10; i++) {
+            states.put(new TestState(i));
+        }
+
+        /** WHEN */
+        List<TestState> snapshot = states.snapshot();
+        while (!states.isEmpty()) {
+            states.poll();
+        }
+        List<Integer> numbers = new ArrayList<>();
+        for (TestState state : snapshot) {
+            numbers.add(state.getNumber());
+        }
+        int linkedFiles = directory.listFiles().length;
+        ((AutoCloseable) snapshot).close();
+
+        /** THEN */
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), numbers);
+        assertTrue(linkedFiles > 0);
+        assertEquals(0, directory.listFiles().length);
+    }
+
+    @Test
+    public void bfsConcurrentOperationsTest() throws Exception {
+        concurrentOperationsTest(SearchStrategyType.BREADTH_FIRST_SEARCH);
+    }
+
+    @Test
+    public void dfsConcurrentOperationsTest() throws Exception {
+        concurrentOperationsTest(SearchStrategyType.DEPTH_FIRST_SEARCH);
+    }
+
+    private void concurrentOperationsTest(SearchStrategyType searchStrategyType) throws Exception {
+        /** GIVEN */
+        SpillingStrategy<TestState> states = new SpillingStrategy<>(searchStrategyType, CODEC,
+                folder.getRoot().toPath(), 4);
+        int numberOfThreads = 4;
+        int statesPerThread = 5_000;
+        Set<Integer> polled = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+        List<Future<?>> futures = new ArrayList<>();
+
+        /** WHEN */
+        for (int t = 0; t < numberOfThreads; t++) {
+            int first = t * statesPerThread;
+            futures.add(executor.submit(() -> {
+                List<TestState> batch = new ArrayList<>();
+                for (int i = first; i < first + statesPerThread; i += 10) {
+                    List<TestState> children = new ArrayList<>();
+                    for (int j = i; j < i + 10; j++) {
+                        children.add(new TestState(j));
+                    }
+                    states.putAll(children);
+
+                    batch.clear();
+                    states.pollBatch(batch, 7);
+                    batch.forEach(state -> assertTrue(polled.add(state.getNumber())));
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        TestState state;
+        while ((state = states.poll()) != null) {
+            assertTrue(polled.add(state.getNumber()));
+        }
+
+        /** THEN */
+        assertEquals(numberOfThreads * statesPerThread, polled.size());
+        assertTrue(states.isEmpty());
+        assertEquals(0, folder.getRoot().listFiles().length);
+    }
+
+    private static final class TestStateCodec implements StateCodec<TestState> {
+
+        @Override
+        public void encode(TestState state, DataOutput output) throws IOException {
+            output.writeInt(state.getNumber());
+        }
+
+        @Override
+        public TestState decode(DataInput input) throws IOException {
+            return new TestState(input.readInt());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package gbb.exploring;
+
+import gbb.BoundedState;
+
+/**
+ * @author <a href="mailto:aurelian.hreapca@info.uaic.ro">Aurelian Hreapca</a> (created on 10/18/26)
+ */
+public class TestBoundedState extends TestState implements BoundedState {
+    private double bound;
+
+    public TestBoundedState(int number, double bound) {
+        super(number);
+        this.bound = bound;
+    }
+
+    @Override
+    public double getBound() {
+        return this.bound;
+    }
+}